@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Request-scoped arena of parsing.
+ * Arena takes scratch space from pool of its thread when opened and gives
+ * it back when closed, so that parsings of consecutive requests reuse the
+ * same space instead of growing new one. Arena is confined to the thread
+ * that opened it and can not be used after it is closed. Parsed documents
+ * do not depend on arena and stay valid after it is closed.
+ *
+ * @since 1.9
+ */
+public final class Arena implements AutoCloseable {
+    /**
+     * Scratch spaces not taken, by thread.
+     */
+    private static final ThreadLocal<Deque<Scratch>> POOL =
+        ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Thread that opened arena.
+     */
+    private final Thread owner;
+
+    /**
+     * Scratch space.
+     */
+    private final Scratch space;
+
+    /**
+     * Whether arena is closed.
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     */
+    public Arena() {
+        this.owner = Thread.currentThread();
+        this.space = Arena.taken();
+    }
+
+    @Override
+    public void close() {
+        this.check();
+        this.closed = true;
+        this.space.reset();
+        Arena.POOL.get().push(this.space);
+    }
+
+    /**
+     * Scratch space of arena.
+     * @return Scratch space.
+     */
+    Scratch scratch() {
+        this.check();
+        return this.space;
+    }
+
+    /**
+     * Checks that arena is open and used by its thread.
+     */
+    private void check() {
+        if (this.closed) {
+            throw new IllegalStateException("Arena is already closed");
+        }
+        if (Thread.currentThread() != this.owner) {
+            throw new IllegalStateException(
+                String.format("Arena is confined to %s", this.owner.getName())
+            );
+        }
+    }
+
+    /**
+     * Scratch space taken from pool of current thread.
+     * @return Scratch space.
+     */
+    private static Scratch taken() {
+        Scratch scratch = Arena.POOL.get().poll();
+        if (scratch == null) {
+            scratch = new Scratch();
+        }
+        return scratch;
+    }
+}
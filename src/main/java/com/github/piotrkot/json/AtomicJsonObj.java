@@ -0,0 +1,292 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JSON object updated atomically by fits.
+ * Fits are applied to the current object and the result is set with
+ * compare-and-set, retried with randomized exponential backoff when other
+ * thread updated the object in the meantime. Fits may then be applied more
+ * than once, so they must be free of side effects. Reads never block.
+ * With combining enabled, updates failing repeatedly are queued and one
+ * of the waiting threads applies all queued fits at once.
+ *
+ * @since 1.9
+ */
+public final class AtomicJsonObj {
+    /**
+     * Failed attempts before update is queued for combining.
+     */
+    private static final int ATTEMPTS = 4;
+
+    /**
+     * Longest backoff in nanoseconds.
+     */
+    private static final long LONGEST = 1_000_000L;
+
+    /**
+     * Current object.
+     */
+    private final AtomicReference<JsonObj> ref;
+
+    /**
+     * Whether updates are combined under contention.
+     */
+    private final boolean combined;
+
+    /**
+     * Updates queued for combining.
+     */
+    private final Queue<Update> queue;
+
+    /**
+     * Whether some thread is combining queued updates.
+     */
+    private final AtomicBoolean combining;
+
+    /**
+     * Ctor.
+     * @param initial Initial object.
+     */
+    public AtomicJsonObj(final JsonObj initial) {
+        this(initial, false);
+    }
+
+    /**
+     * Ctor.
+     * @param initial Initial object.
+     * @param combined Whether updates are combined under contention.
+     */
+    public AtomicJsonObj(final JsonObj initial, final boolean combined) {
+        this.ref = new AtomicReference<>(initial);
+        this.combined = combined;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.combining = new AtomicBoolean();
+    }
+
+    /**
+     * Current object.
+     * @return Snapshot of object.
+     */
+    public JsonObj get() {
+        return this.ref.get();
+    }
+
+    /**
+     * Updates object with fit.
+     * @param fit Fit to make.
+     * @return Updated object.
+     * @throws Exception When fit fails.
+     */
+    public JsonObj update(final Fit<JsonObj> fit) throws Exception {
+        JsonObj result = null;
+        int attempt = 0;
+        while (result == null) {
+            if (this.combined && attempt >= AtomicJsonObj.ATTEMPTS) {
+                result = this.queued(fit);
+            } else {
+                final JsonObj current = this.ref.get();
+                final JsonObj updated = fit.make(current);
+                if (this.ref.compareAndSet(current, updated)) {
+                    result = updated;
+                } else {
+                    attempt += 1;
+                    LockSupport.parkNanos(AtomicJsonObj.backoff(attempt));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Queues update and waits until it is combined with others.
+     * @param fit Fit to make.
+     * @return Updated object.
+     * @throws Exception When fit fails.
+     */
+    private JsonObj queued(final Fit<JsonObj> fit) throws Exception {
+        final Update update = new Update(fit);
+        this.queue.add(update);
+        int attempt = 0;
+        while (!update.finished()) {
+            if (this.combining.compareAndSet(false, true)) {
+                try {
+                    this.combine();
+                } finally {
+                    this.combining.set(false);
+                }
+            } else {
+                attempt += 1;
+                LockSupport.parkNanos(AtomicJsonObj.backoff(attempt));
+            }
+        }
+        return update.result();
+    }
+
+    /**
+     * Applies all queued fits at once. Updates taken from queue are
+     * completed even when applying fits fails with error, those not
+     * applied then failing.
+     */
+    private void combine() {
+        final List<Update> updates = new ArrayList<>(0);
+        boolean set = false;
+        try {
+            Update next = this.queue.poll();
+            while (next != null) {
+                updates.add(next);
+                next = this.queue.poll();
+            }
+            while (!set && !updates.isEmpty()) {
+                final JsonObj current = this.ref.get();
+                JsonObj result = current;
+                for (final Update update : updates) {
+                    result = update.apply(result);
+                }
+                set = this.ref.compareAndSet(current, result);
+            }
+        } finally {
+            for (final Update update : updates) {
+                if (!set) {
+                    update.abandon();
+                }
+                update.complete();
+            }
+        }
+    }
+
+    /**
+     * Randomized exponential backoff.
+     * @param attempt Number of failed attempts.
+     * @return Backoff in nanoseconds.
+     */
+    private static long backoff(final int attempt) {
+        final long limit = Math.min(
+            AtomicJsonObj.LONGEST, 1L << Math.min(attempt + 6, 30)
+        );
+        return ThreadLocalRandom.current().nextLong(limit) + 1L;
+    }
+
+    /**
+     * Update queued for combining.
+     *
+     * @since 1.9
+     */
+    private static final class Update {
+        /**
+         * Fit to make.
+         */
+        private final Fit<JsonObj> fit;
+
+        /**
+         * Thread waiting for the update.
+         */
+        private final Thread owner;
+
+        /**
+         * Updated object or failure of the last application.
+         */
+        private Object outcome;
+
+        /**
+         * Whether update is completed.
+         */
+        private volatile boolean done;
+
+        /**
+         * Ctor.
+         * @param fit Fit to make.
+         */
+        Update(final Fit<JsonObj> fit) {
+            this.fit = fit;
+            this.owner = Thread.currentThread();
+        }
+
+        /**
+         * Applies fit remembering its outcome. Failed fit leaves the object
+         * unchanged.
+         * @param input Object to fit.
+         * @return Updated object.
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        JsonObj apply(final JsonObj input) {
+            JsonObj result = input;
+            try {
+                result = this.fit.make(input);
+                this.outcome = result;
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                this.outcome = ex;
+            }
+            return result;
+        }
+
+        /**
+         * Fails update which was not applied.
+         */
+        void abandon() {
+            this.outcome = new IllegalStateException(
+                "Combined update was not applied"
+            );
+        }
+
+        /**
+         * Completes update with outcome of the last application and wakes
+         * up the waiting thread.
+         */
+        void complete() {
+            this.done = true;
+            LockSupport.unpark(this.owner);
+        }
+
+        /**
+         * Whether update is completed.
+         * @return True if completed.
+         */
+        boolean finished() {
+            return this.done;
+        }
+
+        /**
+         * Result of completed update.
+         * @return Updated object.
+         * @throws Exception When fit failed.
+         */
+        JsonObj result() throws Exception {
+            if (this.outcome instanceof Exception) {
+                throw (Exception) this.outcome;
+            }
+            return (JsonObj) this.outcome;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Stable 64-bit content hash of JSON value.
+ * It depends on the content only, so it is the same in every process and
+ * can be used for cache keys. Objects are hashed regardless of order of
+ * their attributes.
+ *
+ * @since 1.9
+ */
+final class Digest {
+    /**
+     * Hash of null.
+     */
+    private static final long NULL = 0x6a09e667f3bcc908L;
+
+    /**
+     * Hash of true.
+     */
+    private static final long TRUE = 0xbb67ae8584caa73bL;
+
+    /**
+     * Hash of false.
+     */
+    private static final long FALSE = 0x3c6ef372fe94f82bL;
+
+    /**
+     * Seed of strings.
+     */
+    private static final long STRING = 0xa54ff53a5f1d36f1L;
+
+    /**
+     * Seed of numbers.
+     */
+    private static final long NUMBER = 0x510e527fade682d1L;
+
+    /**
+     * Seed of attribute names.
+     */
+    private static final long NAME = 0x9b05688c2b3e6c1fL;
+
+    /**
+     * Seed of objects.
+     */
+    private static final long OBJECT = 0x1f83d9abfb41bd6bL;
+
+    /**
+     * Seed of arrays.
+     */
+    private static final long ARRAY = 0x5be0cd19137e2179L;
+
+    /**
+     * Value to hash.
+     */
+    private final Object value;
+
+    /**
+     * Ctor.
+     * @param value Value to hash.
+     */
+    Digest(final Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Content hash.
+     * @return Hash.
+     * @checkstyle CyclomaticComplexity (3 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    long asLong() {
+        final long hash;
+        if (this.value == null) {
+            hash = Digest.NULL;
+        } else if (this.value instanceof JsonObj) {
+            hash = ((JsonObj) this.value).contentHash();
+        } else if (this.value instanceof JsonArr<?>) {
+            hash = ((JsonArr<?>) this.value).contentHash();
+        } else if (this.value instanceof Map<?, ?>) {
+            hash = Digest.ofObject((Map<?, ?>) this.value);
+        } else if (this.value instanceof Collection<?>) {
+            hash = Digest.ofArray((Collection<?>) this.value);
+        } else if (this.value instanceof Boolean) {
+            if ((Boolean) this.value) {
+                hash = Digest.TRUE;
+            } else {
+                hash = Digest.FALSE;
+            }
+        } else if (this.value instanceof Number) {
+            hash = Digest.text(Digest.NUMBER, Digest.canonical((Number) this.value));
+        } else {
+            hash = Digest.text(Digest.STRING, this.value.toString());
+        }
+        return hash;
+    }
+
+    /**
+     * Content hash of object.
+     * @param map Object attributes.
+     * @return Hash.
+     */
+    static long ofObject(final Map<?, ?> map) {
+        long sum = 0L;
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            sum += Digest.mixed(
+                Digest.text(Digest.NAME, entry.getKey().toString())
+                    ^ new Digest(entry.getValue()).asLong()
+            );
+        }
+        return Digest.mixed(Digest.OBJECT + sum + map.size());
+    }
+
+    /**
+     * Content hash of array.
+     * @param list Array elements.
+     * @return Hash.
+     */
+    static long ofArray(final Collection<?> list) {
+        long hash = Digest.ARRAY + list.size();
+        for (final Object elem : list) {
+            hash = Digest.mixed(hash + new Digest(elem).asLong());
+        }
+        return hash;
+    }
+
+    /**
+     * Hash of characters.
+     * @param seed Seed.
+     * @param text Characters.
+     * @return Hash.
+     */
+    private static long text(final long seed, final CharSequence text) {
+        long hash = seed;
+        for (int idx = 0; idx < text.length(); idx += 1) {
+            hash ^= text.charAt(idx);
+            hash *= 0x100000001b3L;
+        }
+        return Digest.mixed(hash + text.length());
+    }
+
+    /**
+     * Canonical text of number, the same for equal numbers of any type.
+     * @param number Number.
+     * @return Text.
+     */
+    private static String canonical(final Number number) {
+        final String text = number.toString();
+        final String result;
+        if (text.indexOf('.') >= 0 || text.indexOf('E') >= 0) {
+            result = new BigDecimal(text).stripTrailingZeros().toPlainString();
+        } else {
+            result = text;
+        }
+        return result;
+    }
+
+    /**
+     * Mixed bits of hash.
+     * @param hash Hash.
+     * @return Hash with mixed bits.
+     * @checkstyle MagicNumberCheck (10 lines)
+     */
+    private static long mixed(final long hash) {
+        long mix = hash;
+        mix = (mix ^ mix >>> 30) * 0xbf58476d1ce4e5b9L;
+        mix = (mix ^ mix >>> 27) * 0x94d049bb133111ebL;
+        return mix ^ mix >>> 31;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Read-only view of entries of map.
+ * Entries can not be removed nor have their values set, so that hashes
+ * cached by the map stay valid. Strings left as slices of parsed text are
+ * given out decoded.
+ *
+ * @since 1.9
+ */
+final class Entries extends AbstractSet<Map.Entry<String, Object>> {
+    /**
+     * Map of entries.
+     */
+    private final Map<String, Object> map;
+
+    /**
+     * Original entries.
+     */
+    private final Set<Map.Entry<String, Object>> origin;
+
+    /**
+     * Ctor.
+     * @param map Map of entries, giving out decoded values.
+     * @param origin Original entries.
+     */
+    Entries(final Map<String, Object> map,
+        final Set<Map.Entry<String, Object>> origin) {
+        super();
+        this.map = map;
+        this.origin = origin;
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+        return new Entries.ReadOnly(this.origin.iterator());
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    @Override
+    public boolean contains(final Object entry) {
+        boolean found = false;
+        if (entry instanceof Map.Entry<?, ?>) {
+            final Object key = ((Map.Entry<?, ?>) entry).getKey();
+            found = this.map.containsKey(key) && Objects.equals(
+                this.map.get(key), ((Map.Entry<?, ?>) entry).getValue()
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Iterator of read-only entries.
+     *
+     * @since 1.9
+     */
+    private static final class ReadOnly
+        implements Iterator<Map.Entry<String, Object>> {
+        /**
+         * Original iterator.
+         */
+        private final Iterator<Map.Entry<String, Object>> origin;
+
+        /**
+         * Ctor.
+         * @param origin Original iterator.
+         */
+        ReadOnly(final Iterator<Map.Entry<String, Object>> origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.origin.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            final Map.Entry<String, Object> entry = this.origin.next();
+            return new AbstractMap.SimpleImmutableEntry<>(
+                entry.getKey(), StringSlice.plain(entry.getValue())
+            );
+        }
+    }
+}
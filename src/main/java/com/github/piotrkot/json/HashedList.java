@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * List of array elements with cached hashes.
+ * Hash of the list is combined from cached hashes of nested objects and
+ * arrays and is computed once. Equality is rejected on different hashes
+ * and does not walk the elements shared by both lists. Sublists are
+ * read-only, so that cached hashes can not go stale through them.
+ *
+ * @param <T> Type of elements.
+ * @since 1.9
+ */
+final class HashedList<T> extends ArrayList<T> {
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 6046285216381938154L;
+
+    /**
+     * Cached hash code or zero.
+     */
+    private transient int hash;
+
+    /**
+     * Cached content hash or zero.
+     */
+    private transient long content;
+
+    /**
+     * Modification count the hashes were cached for.
+     */
+    private transient int cached;
+
+    /**
+     * Ctor.
+     * @param capacity Expected number of elements.
+     */
+    HashedList(final int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Ctor.
+     * @param elems Elements.
+     */
+    HashedList(final Collection<? extends T> elems) {
+        super(elems);
+    }
+
+    @Override
+    public int hashCode() {
+        this.validate();
+        int result = this.hash;
+        if (result == 0) {
+            result = super.hashCode();
+            this.hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public boolean equals(final Object other) {
+        boolean equal = this == other;
+        if (!equal && other instanceof List<?>) {
+            final List<?> that = (List<?>) other;
+            equal = this.size() == that.size()
+                && this.hashCode() == that.hashCode()
+                && this.same(that);
+        }
+        return equal;
+    }
+
+    @Override
+    public T set(final int index, final T elem) {
+        this.hash = 0;
+        this.content = 0L;
+        return super.set(index, elem);
+    }
+
+    @Override
+    public List<T> subList(final int from, final int till) {
+        return Collections.unmodifiableList(super.subList(from, till));
+    }
+
+    /**
+     * Stable 64-bit content hash.
+     * @return Hash.
+     */
+    long digest() {
+        this.validate();
+        long result = this.content;
+        if (result == 0L) {
+            result = Digest.ofArray(this);
+            this.content = result;
+        }
+        return result;
+    }
+
+    /**
+     * Compares elements with other list of the same size.
+     * @param other Other list.
+     * @return True if all elements are equal.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private boolean same(final List<?> other) {
+        boolean same = true;
+        final Iterator<?> theirs = other.iterator();
+        for (final T mine : this) {
+            final Object elem = theirs.next();
+            same = mine == elem || mine != null && mine.equals(elem)
+                || new PlainValue(mine).same(elem);
+            if (!same) {
+                break;
+            }
+        }
+        return same;
+    }
+
+    /**
+     * Forgets cached hashes when the list changed since they were cached.
+     */
+    private void validate() {
+        if (this.cached != this.modCount) {
+            this.hash = 0;
+            this.content = 0L;
+            this.cached = this.modCount;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Ordered map of object attributes with cached hashes.
+ * Hash of the map is combined from cached hashes of nested objects and
+ * arrays and is computed once. Equality is rejected on different hashes
+ * and does not walk the values shared by both maps. Views of keys, values
+ * and entries are read-only, so that cached hashes can not go stale
+ * through them. Strings kept as slices of parsed text are given out
+ * decoded by getters, views and {@link #forEach(BiConsumer)}, so that
+ * the map equals other maps of Java strings both ways.
+ *
+ * @since 1.9
+ * @checkstyle IllegalTypeCheck (3 lines)
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class HashedMap extends LinkedHashMap<String, Object> {
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = -2716541263541872165L;
+
+    /**
+     * Cached hash code or zero.
+     */
+    private transient int hash;
+
+    /**
+     * Cached content hash or zero.
+     */
+    private transient long content;
+
+    /**
+     * Ctor.
+     * @param capacity Expected number of attributes.
+     */
+    HashedMap(final int capacity) {
+        super(capacity * 4 / 3 + 1);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.hash;
+        if (result == 0) {
+            for (final Map.Entry<String, Object> entry : super.entrySet()) {
+                result += entry.hashCode();
+            }
+            this.hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public boolean equals(final Object other) {
+        boolean equal = this == other;
+        if (!equal && other instanceof Map<?, ?>) {
+            final Map<?, ?> that = (Map<?, ?>) other;
+            equal = this.size() == that.size()
+                && this.hashCode() == that.hashCode()
+                && this.same(that);
+        }
+        return equal;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return StringSlice.plain(super.get(key));
+    }
+
+    @Override
+    public Object getOrDefault(final Object key, final Object def) {
+        return StringSlice.plain(super.getOrDefault(key, def));
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        return this.values().contains(value);
+    }
+
+    @Override
+    public void forEach(
+        final BiConsumer<? super String, ? super Object> action) {
+        super.forEach(
+            (key, value) -> action.accept(key, StringSlice.plain(value))
+        );
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        this.reset();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ?> map) {
+        this.reset();
+        super.putAll(map);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        this.reset();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        this.reset();
+        super.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new Entries(this, super.entrySet());
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(super.keySet());
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new PlainValues(super.values());
+    }
+
+    /**
+     * Read-only entries with values as they are stored, with strings
+     * left as slices of parsed text.
+     * @return Entries.
+     * @checkstyle NonStaticMethod (2 lines)
+     */
+    Set<Map.Entry<String, Object>> stored() {
+        return Collections.unmodifiableSet(super.entrySet());
+    }
+
+    /**
+     * Stable 64-bit content hash.
+     * @return Hash.
+     */
+    long digest() {
+        long result = this.content;
+        if (result == 0L) {
+            result = Digest.ofObject(this);
+            this.content = result;
+        }
+        return result;
+    }
+
+    /**
+     * Compares attributes with other map of the same size.
+     * @param other Other map.
+     * @return True if all attributes are equal.
+     * @checkstyle NonStaticMethod (3 lines)
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private boolean same(final Map<?, ?> other) {
+        boolean same = true;
+        for (final Map.Entry<String, Object> entry : super.entrySet()) {
+            final Object mine = StringSlice.plain(entry.getValue());
+            final Object theirs = other.get(entry.getKey());
+            if (mine == null) {
+                same = theirs == null && other.containsKey(entry.getKey());
+            } else {
+                same = mine == theirs || mine.equals(theirs)
+                    || new PlainValue(mine).same(theirs);
+            }
+            if (!same) {
+                break;
+            }
+        }
+        return same;
+    }
+
+    /**
+     * Forgets cached hashes.
+     */
+    private void reset() {
+        this.hash = 0;
+        this.content = 0L;
+    }
+}
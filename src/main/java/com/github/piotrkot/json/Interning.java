@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+/**
+ * Interning of immutable JSON objects, arrays and strings, so that
+ * structurally identical subtrees and equal strings resolve to one shared
+ * instance.
+ *
+ * @since 1.9
+ */
+public interface Interning {
+    /**
+     * Shared instance of object.
+     * @param obj Object.
+     * @return The same object or shared equal one.
+     */
+    JsonObj interned(JsonObj obj);
+
+    /**
+     * Shared instance of array.
+     * @param arr Array.
+     * @param <T> Type of array elements.
+     * @return The same array or shared equal one.
+     */
+    <T> JsonArr<T> interned(JsonArr<T> arr);
+
+    /**
+     * Shared instance of string.
+     * @param text String.
+     * @return The same string or shared equal one.
+     */
+    String interned(String text);
+}
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded interning of short strings, objects and arrays are not shared.
+ * Table has a fixed number of slots chosen by string hash. A string takes
+ * a slot only when its hash was seen before since the last reset of seen
+ * hashes, so that values seen once, as with high cardinality ones, do not
+ * evict repeated ones. Table can be shared or used for single parsing and
+ * is thread-safe.
+ *
+ * @since 1.9
+ */
+public final class InterningStrings implements Interning {
+    /**
+     * Shared strings.
+     */
+    private final AtomicReferenceArray<String> slots;
+
+    /**
+     * Bits of hashes seen.
+     */
+    private final AtomicLongArray seen;
+
+    /**
+     * Number of strings missed since the last reset of seen hashes.
+     */
+    private final AtomicInteger missed;
+
+    /**
+     * The longest string interned.
+     */
+    private final int longest;
+
+    /**
+     * Ctor.
+     */
+    public InterningStrings() {
+        this(1024, 32);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Number of slots, rounded up to power of two.
+     * @param longest The longest string interned.
+     */
+    public InterningStrings(final int capacity, final int longest) {
+        this(
+            new AtomicReferenceArray<>(
+                Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1
+            ),
+            longest
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param slots Shared strings.
+     * @param longest The longest string interned.
+     */
+    private InterningStrings(final AtomicReferenceArray<String> slots,
+        final int longest) {
+        this.slots = slots;
+        this.seen = new AtomicLongArray(Math.max(slots.length() >>> 4, 1));
+        this.missed = new AtomicInteger();
+        this.longest = longest;
+    }
+
+    @Override
+    public JsonObj interned(final JsonObj obj) {
+        return obj;
+    }
+
+    @Override
+    public <T> JsonArr<T> interned(final JsonArr<T> arr) {
+        return arr;
+    }
+
+    @Override
+    public String interned(final String text) {
+        String result = text;
+        if (text.length() <= this.longest) {
+            final int hash = text.hashCode() * 0x9E3779B9;
+            final int slot = hash >>> 16 & this.slots.length() - 1;
+            final String found = this.slots.get(slot);
+            if (text.equals(found)) {
+                result = found;
+            } else if (this.admitted(hash)) {
+                this.slots.set(slot, text);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether hash was seen before, remembering it otherwise.
+     * @param hash Hash of string.
+     * @return True if seen.
+     */
+    private boolean admitted(final int hash) {
+        final int bit = hash & (this.seen.length() << 6) - 1;
+        final long mask = 1L << bit;
+        final boolean admitted = (this.seen.get(bit >>> 6) & mask) != 0L;
+        if (!admitted) {
+            this.seen.getAndAccumulate(bit >>> 6, mask, (old, add) -> old | add);
+            if (this.missed.incrementAndGet() >= this.slots.length()) {
+                this.missed.set(0);
+                for (int idx = 0; idx < this.seen.length(); idx += 1) {
+                    this.seen.set(idx, 0L);
+                }
+            }
+        }
+        return admitted;
+    }
+}
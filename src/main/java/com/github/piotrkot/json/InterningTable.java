@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded interning table.
+ * Table has a fixed number of slots chosen by content hash and a newer
+ * subtree evicts the older one from its slot. Subtree is shared when its
+ * attributes or elements are in the same order as in the shared one and
+ * nested objects and arrays are the same instances, so subtrees should be
+ * interned bottom-up, as during parsing. Large subtrees are not interned.
+ * Strings are interned by other interning. Table is thread-safe.
+ *
+ * @since 1.9
+ */
+public final class InterningTable implements Interning {
+    /**
+     * Shared objects and arrays.
+     */
+    private final AtomicReferenceArray<JsonVal<?>> slots;
+
+    /**
+     * The largest number of attributes or elements interned.
+     */
+    private final int largest;
+
+    /**
+     * Interning of strings.
+     */
+    private final Interning strings;
+
+    /**
+     * Ctor.
+     */
+    public InterningTable() {
+        this(4096, 64, new InterningStrings());
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Number of slots, rounded up to power of two.
+     * @param largest The largest number of attributes or elements interned.
+     */
+    public InterningTable(final int capacity, final int largest) {
+        this(capacity, largest, new InterningNone());
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Number of slots, rounded up to power of two.
+     * @param largest The largest number of attributes or elements interned.
+     * @param strings Interning of strings.
+     */
+    public InterningTable(final int capacity, final int largest,
+        final Interning strings) {
+        this.slots = new AtomicReferenceArray<>(
+            Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1
+        );
+        this.largest = largest;
+        this.strings = strings;
+    }
+
+    @Override
+    public JsonObj interned(final JsonObj obj) {
+        JsonObj result = obj;
+        if (obj.size() <= this.largest) {
+            final int slot = this.slot(obj.contentHash());
+            final JsonVal<?> found = this.slots.get(slot);
+            if (found instanceof JsonObj
+                && InterningTable.same(
+                    ((JsonObj) found).entrySet().iterator(),
+                    obj.entrySet().iterator()
+                )) {
+                result = (JsonObj) found;
+            } else {
+                this.slots.set(slot, obj);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> JsonArr<T> interned(final JsonArr<T> arr) {
+        JsonArr<T> result = arr;
+        if (arr.size() <= this.largest) {
+            final int slot = this.slot(arr.contentHash());
+            final JsonVal<?> found = this.slots.get(slot);
+            if (found instanceof JsonArr
+                && InterningTable.same(
+                    ((JsonArr<?>) found).iterator(), arr.iterator()
+                )) {
+                result = (JsonArr<T>) found;
+            } else {
+                this.slots.set(slot, arr);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String interned(final String text) {
+        return this.strings.interned(text);
+    }
+
+    /**
+     * Slot of content hash.
+     * @param hash Content hash.
+     * @return Slot.
+     */
+    private int slot(final long hash) {
+        return (int) (hash ^ hash >>> 32) & this.slots.length() - 1;
+    }
+
+    /**
+     * Whether items are the same in the same order.
+     * @param shared Items of shared subtree.
+     * @param other Items of other subtree.
+     * @return True if the same.
+     */
+    private static boolean same(final Iterator<?> shared,
+        final Iterator<?> other) {
+        boolean same = true;
+        while (same && shared.hasNext() && other.hasNext()) {
+            same = InterningTable.same(shared.next(), other.next());
+        }
+        return same && !shared.hasNext() && !other.hasNext();
+    }
+
+    /**
+     * Whether items are the same, nested objects and arrays being the same
+     * instances.
+     * @param mine Item of shared subtree.
+     * @param theirs Item of other subtree.
+     * @return True if the same.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static boolean same(final Object mine, final Object theirs) {
+        final boolean same;
+        if (mine instanceof Map.Entry) {
+            same = ((Map.Entry<?, ?>) mine).getKey()
+                .equals(((Map.Entry<?, ?>) theirs).getKey())
+                && InterningTable.same(
+                    ((Map.Entry<?, ?>) mine).getValue(),
+                    ((Map.Entry<?, ?>) theirs).getValue()
+                );
+        } else if (mine instanceof Map || mine instanceof Collection) {
+            same = mine == theirs;
+        } else {
+            same = Objects.equals(mine, theirs);
+        }
+        return same;
+    }
+}
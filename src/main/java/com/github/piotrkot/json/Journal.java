@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+/**
+ * Journal of changes made to JSON document.
+ * Paths are JSON pointers as defined in RFC 6901.
+ *
+ * @since 1.9
+ */
+public interface Journal {
+    /**
+     * Records adding of value.
+     * @param path Path to the added value.
+     * @param value Value added.
+     */
+    void add(String path, Object value);
+
+    /**
+     * Records removing of value.
+     * @param path Path to the removed value.
+     */
+    void remove(String path);
+
+    /**
+     * Records replacing of value.
+     * @param path Path to the replaced value.
+     * @param value New value.
+     */
+    void replace(String path, Object value);
+
+    /**
+     * Records moving of value.
+     * @param from Path to the value before move.
+     * @param path Path to the value after move.
+     */
+    void move(String from, String path);
+}
@@ -36,20 +36,37 @@ import org.cactoos.list.ListOf;
 
 /**
  * JSON array.
+ * Array is immutable. Its hash code is computed once from the hash codes
+ * of its elements and cached, so that unequal arrays are told apart
+ * without walking them.
  *
  * @param <T> Type of array elements.
  * @since 1.0
  */
 public final class JsonArr<T> extends ListEnvelope<T> implements
     JsonVal<Collection<T>> {
+    /**
+     * Array elements.
+     */
+    private final HashedList<T> list;
+
     /**
      * Ctor.
      * @param base JSON array from API.
      */
     public JsonArr(final JsonArray base) {
+        this(base, new InterningNone());
+    }
+
+    /**
+     * Ctor.
+     * @param base JSON array from API.
+     * @param interning Interning of nested objects and arrays.
+     */
+    public JsonArr(final JsonArray base, final Interning interning) {
         this(
             new Mapped<>(
-                elem -> (T) new ObjectFound(elem).asObject(),
+                elem -> (T) new ObjectFound(elem, interning).asObject(),
                 base
             )
         );
@@ -85,7 +102,25 @@ public final class JsonArr<T> extends ListEnvelope<T> implements
      * @param elems Array elements.
      */
     public JsonArr(final Iterable<T> elems) {
-        super(new ListOf<>(elems));
+        this(new HashedList<>(JsonArr.asCollection(elems)));
+    }
+
+    /**
+     * Ctor.
+     * @param list Array elements.
+     */
+    JsonArr(final HashedList<T> list) {
+        super(list);
+        this.list = list;
+    }
+
+    /**
+     * Stable 64-bit hash of array content, the same in every process.
+     * It is computed once.
+     * @return Content hash.
+     */
+    public long contentHash() {
+        return this.list.digest();
     }
 
     @Override
@@ -97,4 +132,20 @@ public final class JsonArr<T> extends ListEnvelope<T> implements
     public List<T> value() {
         return this;
     }
+
+    /**
+     * Collection of elements.
+     * @param elems Elements.
+     * @param <T> Type of elements.
+     * @return Elements as collection.
+     */
+    private static <T> Collection<T> asCollection(final Iterable<T> elems) {
+        final Collection<T> result;
+        if (elems instanceof Collection<?>) {
+            result = (Collection<T>) elems;
+        } else {
+            result = new ListOf<>(elems);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+/**
+ * Builder of JSON array.
+ * Builder is mutable and must be used by one thread only. Elements are
+ * added in place and handed over to the array on freezing without copying,
+ * after which the builder can not be used anymore.
+ *
+ * @param <T> Type of elements.
+ * @since 1.9
+ */
+public final class JsonArrBuilder<T> {
+    /**
+     * Elements.
+     */
+    private final HashedList<T> list;
+
+    /**
+     * Whether elements were handed over.
+     */
+    private boolean frozen;
+
+    /**
+     * Ctor.
+     */
+    public JsonArrBuilder() {
+        this(10);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Expected number of elements.
+     */
+    public JsonArrBuilder(final int capacity) {
+        this.list = new HashedList<>(capacity);
+    }
+
+    /**
+     * Adds element at the end.
+     * @param elem Element.
+     * @return This builder.
+     */
+    public JsonArrBuilder<T> add(final T elem) {
+        this.elements().add(elem);
+        return this;
+    }
+
+    /**
+     * Hands elements over to immutable array.
+     * @return JSON array.
+     */
+    public JsonArr<T> freeze() {
+        final JsonArr<T> arr = new JsonArr<>(this.elements());
+        this.frozen = true;
+        return arr;
+    }
+
+    /**
+     * Elements of builder not frozen yet.
+     * @return Elements.
+     */
+    private HashedList<T> elements() {
+        if (this.frozen) {
+            throw new IllegalStateException("Builder is already frozen");
+        }
+        return this.list;
+    }
+}
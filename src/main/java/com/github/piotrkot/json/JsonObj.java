@@ -28,8 +28,9 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.json.Json;
 import javax.json.JsonObject;
 import org.cactoos.iterable.Joined;
@@ -39,21 +40,42 @@ import org.cactoos.map.MapEnvelope;
 
 /**
  * JSON object.
+ * Object is immutable. Its hash code is computed once from the hash codes
+ * of its attributes and cached, so that unequal objects are told apart
+ * without walking them. Attributes are visited with
+ * {@link #forEach(BiConsumer)} in order of insertion, walking storage
+ * directly without creating iterator or attribute objects.
  *
  * @since 1.0
  * @checkstyle ClassDataAbstractionCoupling (2 lines)
  */
+@SuppressWarnings("PMD.TooManyMethods")
 public final class JsonObj extends MapEnvelope<String, Object> implements
     JsonVal<Map<String, ?>> {
+    /**
+     * Object attributes.
+     */
+    private final HashedMap map;
+
     /**
      * Ctor.
      * @param base JSON object from API.
      */
     public JsonObj(final JsonObject base) {
+        this(base, new InterningNone());
+    }
+
+    /**
+     * Ctor.
+     * @param base JSON object from API.
+     * @param interning Interning of nested objects and arrays.
+     */
+    public JsonObj(final JsonObject base, final Interning interning) {
         this(
             new Mapped<>(
                 entry -> new Attr<>(
-                    entry.getKey(), new ObjectFound(entry.getValue()).asObject()
+                    interning.interned(entry.getKey()),
+                    new ObjectFound(entry.getValue(), interning).asObject()
                 ),
                 base.entrySet()
             )
@@ -119,12 +141,7 @@ public final class JsonObj extends MapEnvelope<String, Object> implements
      * @param attributes Object attributes.
      */
     public JsonObj(final JsonObj base, final Iterable<Attr<?>> attributes) {
-        this(
-            new Joined<Attr<?>>(
-                base.attributes(),
-                attributes
-            )
-        );
+        this(JsonObj.joined(base, attributes));
     }
 
     /**
@@ -141,7 +158,7 @@ public final class JsonObj extends MapEnvelope<String, Object> implements
      * @param attributes Object attributes.
      */
     public JsonObj(final Collection<Attr<?>> attributes) {
-        super(JsonObj.asMap(attributes));
+        this(JsonObj.asMap(attributes));
     }
 
     /**
@@ -160,8 +177,19 @@ public final class JsonObj extends MapEnvelope<String, Object> implements
         this(new ListOf<>(attributes));
     }
 
+    /**
+     * Ctor.
+     * @param map Object attributes.
+     */
+    JsonObj(final HashedMap map) {
+        super(map);
+        this.map = map;
+    }
+
     /**
      * JSON object attributes.
+     * Each attribute is a new object on every iteration, prefer
+     * {@link #forEach(BiConsumer)} on hot paths.
      * @return All attributes.
      * @checkstyle NonStaticMethod (2 lines)
      */
@@ -172,6 +200,12 @@ public final class JsonObj extends MapEnvelope<String, Object> implements
         );
     }
 
+    @Override
+    public void forEach(
+        final BiConsumer<? super String, ? super Object> action) {
+        this.map.forEach(action);
+    }
+
     /**
      * Checks if attribute is present.
      * @param name Attribute name.
@@ -182,36 +216,208 @@ public final class JsonObj extends MapEnvelope<String, Object> implements
     }
 
     /**
-     * Gets attribute value for given name.
+     * Gets attribute value for given name. String left as slice of parsed
+     * text is decoded.
      * @param name Attribute name.
      * @param <T> Type of return value.
      * @return JSON value.
      * @throws JsonException When parameter is not found.
      */
     public <T> T get(final String name) throws JsonException {
-        if (this.containsKey(name)) {
-            return (T) super.get(name);
+        final Object value = this.map.get(name);
+        if (value != null || this.map.containsKey(name)) {
+            return (T) value;
         }
-        throw new JsonException(
-            String.format("Attribute name \"%s\" not found", name)
-        );
+        throw JsonObj.missing(name);
     }
 
     /**
-     * Gets attribute value for given name or default.
+     * Gets attribute value for given name or default. String left as slice
+     * of parsed text is decoded.
      * @param name Attribute name.
      * @param def Default value.
      * @param <T> Type of return value.
      * @return JSON value or default if not found.
      */
     public <T> T get(final String name, final T def) {
-        final T value;
-        if (this.containsKey(name)) {
-            value = (T) super.get(name);
+        final Object value = this.map.get(name);
+        final T result;
+        if (value != null || this.map.containsKey(name)) {
+            result = (T) value;
+        } else {
+            result = def;
+        }
+        return result;
+    }
+
+    /**
+     * Gets integer value of attribute.
+     * @param name Attribute name.
+     * @return Integer value.
+     * @throws JsonException When attribute is not found or not integer
+     *  in range of int.
+     */
+    public int getInt(final String name) throws JsonException {
+        final Object value = this.map.get(name);
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        throw this.mismatch(name, value, "int");
+    }
+
+    /**
+     * Gets integer value of attribute or default.
+     * @param name Attribute name.
+     * @param def Default value.
+     * @return Integer value or default if not found or not integer
+     *  in range of int.
+     */
+    public int getInt(final String name, final int def) {
+        final Object value = this.map.get(name);
+        final int result;
+        if (value instanceof Integer) {
+            result = (Integer) value;
+        } else {
+            result = def;
+        }
+        return result;
+    }
+
+    /**
+     * Gets long integer value of attribute.
+     * @param name Attribute name.
+     * @return Long value.
+     * @throws JsonException When attribute is not found or not integer
+     *  in range of long.
+     */
+    public long getLong(final String name) throws JsonException {
+        final Object value = this.map.get(name);
+        if (value instanceof Long || value instanceof Integer) {
+            return ((Number) value).longValue();
+        }
+        throw this.mismatch(name, value, "long");
+    }
+
+    /**
+     * Gets long integer value of attribute or default.
+     * @param name Attribute name.
+     * @param def Default value.
+     * @return Long value or default if not found or not integer
+     *  in range of long.
+     */
+    public long getLong(final String name, final long def) {
+        final Object value = this.map.get(name);
+        final long result;
+        if (value instanceof Long || value instanceof Integer) {
+            result = ((Number) value).longValue();
+        } else {
+            result = def;
+        }
+        return result;
+    }
+
+    /**
+     * Gets number value of attribute as double.
+     * @param name Attribute name.
+     * @return Double value.
+     * @throws JsonException When attribute is not found or not number.
+     */
+    public double getDouble(final String name) throws JsonException {
+        final Object value = this.map.get(name);
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        throw this.mismatch(name, value, "double");
+    }
+
+    /**
+     * Gets number value of attribute as double or default.
+     * @param name Attribute name.
+     * @param def Default value.
+     * @return Double value or default if not found or not number.
+     */
+    public double getDouble(final String name, final double def) {
+        final Object value = this.map.get(name);
+        final double result;
+        if (value instanceof Number) {
+            result = ((Number) value).doubleValue();
+        } else {
+            result = def;
+        }
+        return result;
+    }
+
+    /**
+     * Gets boolean value of attribute.
+     * @param name Attribute name.
+     * @return Boolean value.
+     * @throws JsonException When attribute is not found or not boolean.
+     */
+    public boolean getBoolean(final String name) throws JsonException {
+        final Object value = this.map.get(name);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw this.mismatch(name, value, "boolean");
+    }
+
+    /**
+     * Gets boolean value of attribute or default.
+     * @param name Attribute name.
+     * @param def Default value.
+     * @return Boolean value or default if not found or not boolean.
+     */
+    public boolean getBoolean(final String name, final boolean def) {
+        final Object value = this.map.get(name);
+        final boolean result;
+        if (value instanceof Boolean) {
+            result = (Boolean) value;
+        } else {
+            result = def;
+        }
+        return result;
+    }
+
+    /**
+     * Gets string value of attribute. String left as slice of parsed text
+     * is decoded.
+     * @param name Attribute name.
+     * @return String value.
+     * @throws JsonException When attribute is not found or not string.
+     */
+    public String getString(final String name) throws JsonException {
+        final Object value = this.map.get(name);
+        if (value instanceof CharSequence) {
+            return value.toString();
+        }
+        throw this.mismatch(name, value, "string");
+    }
+
+    /**
+     * Gets string value of attribute or default. String left as slice of
+     * parsed text is decoded.
+     * @param name Attribute name.
+     * @param def Default value.
+     * @return String value or default if not found or not string.
+     */
+    public String getString(final String name, final String def) {
+        final Object value = this.map.get(name);
+        final String result;
+        if (value instanceof CharSequence) {
+            result = value.toString();
         } else {
-            value = def;
+            result = def;
         }
-        return value;
+        return result;
+    }
+
+    /**
+     * Stable 64-bit hash of object content, the same in every process.
+     * It is computed once.
+     * @return Content hash.
+     */
+    public long contentHash() {
+        return this.map.digest();
     }
 
     @Override
@@ -224,14 +430,70 @@ public final class JsonObj extends MapEnvelope<String, Object> implements
         return this;
     }
 
+    /**
+     * Attributes as they are stored, with long strings of parsed text left
+     * as slices of it.
+     * @return Read-only attributes.
+     */
+    Set<Map.Entry<String, Object>> stored() {
+        return this.map.stored();
+    }
+
+    /**
+     * Error of attribute not found.
+     * @param name Attribute name.
+     * @return Error.
+     */
+    private static JsonException missing(final String name) {
+        return new JsonException(
+            String.format("Attribute name \"%s\" not found", name)
+        );
+    }
+
+    /**
+     * Error of attribute not found or of other type than expected.
+     * @param name Attribute name.
+     * @param value Attribute value found.
+     * @param type Expected type.
+     * @return Error.
+     */
+    private JsonException mismatch(final String name, final Object value,
+        final String type) {
+        final JsonException error;
+        if (value != null || this.map.containsKey(name)) {
+            error = new JsonException(
+                String.format("Attribute \"%s\" is not %s", name, type)
+            );
+        } else {
+            error = JsonObj.missing(name);
+        }
+        return error;
+    }
+
+    /**
+     * Create a map of object attributes followed by more attributes.
+     * @param base JSON object.
+     * @param attrs More attributes.
+     * @return New object attributes as map ordered by inserted entries.
+     */
+    private static HashedMap joined(final JsonObj base,
+        final Iterable<Attr<?>> attrs) {
+        final HashedMap map = new HashedMap(base.size() + 4);
+        base.forEach(map::put);
+        for (final Attr<?> attr : attrs) {
+            map.put(attr.name(), attr.value());
+        }
+        return map;
+    }
+
     /**
      * Create a map of object attributes since Cactoos doesn't support
      *  LinkedHashMap.
      * @param attrs Object attributes.
      * @return New object attributes as map ordered by inserted entries.
      */
-    private static Map<String, Object> asMap(final Iterable<Attr<?>> attrs) {
-        final Map<String, Object> map = new LinkedHashMap<>();
+    private static HashedMap asMap(final Collection<Attr<?>> attrs) {
+        final HashedMap map = new HashedMap(attrs.size());
         for (final Attr<?> attr : attrs) {
             map.put(attr.name(), attr.value());
         }
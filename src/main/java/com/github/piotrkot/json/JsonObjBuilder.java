@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+/**
+ * Builder of JSON object.
+ * Builder is mutable and must be used by one thread only. Attributes are
+ * added in place and handed over to the object on freezing without copying,
+ * after which the builder can not be used anymore.
+ *
+ * @since 1.9
+ */
+public final class JsonObjBuilder {
+    /**
+     * Attributes.
+     */
+    private final HashedMap map;
+
+    /**
+     * Whether attributes were handed over.
+     */
+    private boolean frozen;
+
+    /**
+     * Ctor.
+     */
+    public JsonObjBuilder() {
+        this(16);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity Expected number of attributes.
+     */
+    public JsonObjBuilder(final int capacity) {
+        this.map = new HashedMap(capacity);
+    }
+
+    /**
+     * Adds attribute, replacing value of existing one with the same name.
+     * @param name Attribute name.
+     * @param value Attribute value.
+     * @return This builder.
+     */
+    public JsonObjBuilder add(final String name, final Object value) {
+        this.attributes().put(name, value);
+        return this;
+    }
+
+    /**
+     * Adds attribute, replacing value of existing one with the same name.
+     * @param attr Attribute.
+     * @return This builder.
+     */
+    public JsonObjBuilder add(final Attr<?> attr) {
+        return this.add(attr.name(), attr.value());
+    }
+
+    /**
+     * Hands attributes over to immutable object.
+     * @return JSON object.
+     */
+    public JsonObj freeze() {
+        final JsonObj obj = new JsonObj(this.attributes());
+        this.frozen = true;
+        return obj;
+    }
+
+    /**
+     * Attributes of builder not frozen yet.
+     * @return Attributes.
+     */
+    private HashedMap attributes() {
+        if (this.frozen) {
+            throw new IllegalStateException("Builder is already frozen");
+        }
+        return this.map;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import javax.json.JsonValue;
+
+/**
+ * Value written as UTF-8 JSON text.
+ * String slices are copied verbatim from their source.
+ *
+ * @since 1.9
+ */
+public final class JsonOutput {
+    /**
+     * Value.
+     */
+    private final Object value;
+
+    /**
+     * Ctor.
+     * @param value Value.
+     */
+    public JsonOutput(final Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Writes value.
+     * @param output Output, not closed.
+     * @throws IOException When fails.
+     */
+    public void writeTo(final OutputStream output) throws IOException {
+        final OutputStream buffered = new BufferedOutputStream(output, 8192);
+        JsonOutput.write(this.value, buffered);
+        buffered.flush();
+    }
+
+    /**
+     * JSON text.
+     * @return UTF-8 bytes.
+     * @throws IOException When fails.
+     */
+    public byte[] asBytes() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        this.writeTo(bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes value.
+     * @param value Value.
+     * @param output Output.
+     * @throws IOException When fails.
+     * @checkstyle CyclomaticComplexity (3 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static void write(final Object value, final OutputStream output)
+        throws IOException {
+        if (value == null) {
+            JsonOutput.ascii("null", output);
+        } else if (value instanceof StringSlice) {
+            ((StringSlice) value).writeTo(output);
+        } else if (value instanceof CharSequence) {
+            JsonOutput.quoted((CharSequence) value, output);
+        } else if (value instanceof Boolean) {
+            JsonOutput.ascii(value.toString(), output);
+        } else if (value instanceof Integer || value instanceof Long
+            || value instanceof BigInteger || value instanceof BigDecimal) {
+            JsonOutput.ascii(value.toString(), output);
+        } else if (value instanceof Double) {
+            if (((Double) value).isNaN() || ((Double) value).isInfinite()) {
+                throw new NumberFormatException(
+                    String.format("%s is not a JSON number", value)
+                );
+            }
+            JsonOutput.ascii(value.toString(), output);
+        } else if (value instanceof Map<?, ?>) {
+            JsonOutput.object((Map<?, ?>) value, output);
+        } else if (value instanceof Collection<?>) {
+            JsonOutput.array((Collection<?>) value, output);
+        } else if (value instanceof JsonValue) {
+            output.write(value.toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            throw new UnsupportedOperationException(
+                String.format("\"%s\" not supported", value.getClass())
+            );
+        }
+    }
+
+    /**
+     * Writes object.
+     * @param map Object attributes.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    private static void object(final Map<?, ?> map, final OutputStream output)
+        throws IOException {
+        output.write('{');
+        boolean first = true;
+        final Iterable<? extends Map.Entry<?, ?>> entries;
+        if (map instanceof JsonObj) {
+            entries = ((JsonObj) map).stored();
+        } else {
+            entries = map.entrySet();
+        }
+        for (final Map.Entry<?, ?> entry : entries) {
+            if (!first) {
+                output.write(',');
+            }
+            first = false;
+            JsonOutput.quoted(entry.getKey().toString(), output);
+            output.write(':');
+            JsonOutput.write(entry.getValue(), output);
+        }
+        output.write('}');
+    }
+
+    /**
+     * Writes array.
+     * @param list Array elements.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    private static void array(final Collection<?> list,
+        final OutputStream output) throws IOException {
+        output.write('[');
+        boolean first = true;
+        for (final Object elem : list) {
+            if (!first) {
+                output.write(',');
+            }
+            first = false;
+            JsonOutput.write(elem, output);
+        }
+        output.write(']');
+    }
+
+    /**
+     * Writes quoted string with escapes.
+     * @param text Characters.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    private static void quoted(final CharSequence text,
+        final OutputStream output) throws IOException {
+        final StringBuilder escaped = new StringBuilder(text.length() + 2);
+        escaped.append('"');
+        for (int idx = 0; idx < text.length(); idx += 1) {
+            final char chr = text.charAt(idx);
+            if (chr == '"' || chr == '\\') {
+                escaped.append('\\').append(chr);
+            } else if (chr == '\n') {
+                escaped.append("\\n");
+            } else if (chr == '\r') {
+                escaped.append("\\r");
+            } else if (chr == '\t') {
+                escaped.append("\\t");
+            } else if (chr < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) chr));
+            } else {
+                escaped.append(chr);
+            }
+        }
+        escaped.append('"');
+        output.write(escaped.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes ASCII text.
+     * @param text Text.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    private static void ascii(final String text, final OutputStream output)
+        throws IOException {
+        output.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -28,6 +28,8 @@ import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Map;
 import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
 import javax.json.JsonValue;
 
 /**
@@ -76,12 +78,13 @@ public final class JsonValueFound {
                 value = JsonValue.FALSE;
             }
         } else if (this.obj instanceof Collection<?>) {
-            value = Json.createArrayBuilder((Collection<?>) this.obj).build();
+            value = JsonValueFound.array((Collection<?>) this.obj);
         } else if (this.obj instanceof Map<?, ?>) {
-            value = Json.createObjectBuilder((Map<String, Object>) this.obj)
-                .build();
+            value = JsonValueFound.object((Map<?, ?>) this.obj);
         } else if (this.obj == null) {
             value = JsonValue.NULL;
+        } else if (this.obj instanceof JsonValue) {
+            value = (JsonValue) this.obj;
         } else {
             throw new UnsupportedOperationException(
                 String.format("\"%s\" not supported", this.obj.getClass())
@@ -89,4 +92,33 @@ public final class JsonValueFound {
         }
         return value;
     }
+
+    /**
+     * Array of values.
+     * @param list Elements.
+     * @return JSON array.
+     */
+    private static JsonValue array(final Collection<?> list) {
+        final JsonArrayBuilder arr = Json.createArrayBuilder();
+        for (final Object elem : list) {
+            arr.add(new JsonValueFound(elem).asJsonValue());
+        }
+        return arr.build();
+    }
+
+    /**
+     * Object of values.
+     * @param map Attributes.
+     * @return JSON object.
+     */
+    private static JsonValue object(final Map<?, ?> map) {
+        final JsonObjectBuilder obj = Json.createObjectBuilder();
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            obj.add(
+                entry.getKey().toString(),
+                new JsonValueFound(entry.getValue()).asJsonValue()
+            );
+        }
+        return obj.build();
+    }
 }
@@ -41,12 +41,27 @@ public final class ObjectFound {
      */
     private final JsonValue json;
 
+    /**
+     * Interning of nested objects and arrays.
+     */
+    private final Interning interning;
+
     /**
      * Ctor.
      * @param json JSON value.
      */
     public ObjectFound(final JsonValue json) {
+        this(json, new InterningNone());
+    }
+
+    /**
+     * Ctor.
+     * @param json JSON value.
+     * @param interning Interning of nested objects and arrays.
+     */
+    public ObjectFound(final JsonValue json, final Interning interning) {
         this.json = json;
+        this.interning = interning;
     }
 
     /**
@@ -57,13 +72,19 @@ public final class ObjectFound {
         final Object value;
         switch (this.json.getValueType()) {
             case OBJECT:
-                value = new JsonObj((JsonObject) this.json).value();
+                value = this.interning.interned(
+                    new JsonObj((JsonObject) this.json, this.interning)
+                );
                 break;
             case STRING:
-                value = ((JsonString) this.json).getString();
+                value = this.interning.interned(
+                    ((JsonString) this.json).getString()
+                );
                 break;
             case ARRAY:
-                value = new JsonArr((JsonArray) this.json).value();
+                value = this.interning.interned(
+                    new JsonArr<>((JsonArray) this.json, this.interning)
+                );
                 break;
             case NUMBER:
                 value = this.asNumber();
@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.function.Supplier;
+
+/**
+ * JSON value parsed from UTF-8 text with long strings of attributes left
+ * as slices of the text. Slices are decoded only when attributes are read
+ * and are written out verbatim by {@link JsonOutput}, which pays off for
+ * large strings passed through, at the cost of keeping the whole text
+ * reachable while any slice is. Scratch space of parsing is taken from
+ * {@link Arena} when given.
+ *
+ * @since 1.9
+ */
+public final class ParsedBytes {
+    /**
+     * UTF-8 JSON text.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The longest string decoded at once, in bytes.
+     */
+    private final int longest;
+
+    /**
+     * Interning of values.
+     */
+    private final Interning interning;
+
+    /**
+     * Source of scratch space.
+     */
+    private final Supplier<Scratch> scratch;
+
+    /**
+     * Ctor.
+     * @param bytes UTF-8 JSON text.
+     */
+    public ParsedBytes(final byte[] bytes) {
+        this(bytes, 256, new InterningNone());
+    }
+
+    /**
+     * Ctor.
+     * @param bytes UTF-8 JSON text.
+     * @param arena Arena of parsing.
+     */
+    public ParsedBytes(final byte[] bytes, final Arena arena) {
+        this(bytes, 256, new InterningNone(), arena::scratch);
+    }
+
+    /**
+     * Ctor.
+     * @param bytes UTF-8 JSON text.
+     * @param longest The longest string decoded at once, in bytes.
+     * @param interning Interning of values.
+     */
+    public ParsedBytes(final byte[] bytes, final int longest,
+        final Interning interning) {
+        this(bytes, longest, interning, Scratch::new);
+    }
+
+    /**
+     * Ctor.
+     * @param bytes UTF-8 JSON text.
+     * @param longest The longest string decoded at once, in bytes.
+     * @param interning Interning of values.
+     * @param arena Arena of parsing.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ParsedBytes(final byte[] bytes, final int longest,
+        final Interning interning, final Arena arena) {
+        this(bytes, longest, interning, arena::scratch);
+    }
+
+    /**
+     * Ctor.
+     * @param bytes UTF-8 JSON text.
+     * @param longest The longest string decoded at once, in bytes.
+     * @param interning Interning of values.
+     * @param scratch Source of scratch space.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private ParsedBytes(final byte[] bytes, final int longest,
+        final Interning interning, final Supplier<Scratch> scratch) {
+        this.bytes = bytes;
+        this.longest = longest;
+        this.interning = interning;
+        this.scratch = scratch;
+    }
+
+    /**
+     * Parsed object.
+     * @return Object.
+     * @throws JsonException When text is malformed or not an object.
+     */
+    public JsonObj obj() throws JsonException {
+        final Object value = this.value();
+        if (!(value instanceof JsonObj)) {
+            throw new JsonException("JSON text is not an object");
+        }
+        return (JsonObj) value;
+    }
+
+    /**
+     * Parsed array.
+     * @return Array.
+     * @throws JsonException When text is malformed or not an array.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonArr<Object> arr() throws JsonException {
+        final Object value = this.value();
+        if (!(value instanceof JsonArr)) {
+            throw new JsonException("JSON text is not an array");
+        }
+        return (JsonArr<Object>) value;
+    }
+
+    /**
+     * Parsed value.
+     * @return Value.
+     * @throws JsonException When text is malformed.
+     */
+    public Object value() throws JsonException {
+        return new Scanner(
+            this.bytes, this.longest, this.interning, this.scratch.get()
+        ).root();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.Objects;
+
+/**
+ * Value with text of any kind as Java string.
+ * String left as slice of parsed text is not equal to Java string of the
+ * same characters, so values are made plain before they are compared or
+ * used as keys.
+ *
+ * @since 1.9
+ */
+public final class PlainValue {
+    /**
+     * Original value.
+     */
+    private final Object origin;
+
+    /**
+     * Ctor.
+     * @param origin Original value.
+     */
+    public PlainValue(final Object origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Plain value.
+     * @return Value with text as Java string.
+     */
+    public Object value() {
+        final Object value;
+        if (this.origin instanceof CharSequence) {
+            value = this.origin.toString();
+        } else {
+            value = this.origin;
+        }
+        return value;
+    }
+
+    /**
+     * Whether plain value equals plain other value.
+     * @param other Other value.
+     * @return True if equal.
+     */
+    public boolean same(final Object other) {
+        return Objects.equals(this.value(), new PlainValue(other).value());
+    }
+}
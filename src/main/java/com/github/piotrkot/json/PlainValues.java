@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Read-only view of values with strings left as slices of parsed text
+ * given out decoded.
+ *
+ * @since 1.9
+ */
+final class PlainValues extends AbstractCollection<Object> {
+    /**
+     * Original values.
+     */
+    private final Collection<Object> origin;
+
+    /**
+     * Ctor.
+     * @param origin Original values.
+     */
+    PlainValues(final Collection<Object> origin) {
+        super();
+        this.origin = origin;
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return new PlainValues.Decoding(this.origin.iterator());
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    /**
+     * Iterator of decoded values.
+     *
+     * @since 1.9
+     */
+    private static final class Decoding implements Iterator<Object> {
+        /**
+         * Original iterator.
+         */
+        private final Iterator<Object> origin;
+
+        /**
+         * Ctor.
+         * @param origin Original iterator.
+         */
+        Decoding(final Iterator<Object> origin) {
+            this.origin = origin;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.origin.hasNext();
+        }
+
+        @Override
+        public Object next() {
+            return StringSlice.plain(this.origin.next());
+        }
+    }
+}
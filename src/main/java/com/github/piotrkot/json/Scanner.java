@@ -0,0 +1,407 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+
+/**
+ * Scanner of UTF-8 JSON text into objects, arrays and values.
+ * Attribute values being strings longer than given number of bytes are
+ * left as slices of the text, so that they never leave storage of objects.
+ * Shorter ones, other strings, attribute names, objects and arrays go
+ * through interning.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Scanner {
+    /**
+     * Whitespace characters.
+     */
+    private static final String SPACES = " \n\r\t";
+
+    /**
+     * Characters of numbers.
+     */
+    private static final String NUMERIC = "0123456789+-.eE";
+
+    /**
+     * JSON text.
+     */
+    private final byte[] bytes;
+
+    /**
+     * The longest string decoded at once, in bytes.
+     */
+    private final int longest;
+
+    /**
+     * Interning of values.
+     */
+    private final Interning interning;
+
+    /**
+     * Scratch space.
+     */
+    private final Scratch scratch;
+
+    /**
+     * Current position.
+     */
+    private int pos;
+
+    /**
+     * Ctor.
+     * @param bytes JSON text.
+     * @param longest The longest string decoded at once, in bytes.
+     * @param interning Interning of values.
+     * @param scratch Scratch space.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Scanner(final byte[] bytes, final int longest, final Interning interning,
+        final Scratch scratch) {
+        this.bytes = bytes;
+        this.longest = longest;
+        this.interning = interning;
+        this.scratch = scratch;
+    }
+
+    /**
+     * Value of the whole text.
+     * @return Value.
+     * @throws JsonException When text is malformed.
+     */
+    Object root() throws JsonException {
+        final Object value = this.value(false);
+        this.finish();
+        return value;
+    }
+
+    /**
+     * Value at current position.
+     * @param sliced Whether long string may be left as slice.
+     * @return Value.
+     * @throws JsonException When text is malformed.
+     */
+    private Object value(final boolean sliced) throws JsonException {
+        this.blank();
+        if (this.pos >= this.bytes.length) {
+            throw new JsonException("Unexpected end of JSON text");
+        }
+        final Object value;
+        switch (this.bytes[this.pos]) {
+            case '{':
+                value = this.obj();
+                break;
+            case '[':
+                value = this.arr();
+                break;
+            case '"':
+                value = this.text(!sliced);
+                break;
+            case 't':
+                value = this.literal("true", true);
+                break;
+            case 'f':
+                value = this.literal("false", false);
+                break;
+            case 'n':
+                value = this.literal("null", null);
+                break;
+            default:
+                value = this.number();
+                break;
+        }
+        return value;
+    }
+
+    /**
+     * Object at current position.
+     * @return Object.
+     * @throws JsonException When text is malformed.
+     */
+    private JsonObj obj() throws JsonException {
+        this.pos += 1;
+        final int mark = this.scratch.mark();
+        this.attributes();
+        return this.interning.interned(new JsonObj(this.scratch.map(mark)));
+    }
+
+    /**
+     * Array at current position.
+     * @return Array.
+     * @throws JsonException When text is malformed.
+     */
+    private JsonArr<Object> arr() throws JsonException {
+        this.pos += 1;
+        final int mark = this.scratch.mark();
+        boolean more = !this.next(']');
+        while (more) {
+            this.scratch.push(null, this.value(false));
+            more = this.separated(']');
+        }
+        return this.interning.interned(
+            new JsonArr<>(this.scratch.<Object>list(mark))
+        );
+    }
+
+    /**
+     * Attributes of object at current position, pushed to scratch space.
+     * @throws JsonException When text is malformed.
+     */
+    private void attributes() throws JsonException {
+        boolean more = !this.next('}');
+        while (more) {
+            this.blank();
+            if (this.pos >= this.bytes.length || this.bytes[this.pos] != '"') {
+                throw this.unexpected();
+            }
+            final String name = (String) this.text(true);
+            this.expect(':');
+            this.scratch.push(name, this.value(true));
+            more = this.separated('}');
+        }
+    }
+
+    /**
+     * String at current position.
+     * @param decode Whether to decode regardless of length.
+     * @return String or slice.
+     * @throws JsonException When text is malformed.
+     */
+    private Object text(final boolean decode) throws JsonException {
+        final int start = this.pos + 1;
+        int end = start;
+        while (end < this.bytes.length && this.bytes[end] != '"') {
+            if (this.bytes[end] >= 0 && this.bytes[end] < 0x20) {
+                this.pos = end;
+                throw this.unexpected();
+            }
+            if (this.bytes[end] == '\\') {
+                end += 1;
+            }
+            end += 1;
+        }
+        if (end >= this.bytes.length) {
+            throw new JsonException("Unterminated string in JSON text");
+        }
+        this.pos = end + 1;
+        final Object text;
+        if (!decode && end - start > this.longest) {
+            text = new StringSlice(this.bytes, start, end);
+        } else {
+            try {
+                text = this.interning.interned(
+                    StringSlice.decoded(this.bytes, start, end)
+                );
+            } catch (final IllegalArgumentException ex) {
+                throw new JsonException(
+                    String.format("Malformed string at %d", start), ex
+                );
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Number at current position, of the same type as parsed by
+     * {@link ObjectFound}.
+     * @return Number.
+     * @throws JsonException When text is malformed.
+     */
+    private Object number() throws JsonException {
+        final int start = this.pos;
+        while (this.pos < this.bytes.length
+            && Scanner.NUMERIC.indexOf(this.bytes[this.pos]) >= 0) {
+            this.pos += 1;
+        }
+        final Object number;
+        if (this.integral(start)) {
+            number = this.small(start);
+        } else {
+            try {
+                number = new ObjectFound(
+                    Json.createValue(
+                        new BigDecimal(
+                            new String(
+                                this.bytes, start, this.pos - start,
+                                StandardCharsets.ISO_8859_1
+                            )
+                        )
+                    )
+                ).asObject();
+            } catch (final NumberFormatException ex) {
+                this.pos = start;
+                throw this.unexpected();
+            }
+        }
+        return number;
+    }
+
+    /**
+     * Whether number from start to current position is integer short
+     * enough to fit in long.
+     * @param start Start of number.
+     * @return True if it is.
+     */
+    private boolean integral(final int start) {
+        int idx = start;
+        if (idx < this.pos && this.bytes[idx] == '-') {
+            idx += 1;
+        }
+        boolean integral = idx < this.pos && this.pos - idx <= 18;
+        while (integral && idx < this.pos) {
+            integral = this.bytes[idx] >= '0' && this.bytes[idx] <= '9';
+            idx += 1;
+        }
+        return integral;
+    }
+
+    /**
+     * Integer from start to current position, as integer when it fits,
+     * otherwise as long, like {@link ObjectFound} gives.
+     * @param start Start of number.
+     * @return Number.
+     */
+    private Object small(final int start) {
+        long value = 0L;
+        for (int idx = start; idx < this.pos; idx += 1) {
+            if (this.bytes[idx] != '-') {
+                value = value * 10 + this.bytes[idx] - '0';
+            }
+        }
+        if (this.bytes[start] == '-') {
+            value = -value;
+        }
+        final Object number;
+        if (value == (int) value) {
+            number = (int) value;
+        } else {
+            number = value;
+        }
+        return number;
+    }
+
+    /**
+     * Literal at current position.
+     * @param word Literal.
+     * @param value Value of literal.
+     * @return Value.
+     * @throws JsonException When text is malformed.
+     */
+    private Object literal(final String word, final Object value)
+        throws JsonException {
+        for (int idx = 0; idx < word.length(); idx += 1) {
+            if (this.pos >= this.bytes.length
+                || this.bytes[this.pos] != word.charAt(idx)) {
+                throw this.unexpected();
+            }
+            this.pos += 1;
+        }
+        return value;
+    }
+
+    /**
+     * Skips closing character when it is next.
+     * @param closing Closing character.
+     * @return True if skipped.
+     */
+    private boolean next(final char closing) {
+        this.blank();
+        final boolean next = this.pos < this.bytes.length
+            && this.bytes[this.pos] == closing;
+        if (next) {
+            this.pos += 1;
+        }
+        return next;
+    }
+
+    /**
+     * Skips separator or closing character.
+     * @param closing Closing character.
+     * @return True if separator skipped.
+     * @throws JsonException When neither is next.
+     */
+    private boolean separated(final char closing) throws JsonException {
+        final boolean separated = !this.next(closing);
+        if (separated) {
+            this.expect(',');
+        }
+        return separated;
+    }
+
+    /**
+     * Skips expected character.
+     * @param expected Expected character.
+     * @throws JsonException When other is next.
+     */
+    private void expect(final char expected) throws JsonException {
+        if (!this.next(expected)) {
+            throw this.unexpected();
+        }
+    }
+
+    /**
+     * Skips whitespace.
+     */
+    private void blank() {
+        while (this.pos < this.bytes.length
+            && Scanner.SPACES.indexOf(this.bytes[this.pos]) >= 0) {
+            this.pos += 1;
+        }
+    }
+
+    /**
+     * Skips whitespace at the end of text.
+     * @throws JsonException When anything else is left.
+     */
+    private void finish() throws JsonException {
+        this.blank();
+        if (this.pos < this.bytes.length) {
+            throw this.unexpected();
+        }
+    }
+
+    /**
+     * Error of unexpected character at current position.
+     * @return Error.
+     */
+    private JsonException unexpected() {
+        final JsonException error;
+        if (this.pos < this.bytes.length) {
+            error = new JsonException(
+                String.format(
+                    "Unexpected character '%c' at %d",
+                    (char) (this.bytes[this.pos] & 0xff), this.pos
+                )
+            );
+        } else {
+            error = new JsonException("Unexpected end of JSON text");
+        }
+        return error;
+    }
+}
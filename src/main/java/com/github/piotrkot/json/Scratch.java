@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.util.Arrays;
+
+/**
+ * Scratch space of parsing, a stack of attributes and elements of objects
+ * and arrays not finished yet. Finished object or array takes its items
+ * off the stack into storage of exact size. Space grows as needed and is
+ * kept for the next parsing when reused.
+ *
+ * @since 1.9
+ */
+final class Scratch {
+    /**
+     * Names of attributes, null for elements.
+     */
+    private String[] names;
+
+    /**
+     * Values of attributes and elements.
+     */
+    private Object[] values;
+
+    /**
+     * Number of items on stack.
+     */
+    private int top;
+
+    /**
+     * The highest number of items on stack since reset.
+     */
+    private int high;
+
+    /**
+     * Ctor.
+     */
+    Scratch() {
+        this.names = new String[64];
+        this.values = new Object[64];
+    }
+
+    /**
+     * Mark of current top of stack.
+     * @return Mark.
+     */
+    int mark() {
+        return this.top;
+    }
+
+    /**
+     * Pushes item.
+     * @param name Attribute name or null for element.
+     * @param value Value.
+     */
+    void push(final String name, final Object value) {
+        if (this.top == this.values.length) {
+            this.names = Arrays.copyOf(this.names, this.top * 2);
+            this.values = Arrays.copyOf(this.values, this.top * 2);
+        }
+        this.names[this.top] = name;
+        this.values[this.top] = value;
+        this.top += 1;
+        this.high = Math.max(this.high, this.top);
+    }
+
+    /**
+     * Takes attributes above mark off the stack.
+     * @param mark Mark.
+     * @return Attributes.
+     */
+    HashedMap map(final int mark) {
+        final HashedMap map = new HashedMap(this.top - mark);
+        for (int idx = mark; idx < this.top; idx += 1) {
+            map.put(this.names[idx], this.values[idx]);
+        }
+        this.top = mark;
+        return map;
+    }
+
+    /**
+     * Takes elements above mark off the stack.
+     * @param mark Mark.
+     * @param <T> Type of elements.
+     * @return Elements.
+     */
+    @SuppressWarnings("unchecked")
+    <T> HashedList<T> list(final int mark) {
+        final HashedList<T> list = new HashedList<>(this.top - mark);
+        for (int idx = mark; idx < this.top; idx += 1) {
+            list.add((T) this.values[idx]);
+        }
+        this.top = mark;
+        return list;
+    }
+
+    /**
+     * Empties stack, forgetting all items.
+     */
+    void reset() {
+        Arrays.fill(this.names, 0, this.high, null);
+        Arrays.fill(this.values, 0, this.high, null);
+        this.top = 0;
+        this.high = 0;
+    }
+}
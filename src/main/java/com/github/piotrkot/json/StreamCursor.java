@@ -0,0 +1,347 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.regex.Pattern;
+
+/**
+ * Cursor over UTF-8 JSON text read from stream, skipping values it passes
+ * without keeping them. Text is read ahead into buffer.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class StreamCursor implements Closeable {
+    /**
+     * Characters ending numbers and literals.
+     */
+    private static final String ENDING = ",}] \n\r\t";
+
+    /**
+     * Array index of pointer.
+     */
+    private static final Pattern DIGITS = Pattern.compile("0|[1-9][0-9]*");
+
+    /**
+     * Input.
+     */
+    private final InputStream input;
+
+    /**
+     * Bytes read ahead.
+     */
+    private final byte[] buffer;
+
+    /**
+     * Position of the next byte in buffer.
+     */
+    private int pos;
+
+    /**
+     * Number of bytes in buffer.
+     */
+    private int limit;
+
+    /**
+     * Ctor.
+     * @param input Input.
+     */
+    StreamCursor(final InputStream input) {
+        this.input = input;
+        this.buffer = new byte[8192];
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    /**
+     * Reads byte.
+     * @return Byte or -1 at the end.
+     * @throws IOException When fails.
+     */
+    int read() throws IOException {
+        final int read = this.look();
+        if (read >= 0) {
+            this.pos += 1;
+        }
+        return read;
+    }
+
+    /**
+     * Skips whitespace and gives the next byte without reading it.
+     * @return Byte or -1 at the end.
+     * @throws IOException When fails.
+     */
+    int peek() throws IOException {
+        int next = this.look();
+        while (next == ' ' || next == '\n' || next == '\r' || next == '\t') {
+            this.pos += 1;
+            next = this.look();
+        }
+        return next;
+    }
+
+    /**
+     * Reads bytes of string up to quote or backslash, copying them from
+     * buffer at once.
+     * @param bytes Array to read into.
+     * @param off Offset in array.
+     * @param len The largest number of bytes to read.
+     * @return Number of bytes read, zero when quote or backslash is next,
+     *  or -1 at the end.
+     * @throws IOException When fails.
+     */
+    int plain(final byte[] bytes, final int off, final int len)
+        throws IOException {
+        int copied = -1;
+        if (this.look() >= 0) {
+            final int last = Math.min(this.limit, this.pos + len);
+            int end = this.pos;
+            while (end < last && this.buffer[end] != '"'
+                && this.buffer[end] != '\\') {
+                end += 1;
+            }
+            copied = end - this.pos;
+            System.arraycopy(this.buffer, this.pos, bytes, off, copied);
+            this.pos = end;
+        }
+        return copied;
+    }
+
+    /**
+     * Reads expected byte after whitespace.
+     * @param expected Expected byte.
+     * @throws IOException When fails.
+     * @throws JsonException When other byte is next.
+     */
+    void expect(final char expected) throws IOException, JsonException {
+        final int next = this.peek();
+        if (next != expected) {
+            throw new JsonException(
+                String.format("Expected '%c' but got %d", expected, next)
+            );
+        }
+        this.read();
+    }
+
+    /**
+     * Moves to value at reference tokens of JSON pointer.
+     * @param tokens Reference tokens.
+     * @throws IOException When fails.
+     * @throws JsonException When value is not found.
+     */
+    void locate(final Iterable<String> tokens)
+        throws IOException, JsonException {
+        for (final String token : tokens) {
+            if (this.peek() == '{') {
+                this.attribute(token);
+            } else if (this.peek() == '[') {
+                this.element(token);
+            } else {
+                throw new JsonException(
+                    String.format("No value at reference token \"%s\"", token)
+                );
+            }
+        }
+    }
+
+    /**
+     * Skips value.
+     * @throws IOException When fails.
+     * @throws JsonException When text is malformed.
+     */
+    void skip() throws IOException, JsonException {
+        final int next = this.peek();
+        if (next == '{') {
+            this.read();
+            boolean more = this.peek() != '}';
+            while (more) {
+                this.expect('"');
+                this.string();
+                this.expect(':');
+                this.skip();
+                more = this.separated('}');
+            }
+            this.expect('}');
+        } else if (next == '[') {
+            this.read();
+            boolean more = this.peek() != ']';
+            while (more) {
+                this.skip();
+                more = this.separated(']');
+            }
+            this.expect(']');
+        } else if (next == '"') {
+            this.read();
+            this.string();
+        } else {
+            this.scalar();
+        }
+    }
+
+    /**
+     * Moves to attribute of object.
+     * @param name Attribute name.
+     * @throws IOException When fails.
+     * @throws JsonException When attribute is not found.
+     */
+    private void attribute(final String name)
+        throws IOException, JsonException {
+        this.expect('{');
+        boolean more = this.peek() != '}';
+        boolean found = false;
+        while (more && !found) {
+            this.expect('"');
+            found = name.equals(new Unescaped(this).text());
+            this.expect(':');
+            if (!found) {
+                this.skip();
+                more = this.separated('}');
+            }
+        }
+        if (!found) {
+            throw new JsonException(
+                String.format("Attribute name \"%s\" not found", name)
+            );
+        }
+    }
+
+    /**
+     * Moves to element of array.
+     * @param token Index of element.
+     * @throws IOException When fails.
+     * @throws JsonException When element is not found.
+     */
+    private void element(final String token)
+        throws IOException, JsonException {
+        this.expect('[');
+        final int index = StreamCursor.index(token);
+        boolean more = this.peek() != ']';
+        for (int idx = 0; idx < index && more; idx += 1) {
+            this.skip();
+            more = this.separated(']');
+        }
+        if (!more) {
+            throw new JsonException(
+                String.format("No element at index %d", index)
+            );
+        }
+    }
+
+    /**
+     * Index of array element, digits without leading zeros as required
+     * by RFC 6901.
+     * @param token Token of pointer.
+     * @return Index.
+     * @throws JsonException When token is not array index.
+     */
+    private static int index(final String token) throws JsonException {
+        if (!StreamCursor.DIGITS.matcher(token).matches()) {
+            throw new JsonException(
+                String.format("Index \"%s\" is not an array index", token)
+            );
+        }
+        try {
+            return Integer.parseInt(token);
+        } catch (final NumberFormatException ex) {
+            throw new JsonException(
+                String.format("Index \"%s\" is too large", token), ex
+            );
+        }
+    }
+
+    /**
+     * Skips separator unless closing byte is next.
+     * @param closing Closing byte.
+     * @return True if separator skipped.
+     * @throws IOException When fails.
+     * @throws JsonException When neither is next.
+     */
+    private boolean separated(final char closing)
+        throws IOException, JsonException {
+        final boolean separated = this.peek() != closing;
+        if (separated) {
+            this.expect(',');
+        }
+        return separated;
+    }
+
+    /**
+     * Skips rest of string after opening quote.
+     * @throws IOException When fails.
+     * @throws JsonException When string is not terminated.
+     */
+    private void string() throws IOException, JsonException {
+        int next = this.read();
+        while (next != '"') {
+            if (next == '\\') {
+                next = this.read();
+            }
+            if (next < 0) {
+                throw new JsonException("Unterminated string in JSON text");
+            }
+            next = this.read();
+        }
+    }
+
+    /**
+     * Skips number or literal.
+     * @throws IOException When fails.
+     * @throws JsonException When there is none.
+     */
+    private void scalar() throws IOException, JsonException {
+        int next = this.peek();
+        if (next < 0 || StreamCursor.ENDING.indexOf(next) >= 0) {
+            throw new JsonException("Expected value in JSON text");
+        }
+        while (next >= 0 && StreamCursor.ENDING.indexOf(next) < 0) {
+            this.pos += 1;
+            next = this.look();
+        }
+    }
+
+    /**
+     * Gives the next byte without reading it, filling buffer when empty.
+     * @return Byte or -1 at the end.
+     * @throws IOException When fails.
+     */
+    private int look() throws IOException {
+        if (this.pos == this.limit) {
+            this.limit = Math.max(this.input.read(this.buffer), 0);
+            this.pos = 0;
+        }
+        final int next;
+        if (this.pos < this.limit) {
+            next = this.buffer[this.pos] & 0xff;
+        } else {
+            next = -1;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import com.github.piotrkot.json.patch.PointerTokens;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * String value at JSON pointer read from UTF-8 JSON text as a stream,
+ * without materializing it, so that large values such as base64 payloads
+ * are read in constant memory. Text before the value is skipped without
+ * keeping it and text after the value is not read. Each method reads the
+ * input, so only one of them can be used, and closing the stream it gives
+ * closes the input.
+ *
+ * @since 1.9
+ */
+public final class StreamedString {
+    /**
+     * Input of UTF-8 JSON text.
+     */
+    private final InputStream input;
+
+    /**
+     * JSON pointer of string.
+     */
+    private final String pointer;
+
+    /**
+     * Ctor.
+     * @param input Input of UTF-8 JSON text.
+     * @param pointer JSON pointer of string.
+     */
+    public StreamedString(final InputStream input, final String pointer) {
+        this.input = input;
+        this.pointer = pointer;
+    }
+
+    /**
+     * UTF-8 bytes of string with escapes decoded.
+     * @return Bytes.
+     * @throws IOException When reading fails.
+     * @throws JsonException When there is no string at pointer.
+     */
+    public InputStream bytes() throws IOException, JsonException {
+        final StreamCursor cursor = new StreamCursor(this.input);
+        cursor.locate(new PointerTokens(this.pointer).asList());
+        if (cursor.peek() != '"') {
+            throw new JsonException(
+                String.format("Value at \"%s\" is not a string", this.pointer)
+            );
+        }
+        cursor.read();
+        return new Unescaped(cursor);
+    }
+
+    /**
+     * Characters of string.
+     * @return Reader.
+     * @throws IOException When reading fails.
+     * @throws JsonException When there is no string at pointer.
+     */
+    public Reader reader() throws IOException, JsonException {
+        return new InputStreamReader(this.bytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Bytes decoded from base64 string, line breaks allowed.
+     * @return Decoded bytes.
+     * @throws IOException When reading fails.
+     * @throws JsonException When there is no string at pointer.
+     */
+    public InputStream decoded() throws IOException, JsonException {
+        return Base64.getMimeDecoder().wrap(this.bytes());
+    }
+}
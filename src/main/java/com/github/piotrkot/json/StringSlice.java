@@ -0,0 +1,268 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.json.JsonString;
+
+/**
+ * String value pointing at slice of UTF-8 JSON text it was parsed from.
+ * Slice is the escaped text between quotes, it is decoded only when
+ * characters are asked for and written out verbatim by {@link JsonOutput}.
+ * Slice equals other JSON strings of the same characters and keeps the
+ * whole source bytes reachable. Slices stay inside storage of objects,
+ * whose getters and map views give them out decoded as Java strings.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class StringSlice implements CharSequence, JsonString {
+    /**
+     * Characters after backslash of single character escapes.
+     */
+    private static final String ESCAPES = "bfnrt\"\\/";
+
+    /**
+     * Characters of single character escapes.
+     */
+    private static final String ESCAPED = "\b\f\n\r\t\"\\/";
+
+    /**
+     * Source bytes.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Start of slice.
+     */
+    private final int start;
+
+    /**
+     * End of slice, exclusive.
+     */
+    private final int end;
+
+    /**
+     * Decoded characters or null.
+     */
+    private String chars;
+
+    /**
+     * Ctor.
+     * @param bytes Source bytes.
+     * @param start Start of slice.
+     * @param end End of slice, exclusive.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    StringSlice(final byte[] bytes, final int start, final int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return this.toString().length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return this.toString().charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int till) {
+        return this.toString().subSequence(from, till);
+    }
+
+    @Override
+    public String getString() {
+        return this.toString();
+    }
+
+    @Override
+    public CharSequence getChars() {
+        return this;
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.STRING;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        return other instanceof JsonString
+            && this.toString().equals(((JsonString) other).getString());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String text = this.chars;
+        if (text == null) {
+            text = StringSlice.decoded(this.bytes, this.start, this.end);
+            this.chars = text;
+        }
+        return text;
+    }
+
+    /**
+     * Writes slice quoted, as it was in source.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    void writeTo(final OutputStream output) throws IOException {
+        output.write('"');
+        output.write(this.bytes, this.start, this.end - this.start);
+        output.write('"');
+    }
+
+    /**
+     * Value with slice decoded, other values as they are.
+     * @param value Value.
+     * @return Value with slice as Java string.
+     */
+    static Object plain(final Object value) {
+        final Object result;
+        if (value instanceof StringSlice) {
+            result = value.toString();
+        } else {
+            result = value;
+        }
+        return result;
+    }
+
+    /**
+     * Characters of escaped UTF-8 JSON text.
+     * @param bytes Source bytes.
+     * @param start Start of text.
+     * @param end End of text, exclusive.
+     * @return Characters.
+     * @throws IllegalArgumentException When escape is malformed.
+     */
+    static String decoded(final byte[] bytes, final int start,
+        final int end) {
+        int pos = start;
+        while (pos < end && bytes[pos] >= 0x20 && bytes[pos] != '\\') {
+            pos += 1;
+        }
+        final String text;
+        if (pos == end) {
+            text = new String(
+                bytes, start, end - start, StandardCharsets.ISO_8859_1
+            );
+        } else {
+            text = StringSlice.unescaped(bytes, start, end);
+        }
+        return text;
+    }
+
+    /**
+     * Characters of escaped UTF-8 JSON text with escapes.
+     * @param bytes Source bytes.
+     * @param start Start of text.
+     * @param end End of text, exclusive.
+     * @return Characters.
+     * @throws IllegalArgumentException When escape is malformed.
+     */
+    private static String unescaped(final byte[] bytes, final int start,
+        final int end) {
+        final StringBuilder text = new StringBuilder(end - start);
+        int from = start;
+        int pos = start;
+        while (pos < end) {
+            if (bytes[pos] == '\\') {
+                text.append(
+                    new String(bytes, from, pos - from, StandardCharsets.UTF_8)
+                );
+                pos = StringSlice.escape(bytes, pos + 1, end, text);
+                from = pos;
+            } else {
+                pos += 1;
+            }
+        }
+        return text.append(
+            new String(bytes, from, end - from, StandardCharsets.UTF_8)
+        ).toString();
+    }
+
+    /**
+     * Appends character of escape.
+     * @param bytes Source bytes.
+     * @param pos Position after backslash.
+     * @param end End of text, exclusive.
+     * @param text Characters.
+     * @return Position after escape.
+     * @throws IllegalArgumentException When escape is malformed.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static int escape(final byte[] bytes, final int pos,
+        final int end, final StringBuilder text) {
+        if (pos >= end) {
+            throw new IllegalArgumentException("Unfinished escape");
+        }
+        final int simple = StringSlice.ESCAPES.indexOf(bytes[pos]);
+        final int next;
+        if (simple >= 0) {
+            text.append(StringSlice.ESCAPED.charAt(simple));
+            next = pos + 1;
+        } else if (bytes[pos] == 'u' && pos + 5 <= end) {
+            text.append(StringSlice.hex(bytes, pos + 1));
+            next = pos + 5;
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Malformed escape at %d", pos)
+            );
+        }
+        return next;
+    }
+
+    /**
+     * Character of four hex digits of unicode escape.
+     * @param bytes Source bytes.
+     * @param pos Position of the first digit.
+     * @return Character.
+     * @throws IllegalArgumentException When any of them is not hex digit.
+     */
+    private static char hex(final byte[] bytes, final int pos) {
+        int code = 0;
+        for (int idx = pos; idx < pos + 4; idx += 1) {
+            final int digit = Character.digit(bytes[idx], 16);
+            if (digit < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Malformed escape at %d", pos - 1)
+                );
+            }
+            code = code << 4 | digit;
+        }
+        return (char) code;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 bytes of JSON string read from cursor after opening quote, with
+ * escapes decoded, ending at closing quote.
+ *
+ * @since 1.9
+ */
+final class Unescaped extends InputStream {
+    /**
+     * Characters after backslash of single character escapes.
+     */
+    private static final String ESCAPES = "bfnrt\"\\/";
+
+    /**
+     * Characters of single character escapes.
+     */
+    private static final String ESCAPED = "\b\f\n\r\t\"\\/";
+
+    /**
+     * Cursor.
+     */
+    private final StreamCursor cursor;
+
+    /**
+     * Bytes of decoded escape not read yet.
+     */
+    private final byte[] pending;
+
+    /**
+     * Position of the next pending byte.
+     */
+    private int next;
+
+    /**
+     * Number of pending bytes.
+     */
+    private int count;
+
+    /**
+     * Whether closing quote was read.
+     */
+    private boolean ended;
+
+    /**
+     * Ctor.
+     * @param cursor Cursor after opening quote.
+     */
+    Unescaped(final StreamCursor cursor) {
+        super();
+        this.cursor = cursor;
+        this.pending = new byte[4];
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int read;
+        if (this.next < this.count) {
+            read = this.pending[this.next] & 0xff;
+            this.next += 1;
+        } else if (this.ended) {
+            read = -1;
+        } else {
+            read = this.unescaped();
+        }
+        return read;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int off, final int len)
+        throws IOException {
+        int done = 0;
+        boolean more = len > 0;
+        while (more) {
+            final int copied = this.copied(bytes, off + done, len - done);
+            if (copied > 0) {
+                done += copied;
+            } else {
+                final int read = this.read();
+                more = read >= 0;
+                if (more) {
+                    bytes[off + done] = (byte) read;
+                    done += 1;
+                }
+            }
+            more = more && done < len;
+        }
+        final int result;
+        if (done == 0 && len > 0) {
+            result = -1;
+        } else {
+            result = done;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.cursor.close();
+    }
+
+    /**
+     * The whole string.
+     * @return Characters.
+     * @throws IOException When fails.
+     */
+    String text() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final byte[] chunk = new byte[256];
+        int read = this.read(chunk, 0, chunk.length);
+        while (read >= 0) {
+            bytes.write(chunk, 0, read);
+            read = this.read(chunk, 0, chunk.length);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Copies bytes up to escape or closing quote directly from cursor,
+     * unless decoded escape is pending or string ended.
+     * @param bytes Array to read into.
+     * @param off Offset in array.
+     * @param len The largest number of bytes to read.
+     * @return Number of bytes copied, zero or -1 when none.
+     * @throws IOException When fails.
+     */
+    private int copied(final byte[] bytes, final int off, final int len)
+        throws IOException {
+        int copied = 0;
+        if (this.next >= this.count && !this.ended) {
+            copied = this.cursor.plain(bytes, off, len);
+        }
+        return copied;
+    }
+
+    /**
+     * Reads byte from cursor, decoding escape.
+     * @return Byte or -1 at closing quote.
+     * @throws IOException When fails.
+     */
+    private int unescaped() throws IOException {
+        int read = this.cursor.read();
+        if (read < 0) {
+            throw new IOException("Unterminated string in JSON text");
+        }
+        if (read == '"') {
+            this.ended = true;
+            read = -1;
+        } else if (read == '\\') {
+            read = this.escape();
+        }
+        return read;
+    }
+
+    /**
+     * Decodes escape after backslash.
+     * @return The first byte of escaped character.
+     * @throws IOException When escape is malformed.
+     */
+    private int escape() throws IOException {
+        final int read = this.cursor.read();
+        final int simple = Unescaped.ESCAPES.indexOf(read);
+        final int result;
+        if (simple >= 0) {
+            result = Unescaped.ESCAPED.charAt(simple);
+        } else if (read == 'u') {
+            final byte[] utf = new String(Character.toChars(this.unicode()))
+                .getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(utf, 1, this.pending, 0, utf.length - 1);
+            this.next = 0;
+            this.count = utf.length - 1;
+            result = utf[0] & 0xff;
+        } else {
+            throw new IOException(
+                String.format("Malformed escape \\%c in JSON string", read)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Reads code point of unicode escape, with low surrogate escape
+     * following high surrogate one.
+     * @return Code point.
+     * @throws IOException When escape is malformed.
+     */
+    private int unicode() throws IOException {
+        int code = this.hex();
+        if (Character.isLowSurrogate((char) code)) {
+            throw new IOException("Unpaired surrogate in JSON string");
+        }
+        if (Character.isHighSurrogate((char) code)) {
+            code = Character.toCodePoint((char) code, this.low());
+        }
+        return code;
+    }
+
+    /**
+     * Reads low surrogate escape following high surrogate one.
+     * @return Low surrogate.
+     * @throws IOException When escape is not low surrogate.
+     */
+    private char low() throws IOException {
+        if (this.cursor.read() != '\\' || this.cursor.read() != 'u') {
+            throw new IOException("Unpaired surrogate in JSON string");
+        }
+        final char low = (char) this.hex();
+        if (!Character.isLowSurrogate(low)) {
+            throw new IOException("Unpaired surrogate in JSON string");
+        }
+        return low;
+    }
+
+    /**
+     * Reads four hex digits.
+     * @return Character code.
+     * @throws IOException When digits are malformed.
+     */
+    private int hex() throws IOException {
+        int code = 0;
+        for (int idx = 0; idx < 4; idx += 1) {
+            final int digit = Character.digit(this.cursor.read(), 16);
+            if (digit < 0) {
+                throw new IOException("Malformed \\u escape in JSON string");
+            }
+            code = code << 4 | digit;
+        }
+        return code;
+    }
+}
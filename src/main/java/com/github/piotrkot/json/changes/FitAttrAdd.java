@@ -24,16 +24,23 @@
 package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Joined;
+import com.github.piotrkot.json.TrackedFit;
+import com.github.piotrkot.json.patch.Pointer;
 
 /**
  * Make it fit by adding attribute when there is no.
  *
  * @since 1.0
  */
-public final class FitAttrAdd extends FitCond<JsonObj> {
+public final class FitAttrAdd extends FitCond<JsonObj>
+    implements TrackedFit<JsonObj> {
+    /**
+     * Attribute to add.
+     */
+    private final Attr<?> attr;
+
     /**
      * Ctor.
      * @param attr Attribute to add.
@@ -41,12 +48,22 @@ public final class FitAttrAdd extends FitCond<JsonObj> {
     public FitAttrAdd(final Attr<?> attr) {
         super(
             json -> !json.contains(attr.name()),
-            json -> new JsonObj(
-                new Joined<Attr<?>>(
-                    json.attributes(),
-                    new IterableOf<>(attr)
-                )
-            )
+            json -> new Rebuilt(attr.name()).with(json, attr)
         );
+        this.attr = attr;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        final JsonObj result;
+        if (input.contains(this.attr.name())) {
+            result = input;
+        } else {
+            result = new Rebuilt(this.attr.name()).with(input, this.attr);
+            journal.add(
+                new Pointer(this.attr.name()).asString(), this.attr.value()
+            );
+        }
+        return result;
     }
 }
@@ -23,27 +23,41 @@
  */
 package com.github.piotrkot.json.changes;
 
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
-import org.cactoos.iterable.Filtered;
+import com.github.piotrkot.json.TrackedFit;
+import com.github.piotrkot.json.patch.Pointer;
 
 /**
  * Make it fit by deleting attribute when there is one.
  *
  * @since 1.0
  */
-public final class FitAttrDel extends FitUncond<JsonObj> {
+public final class FitAttrDel extends FitUncond<JsonObj>
+    implements TrackedFit<JsonObj> {
+    /**
+     * Attribute's name to delete.
+     */
+    private final String name;
+
     /**
      * Ctor.
      * @param name Attribute's name to delete.
      */
     public FitAttrDel(final String name) {
-        super(
-            json -> new JsonObj(
-                new Filtered<>(
-                    attr -> !attr.name().equals(name),
-                    json.attributes()
-                )
-            )
-        );
+        super(json -> new Rebuilt(name).without(json));
+        this.name = name;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        final JsonObj result;
+        if (input.contains(this.name)) {
+            result = new Rebuilt(this.name).without(input);
+            journal.remove(new Pointer(this.name).asString());
+        } else {
+            result = input;
+        }
+        return result;
     }
 }
@@ -24,16 +24,17 @@
 package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Condition;
-import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
-import org.cactoos.iterable.Filtered;
+import com.github.piotrkot.json.TrackedFit;
+import com.github.piotrkot.json.patch.Pointer;
 
 /**
  * Make it fit by deleting attribute under given condition.
  * @param <T> Type of attribute.
  * @since 1.0
  */
-public final class FitAttrDelCond<T> implements Fit<JsonObj> {
+public final class FitAttrDelCond<T> implements TrackedFit<JsonObj> {
     /**
      * Attribute's name to delete.
      */
@@ -56,16 +57,13 @@ public final class FitAttrDelCond<T> implements Fit<JsonObj> {
     }
 
     @Override
-    public JsonObj make(final JsonObj input) throws Exception {
+    public JsonObj make(final JsonObj input, final Journal journal)
+        throws Exception {
         final JsonObj result;
         if (input.contains(this.name)
             && this.cond.test(input.<T>get(this.name))) {
-            result = new JsonObj(
-                new Filtered<>(
-                    attr -> !attr.name().equals(this.name),
-                    input.attributes()
-                )
-            );
+            result = new Rebuilt(this.name).without(input);
+            journal.remove(new Pointer(this.name).asString());
         } else {
             result = input;
         }
@@ -24,17 +24,29 @@
 package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
-import org.cactoos.iterable.Filtered;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Joined;
+import com.github.piotrkot.json.TrackedFit;
+import com.github.piotrkot.json.patch.Pointer;
+import java.util.Objects;
 
 /**
  * Make it fit by replacing attribute.
  *
  * @since 1.0
  */
-public final class FitAttrRepl extends FitCond<JsonObj> {
+public final class FitAttrRepl extends FitCond<JsonObj>
+    implements TrackedFit<JsonObj> {
+    /**
+     * Name of attribute to be replaced.
+     */
+    private final String name;
+
+    /**
+     * New attribute.
+     */
+    private final Attr<?> attr;
+
     /**
      * Ctor.
      * @param name Attribute with given name to be replaced.
@@ -43,15 +55,41 @@ public final class FitAttrRepl extends FitCond<JsonObj> {
     public FitAttrRepl(final String name, final Attr<?> attr) {
         super(
             json -> json.contains(name),
-            json -> new JsonObj(
-                new Joined<Attr<?>>(
-                    new Filtered<>(
-                        attrb -> !attrb.name().equals(name),
-                        json.attributes()
-                    ),
-                    new IterableOf<>(attr)
-                )
-            )
+            json -> new Rebuilt(name).with(json, attr)
         );
+        this.name = name;
+        this.attr = attr;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        final JsonObj result;
+        if (input.contains(this.name)) {
+            result = new Rebuilt(this.name).with(input, this.attr);
+            this.record(input, journal);
+        } else {
+            result = input;
+        }
+        return result;
+    }
+
+    /**
+     * Records replacement as the simplest operations.
+     * @param input Input before replacement.
+     * @param journal Journal of changes.
+     */
+    private void record(final JsonObj input, final Journal journal) {
+        final String from = new Pointer(this.name).asString();
+        final String path = new Pointer(this.attr.name()).asString();
+        if (this.name.equals(this.attr.name())) {
+            journal.replace(path, this.attr.value());
+        } else if (Objects.equals(
+            input.value().get(this.name), this.attr.value()
+        )) {
+            journal.move(from, path);
+        } else {
+            journal.remove(from);
+            journal.add(path, this.attr.value());
+        }
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonObj;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fit with results cached by content hash of input.
+ * The decorated fit must be deterministic. Cache is bounded in size,
+ * evicts least recently used results and is split into independently
+ * locked segments, so that concurrent callers rarely wait for each other.
+ * Small caches have fewer segments, at most one per cached result, and
+ * capacity is shared among segments exactly.
+ *
+ * @since 1.9
+ */
+public final class FitCached implements Fit<JsonObj> {
+    /**
+     * Default number of cached results.
+     */
+    private static final int CAPACITY = 1024;
+
+    /**
+     * The largest number of segments.
+     */
+    private static final int STRIPES = 16;
+
+    /**
+     * Fit to cache.
+     */
+    private final Fit<JsonObj> fit;
+
+    /**
+     * Cache segments.
+     */
+    private final LruMap<Long, JsonObj[]>[] parts;
+
+    /**
+     * Counter of cache hits.
+     */
+    private final LongAdder hit;
+
+    /**
+     * Counter of cache misses.
+     */
+    private final LongAdder miss;
+
+    /**
+     * Counter of evicted results.
+     */
+    private final LongAdder evicted;
+
+    /**
+     * Ctor.
+     * @param fit Fit to cache.
+     */
+    public FitCached(final Fit<JsonObj> fit) {
+        this(fit, FitCached.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param fit Fit to cache.
+     * @param capacity Maximum number of cached results, at least one.
+     */
+    public FitCached(final Fit<JsonObj> fit, final int capacity) {
+        this(fit, capacity, new LongAdder());
+    }
+
+    /**
+     * Ctor.
+     * @param fit Fit to cache.
+     * @param capacity Maximum number of cached results.
+     * @param evictions Counter of evicted results.
+     */
+    private FitCached(final Fit<JsonObj> fit, final int capacity,
+        final LongAdder evictions) {
+        this.fit = fit;
+        this.parts = FitCached.split(capacity, evictions);
+        this.hit = new LongAdder();
+        this.miss = new LongAdder();
+        this.evicted = evictions;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input) throws Exception {
+        final long key = input.contentHash();
+        final int idx = (int) (key ^ key >>> 32) & this.parts.length - 1;
+        final LruMap<Long, JsonObj[]> segment = this.parts[idx];
+        JsonObj[] memo;
+        synchronized (segment) {
+            memo = segment.get(key);
+        }
+        final JsonObj result;
+        if (memo != null && memo[0].equals(input)) {
+            this.hit.increment();
+            result = memo[1];
+        } else {
+            this.miss.increment();
+            result = this.fit.make(input);
+            memo = new JsonObj[] {input, result};
+            synchronized (segment) {
+                segment.put(key, memo);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of results taken from cache.
+     * @return Number of hits.
+     */
+    public long hits() {
+        return this.hit.sum();
+    }
+
+    /**
+     * Number of results made by the fit.
+     * @return Number of misses.
+     */
+    public long misses() {
+        return this.miss.sum();
+    }
+
+    /**
+     * Number of results evicted from cache.
+     * @return Number of evictions.
+     */
+    public long evictions() {
+        return this.evicted.sum();
+    }
+
+    /**
+     * Creates cache segments sharing capacity. Number of segments is
+     * a power of two not larger than capacity.
+     * @param capacity Maximum number of cached results.
+     * @param evictions Counter of evicted results.
+     * @return Segments.
+     * @throws IllegalArgumentException When capacity is less than one.
+     */
+    private static LruMap<Long, JsonObj[]>[] split(final int capacity,
+        final LongAdder evictions) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                String.format("Capacity %d is less than one", capacity)
+            );
+        }
+        final LruMap<Long, JsonObj[]>[] segments = FitCached.segments(
+            Integer.highestOneBit(Math.min(capacity, FitCached.STRIPES))
+        );
+        for (int idx = 0; idx < segments.length; idx += 1) {
+            segments[idx] = new LruMap<>(
+                (capacity + segments.length - 1 - idx) / segments.length,
+                evictions
+            );
+        }
+        return segments;
+    }
+
+    /**
+     * Empty array of cache segments.
+     * @param count Number of segments.
+     * @return Segments.
+     */
+    @SuppressWarnings("unchecked")
+    private static LruMap<Long, JsonObj[]>[] segments(final int count) {
+        return (LruMap<Long, JsonObj[]>[]) new LruMap<?, ?>[count];
+    }
+}
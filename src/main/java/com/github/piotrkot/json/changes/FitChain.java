@@ -24,6 +24,8 @@
 package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.TrackedFit;
 import java.util.Arrays;
 
 /**
@@ -32,7 +34,7 @@ import java.util.Arrays;
  * @param <T> Type of input.
  * @since 1.0
  */
-public final class FitChain<T> implements Fit<T> {
+public final class FitChain<T> implements TrackedFit<T> {
     /**
      * Fits to be applied.
      */
@@ -63,4 +65,13 @@ public final class FitChain<T> implements Fit<T> {
         }
         return result;
     }
+
+    @Override
+    public T make(final T input, final Journal journal) throws Exception {
+        T result = input;
+        for (final Fit<T> fit : this.fits) {
+            result = new FitTracked<>(fit).make(result, journal);
+        }
+        return result;
+    }
 }
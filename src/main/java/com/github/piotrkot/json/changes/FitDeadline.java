@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.TrackedFit;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Apply all fits within time budget.
+ * The budget is checked between steps. Once it is exhausted, steps
+ * wrapped in {@link FitOptional} are skipped and the first required step
+ * aborts the fit with {@link DeadlineException} naming the step that
+ * exhausted the budget, or -1 when it was exhausted before the first step,
+ * as with zero budget. A running step is never interrupted.
+ *
+ * @param <T> Type of input.
+ * @since 1.9
+ */
+public final class FitDeadline<T> implements TrackedFit<T> {
+    /**
+     * Time budget in nanoseconds.
+     */
+    private final long budget;
+
+    /**
+     * Fits to be applied.
+     */
+    private final Iterable<Fit<T>> fits;
+
+    /**
+     * Ctor.
+     * @param budget Time budget.
+     * @param fits Fits collection.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public FitDeadline(final Duration budget, final Fit<T>... fits) {
+        this(budget, Arrays.asList(fits));
+    }
+
+    /**
+     * Ctor.
+     * @param budget Time budget.
+     * @param fits Fits collection.
+     */
+    public FitDeadline(final Duration budget, final Iterable<Fit<T>> fits) {
+        this.budget = budget.toNanos();
+        this.fits = fits;
+    }
+
+    @Override
+    public T make(final T input, final Journal journal) throws Exception {
+        final long start = System.nanoTime();
+        T result = input;
+        int index = 0;
+        int last = -1;
+        int blown = -1;
+        boolean exhausted = false;
+        for (final Fit<T> fit : this.fits) {
+            final long elapsed = System.nanoTime() - start;
+            if (!exhausted && elapsed >= this.budget) {
+                exhausted = true;
+                blown = last;
+            }
+            if (exhausted) {
+                FitDeadline.skipped(fit, blown, elapsed, index, this.budget);
+            } else {
+                result = new FitTracked<>(fit).make(result, journal);
+                last = index;
+            }
+            index += 1;
+        }
+        return result;
+    }
+
+    /**
+     * Skips step after budget is exhausted, unless step is required.
+     * @param fit Step.
+     * @param blown Index of step that exhausted the budget.
+     * @param elapsed Nanoseconds elapsed before step.
+     * @param index Index of step.
+     * @param budget Time budget in nanoseconds.
+     * @param <T> Type of input.
+     * @throws DeadlineException When step is required.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static <T> void skipped(final Fit<T> fit, final int blown,
+        final long elapsed, final int index, final long budget)
+        throws DeadlineException {
+        if (!(fit instanceof FitOptional)) {
+            throw new DeadlineException(
+                blown,
+                String.format(
+                    // @checkstyle StringLiteralsConcatenationCheck (2 lines)
+                    "Budget of %d ns exhausted by step %d, "
+                        + "%d ns elapsed before step %d",
+                    budget, blown, elapsed, index
+                )
+            );
+        }
+    }
+}
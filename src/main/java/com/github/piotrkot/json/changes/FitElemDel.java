@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Condition;
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonArr;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deletion of array elements satisfying condition.
+ * Arrays larger than the threshold are split and the condition is tested
+ * in parallel in the common fork-join pool, so it must be thread-safe.
+ * The result is computed once, on making the fit.
+ *
+ * @param <T> Type of elements.
+ * @since 1.9
+ */
+public final class FitElemDel<T> implements Fit<JsonArr<T>> {
+    /**
+     * Condition of elements to delete.
+     */
+    private final Condition<T> cond;
+
+    /**
+     * Number of elements tested sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Ctor.
+     * @param cond Condition of elements to delete.
+     */
+    public FitElemDel(final Condition<T> cond) {
+        this(cond, Slices.THRESHOLD);
+    }
+
+    /**
+     * Ctor.
+     * @param cond Condition of elements to delete.
+     * @param threshold Number of elements tested sequentially, at least
+     *  one.
+     */
+    public FitElemDel(final Condition<T> cond, final int threshold) {
+        this.cond = cond;
+        this.threshold = Slices.valid(threshold);
+    }
+
+    @Override
+    public JsonArr<T> make(final JsonArr<T> input) throws Exception {
+        final List<T> elems = input.value();
+        final boolean[] deleted = new boolean[elems.size()];
+        new Slices(deleted.length, this.threshold).apply(
+            idx -> deleted[idx] = this.cond.test(elems.get(idx))
+        );
+        final List<T> result = new ArrayList<>(deleted.length);
+        for (int idx = 0; idx < deleted.length; idx += 1) {
+            if (!deleted[idx]) {
+                result.add(elems.get(idx));
+            }
+        }
+        return new JsonArr<>(result);
+    }
+}
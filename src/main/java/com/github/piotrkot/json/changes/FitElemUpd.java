@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonArr;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fit made to every element of array.
+ * Arrays larger than the threshold are split and elements are made fit
+ * in parallel in the common fork-join pool, so the element fit must be
+ * thread-safe. The result is computed once, on making the fit.
+ *
+ * @param <T> Type of elements.
+ * @since 1.9
+ */
+public final class FitElemUpd<T> implements Fit<JsonArr<T>> {
+    /**
+     * Fit of element.
+     */
+    private final Fit<T> fit;
+
+    /**
+     * Number of elements made fit sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Ctor.
+     * @param fit Fit of element.
+     */
+    public FitElemUpd(final Fit<T> fit) {
+        this(fit, Slices.THRESHOLD);
+    }
+
+    /**
+     * Ctor.
+     * @param fit Fit of element.
+     * @param threshold Number of elements made fit sequentially, at least
+     *  one.
+     */
+    public FitElemUpd(final Fit<T> fit, final int threshold) {
+        this.fit = fit;
+        this.threshold = Slices.valid(threshold);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonArr<T> make(final JsonArr<T> input) throws Exception {
+        final List<T> elems = input.value();
+        final Object[] result = new Object[elems.size()];
+        new Slices(result.length, this.threshold).apply(
+            idx -> result[idx] = this.fit.make(elems.get(idx))
+        );
+        return new JsonArr<>((List<T>) Arrays.asList(result));
+    }
+}
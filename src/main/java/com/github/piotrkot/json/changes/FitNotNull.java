@@ -23,9 +23,11 @@
  */
 package com.github.piotrkot.json.changes;
 
-import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
-import org.cactoos.iterable.Filtered;
+import com.github.piotrkot.json.JsonObjBuilder;
+import com.github.piotrkot.json.TrackedFit;
+import com.github.piotrkot.json.patch.Pointer;
 
 /**
  * Make it fit by removing all attributes that have null values.
@@ -33,14 +35,19 @@ import org.cactoos.iterable.Filtered;
  *
  * @since 1.0
  */
-public final class FitNotNull implements Fit<JsonObj> {
+public final class FitNotNull implements TrackedFit<JsonObj> {
     @Override
-    public JsonObj make(final JsonObj input) throws Exception {
-        return new JsonObj(
-            new Filtered<>(
-                attr -> attr.value() != null,
-                input.attributes()
-            )
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        final JsonObjBuilder builder = new JsonObjBuilder(input.size());
+        input.forEach(
+            (key, val) -> {
+                if (val == null) {
+                    journal.remove(new Pointer(key).asString());
+                } else {
+                    builder.add(key, val);
+                }
+            }
         );
+        return builder.freeze();
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.TrackedFit;
+
+/**
+ * Fit skipped by {@link FitDeadline} once time budget is exhausted.
+ *
+ * @param <T> Type of input.
+ * @since 1.9
+ */
+public final class FitOptional<T> implements TrackedFit<T> {
+    /**
+     * Fit to make.
+     */
+    private final Fit<T> fit;
+
+    /**
+     * Ctor.
+     * @param fit Fit to make.
+     */
+    public FitOptional(final Fit<T> fit) {
+        this.fit = fit;
+    }
+
+    @Override
+    public T make(final T input, final Journal journal) throws Exception {
+        return new FitTracked<>(this.fit).make(input, journal);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.PlainValue;
+import com.github.piotrkot.json.TrackedFit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fit chosen by value of discriminator attribute.
+ * The attribute is read once and the fit is looked up by its value,
+ * so the cost does not depend on the number of routes. Objects without
+ * the attribute or with value not routed are made fit by default fit.
+ *
+ * @since 1.9
+ */
+public final class FitRouted implements TrackedFit<JsonObj> {
+    /**
+     * Discriminator attribute name.
+     */
+    private final String name;
+
+    /**
+     * Fits by discriminator value.
+     */
+    private final Map<Object, Fit<JsonObj>> routes;
+
+    /**
+     * Default fit.
+     */
+    private final Fit<JsonObj> fallback;
+
+    /**
+     * Ctor. Objects not routed are left unchanged.
+     * @param name Discriminator attribute name.
+     * @param routes Fits by discriminator value.
+     */
+    public FitRouted(final String name,
+        final Map<?, Fit<JsonObj>> routes) {
+        this(name, routes, input -> input);
+    }
+
+    /**
+     * Ctor.
+     * @param name Discriminator attribute name.
+     * @param routes Fits by discriminator value.
+     * @param fallback Default fit.
+     */
+    public FitRouted(final String name, final Map<?, Fit<JsonObj>> routes,
+        final Fit<JsonObj> fallback) {
+        this.name = name;
+        this.routes = new HashMap<>(routes);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal)
+        throws Exception {
+        return new FitTracked<>(
+            this.routes.getOrDefault(
+                new PlainValue(input.value().get(this.name)).value(),
+                this.fallback
+            )
+        ).make(input, journal);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.JournalNone;
+import com.github.piotrkot.json.TrackedFit;
+
+/**
+ * Fit with changes recorded into a journal.
+ * Fits that do not track changes themselves are recorded as replacement
+ * of the whole document when they change it, which is not checked when
+ * the journal records nothing.
+ *
+ * @param <T> Type of input.
+ * @since 1.9
+ */
+public final class FitTracked<T> implements TrackedFit<T> {
+    /**
+     * Fit to track.
+     */
+    private final Fit<T> fit;
+
+    /**
+     * Ctor.
+     * @param fit Fit to track.
+     */
+    public FitTracked(final Fit<T> fit) {
+        this.fit = fit;
+    }
+
+    @Override
+    public T make(final T input, final Journal journal) throws Exception {
+        final T result;
+        if (this.fit instanceof TrackedFit) {
+            result = ((TrackedFit<T>) this.fit).make(input, journal);
+        } else {
+            result = this.fit.make(input);
+            if (!(journal instanceof JournalNone) && !result.equals(input)) {
+                journal.replace("", result);
+            }
+        }
+        return result;
+    }
+}
@@ -24,17 +24,23 @@
 package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
-import org.cactoos.iterable.Filtered;
-import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Joined;
+import com.github.piotrkot.json.TrackedFit;
+import com.github.piotrkot.json.patch.Pointer;
 
 /**
  * Make it fit by updating value for attribute.
  *
  * @since 1.0
  */
-public final class FitValUpd extends FitCond<JsonObj> {
+public final class FitValUpd extends FitCond<JsonObj>
+    implements TrackedFit<JsonObj> {
+    /**
+     * Attribute with new value.
+     */
+    private final Attr<?> attr;
+
     /**
      * Ctor.
      * @param name Attribute name.
@@ -42,17 +48,32 @@ public final class FitValUpd extends FitCond<JsonObj> {
      * @param <T> Type of updated value.
      */
     public <T> FitValUpd(final String name, final T val) {
+        this(new Attr<>(name, val));
+    }
+
+    /**
+     * Ctor.
+     * @param attr Attribute with new value.
+     */
+    private FitValUpd(final Attr<?> attr) {
         super(
-            json -> json.contains(name),
-            json -> new JsonObj(
-                new Joined<Attr<?>>(
-                    new Filtered<>(
-                        attr -> !attr.name().equals(name),
-                        json.attributes()
-                    ),
-                    new IterableOf<>(new Attr<>(name, val))
-                )
-            )
+            json -> json.contains(attr.name()),
+            json -> new Rebuilt(attr.name()).with(json, attr)
         );
+        this.attr = attr;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        final JsonObj result;
+        if (input.contains(this.attr.name())) {
+            result = new Rebuilt(this.attr.name()).with(input, this.attr);
+            journal.replace(
+                new Pointer(this.attr.name()).asString(), this.attr.value()
+            );
+        } else {
+            result = input;
+        }
+        return result;
     }
 }
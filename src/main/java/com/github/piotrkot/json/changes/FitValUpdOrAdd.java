@@ -24,14 +24,32 @@
 package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
 import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.TrackedFit;
 
 /**
  * Make it fit by updating value for attribute or adding the attribute when missing.
  *
  * @since 1.0
  */
-public final class FitValUpdOrAdd extends FitCondElse<JsonObj> {
+public final class FitValUpdOrAdd extends FitCondElse<JsonObj>
+    implements TrackedFit<JsonObj> {
+    /**
+     * Attribute name.
+     */
+    private final String name;
+
+    /**
+     * Fit updating value.
+     */
+    private final FitValUpd upd;
+
+    /**
+     * Fit adding attribute.
+     */
+    private final FitAttrAdd add;
+
     /**
      * Ctor.
      * @param name Attribute name.
@@ -39,12 +57,34 @@ public final class FitValUpdOrAdd extends FitCondElse<JsonObj> {
      * @param <T> Type of updated value.
      */
     public <T> FitValUpdOrAdd(final String name, final T val) {
-        super(
-            json -> json.contains(name),
-            json -> new FitValUpd(name, val).make(json),
-            json -> new FitAttrAdd(
-                new Attr<>(name, val)
-            ).make(json)
+        this(
+            name, new FitValUpd(name, val),
+            new FitAttrAdd(new Attr<>(name, val))
         );
     }
+
+    /**
+     * Ctor.
+     * @param name Attribute name.
+     * @param upd Fit updating value.
+     * @param add Fit adding attribute.
+     */
+    private FitValUpdOrAdd(final String name, final FitValUpd upd,
+        final FitAttrAdd add) {
+        super(json -> json.contains(name), upd::make, add::make);
+        this.name = name;
+        this.upd = upd;
+        this.add = add;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        final JsonObj result;
+        if (input.contains(this.name)) {
+            result = this.upd.make(input, journal);
+        } else {
+            result = this.add.make(input, journal);
+        }
+        return result;
+    }
 }
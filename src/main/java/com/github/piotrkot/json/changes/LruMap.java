@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Map bounded in size evicting least recently used entries.
+ * It is not thread-safe.
+ *
+ * @param <K> Type of keys.
+ * @param <V> Type of values.
+ * @since 1.9
+ * @checkstyle IllegalTypeCheck (3 lines)
+ */
+final class LruMap<K, V> extends LinkedHashMap<K, V> {
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 3489163620845237621L;
+
+    /**
+     * Maximum number of entries.
+     */
+    private final int capacity;
+
+    /**
+     * Counter of evicted entries.
+     */
+    private final transient LongAdder evictions;
+
+    /**
+     * Ctor.
+     * @param capacity Maximum number of entries.
+     * @param evictions Counter of evicted entries.
+     */
+    LruMap(final int capacity, final LongAdder evictions) {
+        super(capacity * 4 / 3 + 1, 0.75f, true);
+        this.capacity = capacity;
+        this.evictions = evictions;
+    }
+
+    // @checkstyle ProtectedMethodInFinalClassCheck (2 lines)
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        final boolean evict = this.size() > this.capacity;
+        if (evict) {
+            this.evictions.increment();
+        }
+        return evict;
+    }
+}
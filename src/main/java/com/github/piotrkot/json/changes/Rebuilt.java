@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonObjBuilder;
+
+/**
+ * Object rebuilt without attribute of given name.
+ *
+ * @since 1.9
+ */
+final class Rebuilt {
+    /**
+     * Name of attribute left out.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     * @param name Name of attribute left out.
+     */
+    Rebuilt(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Object without attribute.
+     * @param input Input object.
+     * @return Object without attribute.
+     */
+    JsonObj without(final JsonObj input) {
+        return this.copied(input, input.size()).freeze();
+    }
+
+    /**
+     * Object without attribute and with other attribute appended.
+     * @param input Input object.
+     * @param attr Attribute appended.
+     * @return Object with attribute.
+     */
+    JsonObj with(final JsonObj input, final Attr<?> attr) {
+        return this.copied(input, input.size() + 1).add(attr).freeze();
+    }
+
+    /**
+     * Builder with attributes of object but the one left out.
+     * @param input Input object.
+     * @param capacity Expected number of attributes.
+     * @return Builder.
+     */
+    private JsonObjBuilder copied(final JsonObj input, final int capacity) {
+        final JsonObjBuilder builder = new JsonObjBuilder(capacity);
+        input.forEach(
+            (key, val) -> {
+                if (!key.equals(this.name)) {
+                    builder.add(key, val);
+                }
+            }
+        );
+        return builder;
+    }
+}
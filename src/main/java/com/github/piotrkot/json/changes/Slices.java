@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Indices processed in slices. Slices above the threshold are split
+ * in halves and processed in the common fork-join pool.
+ *
+ * @since 1.9
+ */
+final class Slices {
+    /**
+     * Default number of indices processed sequentially.
+     */
+    static final int THRESHOLD = 1024;
+
+    /**
+     * Number of indices.
+     */
+    private final int size;
+
+    /**
+     * Number of indices processed sequentially.
+     */
+    private final int threshold;
+
+    /**
+     * Ctor.
+     * @param size Number of indices.
+     * @param threshold Number of indices processed sequentially.
+     */
+    Slices(final int size, final int threshold) {
+        this.size = size;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Validated number of indices processed sequentially.
+     * @param threshold Number of indices processed sequentially.
+     * @return The same number.
+     * @throws IllegalArgumentException When it is less than one.
+     */
+    static int valid(final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException(
+                String.format("Threshold %d is less than one", threshold)
+            );
+        }
+        return threshold;
+    }
+
+    /**
+     * Applies step to every index.
+     * @param step Step.
+     * @throws Exception When any step fails.
+     */
+    void apply(final Step step) throws Exception {
+        if (this.size > this.threshold) {
+            final AtomicReference<Exception> error = new AtomicReference<>();
+            ForkJoinPool.commonPool().invoke(
+                new Slice(step, error, this.threshold, 0, this.size)
+            );
+            if (error.get() != null) {
+                throw error.get();
+            }
+        } else {
+            for (int idx = 0; idx < this.size; idx += 1) {
+                step.apply(idx);
+            }
+        }
+    }
+
+    /**
+     * Step applied to index.
+     *
+     * @since 1.9
+     */
+    interface Step {
+        /**
+         * Applies step.
+         * @param idx Index.
+         * @throws Exception When fails.
+         */
+        void apply(int idx) throws Exception;
+    }
+
+    /**
+     * Slice of indices.
+     *
+     * @since 1.9
+     */
+    private static final class Slice extends RecursiveAction {
+        /**
+         * Serial version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Step.
+         */
+        private final transient Step step;
+
+        /**
+         * First failure.
+         */
+        private final AtomicReference<Exception> error;
+
+        /**
+         * Number of indices processed sequentially.
+         */
+        private final int threshold;
+
+        /**
+         * First index.
+         */
+        private final int from;
+
+        /**
+         * Index after the last one.
+         */
+        private final int upto;
+
+        /**
+         * Ctor.
+         * @param step Step.
+         * @param error First failure.
+         * @param threshold Number of indices processed sequentially.
+         * @param from First index.
+         * @param upto Index after the last one.
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Slice(final Step step, final AtomicReference<Exception> error,
+            final int threshold, final int from, final int upto) {
+            super();
+            this.step = step;
+            this.error = error;
+            this.threshold = threshold;
+            this.from = from;
+            this.upto = upto;
+        }
+
+        // @checkstyle ProtectedMethodInFinalClassCheck (2 lines)
+        @Override
+        protected void compute() {
+            final int length = this.upto - this.from;
+            if (length > this.threshold && length > 1) {
+                final int mid = (this.from + this.upto) >>> 1;
+                RecursiveAction.invokeAll(
+                    new Slice(
+                        this.step, this.error, this.threshold, this.from, mid
+                    ),
+                    new Slice(
+                        this.step, this.error, this.threshold, mid, this.upto
+                    )
+                );
+            } else {
+                this.sequential();
+            }
+        }
+
+        /**
+         * Applies step to indices of this slice one after another.
+         * Stops at first failure of any slice.
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void sequential() {
+            try {
+                for (int idx = this.from; idx < this.upto; idx += 1) {
+                    if (this.error.get() != null) {
+                        break;
+                    }
+                    this.step.apply(idx);
+                }
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                this.error.compareAndSet(null, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * Indexes of object collection answering attribute queries.
+ * Objects are identified by their position in the collection.
+ *
+ * @since 1.9
+ */
+public interface Candidates {
+    /**
+     * Objects with value equal to given one.
+     * @param path JSON pointer of value.
+     * @param value Value.
+     * @return Positions of objects or empty when path is not indexed.
+     */
+    Optional<BitSet> equal(String path, Object value);
+
+    /**
+     * Objects with numeric value within inclusive bounds.
+     * @param path JSON pointer of value.
+     * @param min Lower bound.
+     * @param max Upper bound.
+     * @return Positions of objects or empty when path is not indexed.
+     */
+    Optional<BitSet> range(String path, double min, double max);
+}
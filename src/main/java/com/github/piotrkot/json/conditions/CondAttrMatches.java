@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Condition;
+import com.github.piotrkot.json.JsonObj;
+import java.util.regex.Pattern;
+
+/**
+ * Condition satisfied when object has string attribute matching regular
+ * expression.
+ *
+ * @since 1.9
+ */
+public final class CondAttrMatches implements Condition<JsonObj> {
+    /**
+     * Attribute name.
+     */
+    private final String name;
+
+    /**
+     * Pattern to match.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Ctor.
+     * @param name Attribute name.
+     * @param regex Regular expression to match.
+     */
+    public CondAttrMatches(final String name, final String regex) {
+        this(name, Pattern.compile(regex));
+    }
+
+    /**
+     * Ctor.
+     * @param name Attribute name.
+     * @param pattern Pattern to match.
+     */
+    public CondAttrMatches(final String name, final Pattern pattern) {
+        this.name = name;
+        this.pattern = pattern;
+    }
+
+    @Override
+    public boolean test(final JsonObj input) {
+        final Object value = input.value().get(this.name);
+        return value instanceof CharSequence
+            && this.pattern.matcher((CharSequence) value).matches();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Condition;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.Pointer;
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * Condition satisfied when object has numeric attribute within range.
+ * Bounds are inclusive.
+ *
+ * @since 1.9
+ */
+public final class CondAttrRange implements Condition<JsonObj>,
+    Narrowing {
+    /**
+     * Attribute name.
+     */
+    private final String name;
+
+    /**
+     * Lower bound.
+     */
+    private final double min;
+
+    /**
+     * Upper bound.
+     */
+    private final double max;
+
+    /**
+     * Ctor.
+     * @param name Attribute name.
+     * @param min Lower bound.
+     * @param max Upper bound.
+     */
+    public CondAttrRange(final String name, final Number min,
+        final Number max) {
+        this.name = name;
+        this.min = min.doubleValue();
+        this.max = max.doubleValue();
+    }
+
+    @Override
+    public boolean test(final JsonObj input) {
+        final Object value = input.value().get(this.name);
+        boolean result = false;
+        if (value instanceof Number) {
+            final double num = ((Number) value).doubleValue();
+            result = num >= this.min && num <= this.max;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<BitSet> candidates(final Candidates index) {
+        return index.range(
+            new Pointer(this.name).asString(), this.min, this.max
+        );
+    }
+}
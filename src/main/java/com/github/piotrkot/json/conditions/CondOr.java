@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Condition;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+
+/**
+ * Condition satisfied when any condition is satisfied.
+ * Conditions are evaluated in order adapted at runtime, so that cheap
+ * conditions deciding the result most often are evaluated first.
+ * Conditions must be free of side effects. Condition failing out of
+ * order is evaluated again after conditions given before it, so earlier
+ * conditions can guard later ones.
+ *
+ * @param <T> Type of input.
+ * @since 1.9
+ */
+public final class CondOr<T> implements Condition<T>, Narrowing {
+    /**
+     * Conditions.
+     */
+    private final Terms<T> terms;
+
+    /**
+     * Ctor.
+     * @param conds Conditions.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public CondOr(final Condition<T>... conds) {
+        this(Arrays.asList(conds));
+    }
+
+    /**
+     * Ctor.
+     * @param conds Conditions.
+     */
+    public CondOr(final Iterable<Condition<T>> conds) {
+        this.terms = new Terms<>(true, conds);
+    }
+
+    @Override
+    public boolean test(final T input) throws Exception {
+        return this.terms.test(input);
+    }
+
+    @Override
+    public Optional<BitSet> candidates(final Candidates index) {
+        return this.terms.candidates(index);
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Condition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Terms of composite condition evaluated until one of them gives
+ * the deciding result. Cost and selectivity of terms are sampled and
+ * terms are reordered from time to time, so that cheap terms giving
+ * the deciding result most often are evaluated first. Terms must be free
+ * of side effects. Terms may rely on earlier terms as guards, like
+ * a term reading attribute after a term checking it exists: when a term
+ * evaluated out of order fails, terms are evaluated again in order they
+ * were given and only then the failure is thrown.
+ *
+ * @param <T> Type of input.
+ * @since 1.9
+ */
+final class Terms<T> {
+    /**
+     * Mask of evaluations that are sampled.
+     */
+    private static final long PROBED = 15L;
+
+    /**
+     * Mask of evaluations after which terms are reordered.
+     */
+    private static final long REORDERED = 511L;
+
+    /**
+     * Result deciding the outcome of all terms.
+     */
+    private final boolean decisive;
+
+    /**
+     * Terms in order they were given.
+     */
+    private final Term<T>[] given;
+
+    /**
+     * Terms in order of evaluation.
+     */
+    private final AtomicReference<Term<T>[]> order;
+
+    /**
+     * Number of evaluations.
+     */
+    private final AtomicLong count;
+
+    /**
+     * Ctor.
+     * @param decisive Result deciding the outcome of all terms.
+     * @param conds Conditions.
+     */
+    Terms(final boolean decisive, final Iterable<Condition<T>> conds) {
+        this(decisive, Terms.wrapped(conds));
+    }
+
+    /**
+     * Ctor.
+     * @param decisive Result deciding the outcome of all terms.
+     * @param given Terms in order they were given.
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private Terms(final boolean decisive, final Term<T>[] given) {
+        this.decisive = decisive;
+        this.given = given;
+        this.order = new AtomicReference<>(given);
+        this.count = new AtomicLong();
+    }
+
+    /**
+     * Evaluates terms until one gives the deciding result.
+     * @param input Input.
+     * @return Deciding result if any term gave it, otherwise the opposite.
+     * @throws Exception When fails.
+     */
+    @SuppressWarnings({
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CompareObjectsWithEquals"
+    })
+    boolean test(final T input) throws Exception {
+        final long num = this.count.incrementAndGet();
+        final Term<T>[] terms = this.order.get();
+        boolean result;
+        try {
+            result = this.ordered(input, terms, num);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (terms == this.given) {
+                throw ex;
+            }
+            result = this.plain(input, this.given);
+        }
+        if ((num & Terms.REORDERED) == 0L) {
+            this.reorder();
+        }
+        return result;
+    }
+
+    /**
+     * Candidates for satisfying all terms, or any term if one deciding
+     * result is enough.
+     * @param index Indexes.
+     * @return Positions of candidates or empty when indexes do not apply.
+     */
+    Optional<BitSet> candidates(final Candidates index) {
+        Optional<BitSet> result = Optional.empty();
+        for (final Term<T> term : this.order.get()) {
+            final Optional<BitSet> found = Terms.found(term.cond, index);
+            if (this.decisive) {
+                result = Terms.union(result, found);
+                if (!found.isPresent()) {
+                    break;
+                }
+            } else {
+                result = Terms.intersection(result, found);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates terms in order, sampling some evaluations.
+     * @param input Input.
+     * @param terms Terms in order of evaluation.
+     * @param num Number of evaluation.
+     * @return Result.
+     * @throws Exception When fails.
+     */
+    private boolean ordered(final T input, final Term<T>[] terms,
+        final long num) throws Exception {
+        final boolean result;
+        if ((num & Terms.PROBED) == 0L) {
+            result = this.sampled(input, terms);
+        } else {
+            result = this.plain(input, terms);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates terms.
+     * @param input Input.
+     * @param terms Terms in order of evaluation.
+     * @return Result.
+     * @throws Exception When fails.
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    private boolean plain(final T input, final Term<T>[] terms)
+        throws Exception {
+        boolean result = !this.decisive;
+        for (final Term<T> term : terms) {
+            if (term.cond.test(input) == this.decisive) {
+                result = this.decisive;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates terms gathering their statistics.
+     * @param input Input.
+     * @param terms Terms in order of evaluation.
+     * @return Result.
+     * @throws Exception When fails.
+     */
+    @SuppressWarnings("PMD.UseVarargs")
+    private boolean sampled(final T input, final Term<T>[] terms)
+        throws Exception {
+        boolean result = !this.decisive;
+        for (final Term<T> term : terms) {
+            final long start = System.nanoTime();
+            final boolean res = term.cond.test(input);
+            term.nanos.add(System.nanoTime() - start);
+            term.evals.increment();
+            if (res == this.decisive) {
+                term.hits.increment();
+                result = this.decisive;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reorders terms by their rank. Statistics decay by half after
+     * each reordering, so that terms adapt to changing input and outliers
+     * do not stick to them.
+     */
+    private void reorder() {
+        final Term<T>[] terms = this.order.get();
+        final double[] ranks = new double[terms.length];
+        final Integer[] idxs = new Integer[terms.length];
+        for (int idx = 0; idx < terms.length; idx += 1) {
+            ranks[idx] = terms[idx].rank();
+            terms[idx].decay();
+            idxs[idx] = idx;
+        }
+        Arrays.sort(idxs, Comparator.comparingDouble(idx -> ranks[idx]));
+        final Term<T>[] sorted = terms.clone();
+        for (int idx = 0; idx < terms.length; idx += 1) {
+            sorted[idx] = terms[idxs[idx]];
+        }
+        this.order.set(sorted);
+    }
+
+    /**
+     * Candidates for satisfying condition.
+     * @param cond Condition.
+     * @param index Indexes.
+     * @return Positions of candidates or empty when indexes do not apply.
+     */
+    private static Optional<BitSet> found(final Object cond,
+        final Candidates index) {
+        final Optional<BitSet> result;
+        if (cond instanceof Narrowing) {
+            result = ((Narrowing) cond).candidates(index);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Union of candidates, empty when any is unknown.
+     * @param first Candidates so far or empty for none.
+     * @param second Candidates of next term.
+     * @return Union.
+     */
+    private static Optional<BitSet> union(final Optional<BitSet> first,
+        final Optional<BitSet> second) {
+        Optional<BitSet> result = second;
+        if (first.isPresent() && second.isPresent()) {
+            final BitSet bits = (BitSet) first.get().clone();
+            bits.or(second.get());
+            result = Optional.of(bits);
+        }
+        return result;
+    }
+
+    /**
+     * Intersection of known candidates.
+     * @param first Candidates so far.
+     * @param second Candidates of next term.
+     * @return Intersection.
+     */
+    private static Optional<BitSet> intersection(final Optional<BitSet> first,
+        final Optional<BitSet> second) {
+        final Optional<BitSet> result;
+        if (first.isPresent() && second.isPresent()) {
+            final BitSet bits = (BitSet) first.get().clone();
+            bits.and(second.get());
+            result = Optional.of(bits);
+        } else if (first.isPresent()) {
+            result = first;
+        } else {
+            result = second;
+        }
+        return result;
+    }
+
+    /**
+     * Terms for conditions.
+     * @param conds Conditions.
+     * @param <T> Type of input.
+     * @return Terms.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Term<T>[] wrapped(final Iterable<Condition<T>> conds) {
+        final List<Term<T>> terms = new ArrayList<>(0);
+        for (final Condition<T> cond : conds) {
+            terms.add(new Term<>(cond));
+        }
+        return terms.toArray((Term<T>[]) new Term<?>[0]);
+    }
+
+    /**
+     * Term with statistics.
+     * @param <T> Type of input.
+     * @since 1.9
+     */
+    private static final class Term<T> {
+        /**
+         * Prior cost of evaluation in nanoseconds.
+         */
+        private static final double PRIOR = 100.0;
+
+        /**
+         * Condition.
+         */
+        private final Condition<T> cond;
+
+        /**
+         * Sampled evaluations.
+         */
+        private final LongAdder evals;
+
+        /**
+         * Sampled evaluations giving the deciding result.
+         */
+        private final LongAdder hits;
+
+        /**
+         * Sampled time of evaluations in nanoseconds.
+         */
+        private final LongAdder nanos;
+
+        /**
+         * Ctor.
+         * @param cond Condition.
+         */
+        Term(final Condition<T> cond) {
+            this.cond = cond;
+            this.evals = new LongAdder();
+            this.hits = new LongAdder();
+            this.nanos = new LongAdder();
+        }
+
+        /**
+         * Rank of term. Average cost divided by probability of giving
+         * the deciding result. The lower the earlier term is evaluated.
+         * @return Rank.
+         */
+        double rank() {
+            final double num = this.evals.sum();
+            return (this.nanos.sum() + Term.PRIOR) / (num + 1.0)
+                / ((this.hits.sum() + 1.0) / (num + 2.0));
+        }
+
+        /**
+         * Halves statistics.
+         */
+        void decay() {
+            Term.halved(this.evals);
+            Term.halved(this.hits);
+            Term.halved(this.nanos);
+        }
+
+        /**
+         * Halves sum.
+         * @param sum Sum to halve.
+         */
+        private static void halved(final LongAdder sum) {
+            sum.add(-sum.sum() / 2L);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.index;
+
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.PlainValue;
+import com.github.piotrkot.json.patch.Located;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Hash index answering equality queries on values at path.
+ *
+ * @since 1.9
+ */
+public final class HashIndex implements Index {
+    /**
+     * Marker of missing value.
+     */
+    private static final Object MISSING = new Object();
+
+    /**
+     * JSON pointer of values.
+     */
+    private final String path;
+
+    /**
+     * Located values.
+     */
+    private final Located located;
+
+    /**
+     * Positions of objects by value.
+     */
+    private final Map<Object, BitSet> positions;
+
+    /**
+     * Ctor.
+     * @param path JSON pointer of values.
+     */
+    public HashIndex(final String path) {
+        this.path = path;
+        this.located = new Located(path);
+        this.positions = new HashMap<>(0);
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public void add(final int pos, final JsonObj obj) {
+        final Object value = this.located.value(obj, HashIndex.MISSING);
+        if (value != HashIndex.MISSING) {
+            this.positions.computeIfAbsent(
+                new PlainValue(value).value(), key -> new BitSet()
+            ).set(pos);
+        }
+    }
+
+    @Override
+    public void remove(final int pos, final JsonObj obj) {
+        final Object key = new PlainValue(
+            this.located.value(obj, HashIndex.MISSING)
+        ).value();
+        final BitSet bits = this.positions.get(key);
+        if (bits != null) {
+            bits.clear(pos);
+            if (bits.isEmpty()) {
+                this.positions.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public Optional<BitSet> equal(final String pointer, final Object value) {
+        Optional<BitSet> result = Optional.empty();
+        if (this.path.equals(pointer)) {
+            result = Optional.of(
+                (BitSet) this.positions.getOrDefault(
+                    new PlainValue(value).value(), new BitSet()
+                ).clone()
+            );
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<BitSet> range(final String pointer, final double min,
+        final double max) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.index;
+
+import com.github.piotrkot.json.Condition;
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.conditions.Candidates;
+import com.github.piotrkot.json.conditions.Narrowing;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Collection of JSON objects with indexes.
+ * Objects are identified by position given on adding. Indexes are kept
+ * up to date as objects are added, made fit and removed. Selection with
+ * conditions narrowing candidates through indexes tests only the
+ * candidates, otherwise all objects are tested. Collection is guarded by
+ * a lock, so it can be shared between threads.
+ *
+ * @since 1.9
+ */
+public final class IndexedObjs implements Candidates {
+    /**
+     * Objects, null when removed.
+     */
+    private final List<JsonObj> objs;
+
+    /**
+     * Positions of objects present.
+     */
+    private final BitSet present;
+
+    /**
+     * Indexes.
+     */
+    private final Iterable<Index> indexes;
+
+    /**
+     * Lock.
+     */
+    private final Object lock;
+
+    /**
+     * Ctor.
+     * @param indexes Indexes.
+     */
+    public IndexedObjs(final Index... indexes) {
+        this(Arrays.asList(indexes));
+    }
+
+    /**
+     * Ctor.
+     * @param indexes Indexes.
+     */
+    public IndexedObjs(final Iterable<Index> indexes) {
+        this.objs = new ArrayList<>(0);
+        this.present = new BitSet();
+        this.indexes = indexes;
+        this.lock = new Object();
+    }
+
+    /**
+     * Adds object.
+     * @param obj Object.
+     * @return Position of object.
+     */
+    public int add(final JsonObj obj) {
+        synchronized (this.lock) {
+            final int pos = this.objs.size();
+            this.objs.add(obj);
+            this.present.set(pos);
+            for (final Index index : this.indexes) {
+                index.add(pos, obj);
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Gets object.
+     * @param pos Position of object.
+     * @return Object.
+     * @throws JsonException When there is no object at position.
+     */
+    public JsonObj get(final int pos) throws JsonException {
+        synchronized (this.lock) {
+            return this.objs.get(this.existing(pos));
+        }
+    }
+
+    /**
+     * Makes fit to object and reindexes it.
+     * @param pos Position of object.
+     * @param fit Fit to make.
+     * @return Updated object.
+     * @throws Exception When there is no object at position or fit fails.
+     */
+    public JsonObj update(final int pos, final Fit<JsonObj> fit)
+        throws Exception {
+        synchronized (this.lock) {
+            final JsonObj before = this.objs.get(this.existing(pos));
+            final JsonObj after = fit.make(before);
+            for (final Index index : this.indexes) {
+                index.remove(pos, before);
+                index.add(pos, after);
+            }
+            this.objs.set(pos, after);
+            return after;
+        }
+    }
+
+    /**
+     * Removes object.
+     * @param pos Position of object.
+     * @throws JsonException When there is no object at position.
+     */
+    public void remove(final int pos) throws JsonException {
+        synchronized (this.lock) {
+            final JsonObj obj = this.objs.get(this.existing(pos));
+            for (final Index index : this.indexes) {
+                index.remove(pos, obj);
+            }
+            this.objs.set(pos, null);
+            this.present.clear(pos);
+        }
+    }
+
+    /**
+     * Objects satisfying condition in order of positions.
+     * @param cond Condition.
+     * @return Objects.
+     * @throws Exception When condition fails.
+     */
+    public JsonArr<JsonObj> select(final Condition<JsonObj> cond)
+        throws Exception {
+        synchronized (this.lock) {
+            final BitSet candidates = this.candidates(cond);
+            final List<JsonObj> result = new ArrayList<>(0);
+            for (int pos = candidates.nextSetBit(0); pos >= 0;
+                pos = candidates.nextSetBit(pos + 1)) {
+                final JsonObj obj = this.objs.get(pos);
+                if (cond.test(obj)) {
+                    result.add(obj);
+                }
+            }
+            return new JsonArr<>(result);
+        }
+    }
+
+    @Override
+    public Optional<BitSet> equal(final String path, final Object value) {
+        Optional<BitSet> result = Optional.empty();
+        for (final Index index : this.indexes) {
+            result = index.equal(path, value);
+            if (result.isPresent()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<BitSet> range(final String path, final double min,
+        final double max) {
+        Optional<BitSet> result = Optional.empty();
+        for (final Index index : this.indexes) {
+            result = index.range(path, min, max);
+            if (result.isPresent()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Positions of objects to test.
+     * @param cond Condition.
+     * @return Positions.
+     */
+    private BitSet candidates(final Condition<JsonObj> cond) {
+        final BitSet result = (BitSet) this.present.clone();
+        if (cond instanceof Narrowing) {
+            ((Narrowing) cond).candidates(this).ifPresent(result::and);
+        }
+        return result;
+    }
+
+    /**
+     * Position of existing object.
+     * @param pos Position.
+     * @return The same position.
+     * @throws JsonException When there is no object at position.
+     */
+    private int existing(final int pos) throws JsonException {
+        if (!this.present.get(pos)) {
+            throw new JsonException(
+                String.format("No object at position %d", pos)
+            );
+        }
+        return pos;
+    }
+}
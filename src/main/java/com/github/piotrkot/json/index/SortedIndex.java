@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.index;
+
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.Located;
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Sorted index answering range queries on numeric values at path.
+ * Values are compared as doubles, with negative zero equal to zero.
+ *
+ * @since 1.9
+ */
+public final class SortedIndex implements Index {
+    /**
+     * JSON pointer of values.
+     */
+    private final String path;
+
+    /**
+     * Located values.
+     */
+    private final Located located;
+
+    /**
+     * Positions of objects by value.
+     */
+    private final NavigableMap<Double, BitSet> positions;
+
+    /**
+     * Ctor.
+     * @param path JSON pointer of values.
+     */
+    public SortedIndex(final String path) {
+        this.path = path;
+        this.located = new Located(path);
+        this.positions = new TreeMap<>();
+    }
+
+    @Override
+    public void add(final int pos, final JsonObj obj) {
+        final Object value = this.located.value(obj, null);
+        if (value instanceof Number) {
+            this.positions.computeIfAbsent(
+                SortedIndex.normal((Number) value), key -> new BitSet()
+            ).set(pos);
+        }
+    }
+
+    @Override
+    public void remove(final int pos, final JsonObj obj) {
+        final Object value = this.located.value(obj, null);
+        if (value instanceof Number) {
+            this.clear(pos, SortedIndex.normal((Number) value));
+        }
+    }
+
+    @Override
+    public Optional<BitSet> equal(final String pointer, final Object value) {
+        Optional<BitSet> result = Optional.empty();
+        if (value instanceof Number) {
+            final double num = SortedIndex.normal((Number) value);
+            result = this.range(pointer, num, num);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<BitSet> range(final String pointer, final double min,
+        final double max) {
+        Optional<BitSet> result = Optional.empty();
+        if (this.path.equals(pointer)) {
+            final BitSet bits = new BitSet();
+            if (min <= max) {
+                for (final BitSet found : this.positions.subMap(
+                    SortedIndex.normal(min), true,
+                    SortedIndex.normal(max), true
+                ).values()) {
+                    bits.or(found);
+                }
+            }
+            result = Optional.of(bits);
+        }
+        return result;
+    }
+
+    /**
+     * Clears position under value, dropping value left without positions.
+     * @param pos Position.
+     * @param key Value.
+     */
+    private void clear(final int pos, final double key) {
+        final BitSet bits = this.positions.get(key);
+        if (bits != null) {
+            bits.clear(pos);
+            if (bits.isEmpty()) {
+                this.positions.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Value as double, with negative zero turned to zero so that both
+     * fall under same key.
+     * @param value Value.
+     * @return Double value.
+     */
+    private static double normal(final Number value) {
+        double num = value.doubleValue();
+        if (num == 0.0) {
+            num = 0.0;
+        }
+        return num;
+    }
+}
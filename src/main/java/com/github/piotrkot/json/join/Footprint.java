@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimated number of bytes taken in memory by value.
+ *
+ * @since 1.9
+ */
+final class Footprint {
+    /**
+     * Value.
+     */
+    private final Object value;
+
+    /**
+     * Ctor.
+     * @param value Value.
+     */
+    Footprint(final Object value) {
+        this.value = value;
+    }
+
+    /**
+     * Estimated number of bytes.
+     * @return Number of bytes.
+     */
+    long bytes() {
+        long bytes = 16L;
+        if (this.value instanceof Map) {
+            bytes = 64L;
+            for (final Map.Entry<?, ?> entry
+                : ((Map<?, ?>) this.value).entrySet()) {
+                bytes += 48L + new Footprint(entry.getKey()).bytes()
+                    + new Footprint(entry.getValue()).bytes();
+            }
+        } else if (this.value instanceof List) {
+            bytes = 40L;
+            for (final Object elem : (List<?>) this.value) {
+                bytes += 8L + new Footprint(elem).bytes();
+            }
+        } else if (this.value instanceof CharSequence) {
+            bytes = 40L + ((CharSequence) this.value).length() * 2L;
+        }
+        return bytes;
+    }
+}
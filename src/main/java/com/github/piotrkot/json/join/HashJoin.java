@@ -0,0 +1,232 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonObj;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Hash join of two sources of objects on values at paths.
+ * Hash table is built of the smaller source when sizes of both are known,
+ * otherwise of the right one, and the other source is streamed through it.
+ * When build side exceeds memory budget both sides are partitioned to
+ * temporary files by hash of join key and joined partition by partition.
+ * Objects with missing or null key match none.
+ *
+ * @since 1.9
+ */
+public final class HashJoin {
+    /**
+     * Join key of left side.
+     */
+    private final JoinKey lkey;
+
+    /**
+     * Join key of right side.
+     */
+    private final JoinKey rkey;
+
+    /**
+     * Rule of colliding attributes.
+     */
+    private final Collision collision;
+
+    /**
+     * Directory of temporary files.
+     */
+    private final Path dir;
+
+    /**
+     * Memory budget in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Ctor.
+     * @param key JSON pointer of join key of both sides.
+     */
+    public HashJoin(final String key) {
+        this(key, key, new CollisionLeft());
+    }
+
+    /**
+     * Ctor.
+     * @param left JSON pointer of join key of left side.
+     * @param right JSON pointer of join key of right side.
+     * @param collision Rule of colliding attributes.
+     */
+    public HashJoin(final String left, final String right,
+        final Collision collision) {
+        this(
+            left, right, collision,
+            Paths.get(System.getProperty("java.io.tmpdir")), 1L << 26
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param left JSON pointer of join key of left side.
+     * @param right JSON pointer of join key of right side.
+     * @param collision Rule of colliding attributes.
+     * @param dir Directory of temporary files.
+     * @param budget Memory budget of build side in bytes.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public HashJoin(final String left, final String right,
+        final Collision collision, final Path dir, final long budget) {
+        this.lkey = new JoinKey(left);
+        this.rkey = new JoinKey(right);
+        this.collision = collision;
+        this.dir = dir;
+        this.budget = budget;
+    }
+
+    /**
+     * Objects of both sides with equal join keys merged.
+     * @param left Objects of left side.
+     * @param right Objects of right side.
+     * @return Joined objects, to be closed.
+     * @throws IOException When spilling fails.
+     */
+    public JoinedObjs inner(final Iterable<JsonObj> left,
+        final Iterable<JsonObj> right) throws IOException {
+        return this.joined(left, right, false);
+    }
+
+    /**
+     * Objects of both sides with equal join keys merged and objects of left
+     * side without match.
+     * @param left Objects of left side.
+     * @param right Objects of right side.
+     * @return Joined objects, to be closed.
+     * @throws IOException When spilling fails.
+     */
+    public JoinedObjs left(final Iterable<JsonObj> left,
+        final Iterable<JsonObj> right) throws IOException {
+        return this.joined(left, right, true);
+    }
+
+    /**
+     * Joined objects.
+     * @param left Objects of left side.
+     * @param right Objects of right side.
+     * @param outer Whether objects of left side without match are kept.
+     * @return Joined objects.
+     * @throws IOException When spilling fails.
+     */
+    private JoinedObjs joined(final Iterable<JsonObj> left,
+        final Iterable<JsonObj> right, final boolean outer)
+        throws IOException {
+        final boolean swapped = HashJoin.smaller(left, right);
+        final Iterable<JsonObj> build;
+        final Iterable<JsonObj> probe;
+        final JoinKey bkey;
+        final JoinKey pkey;
+        if (swapped) {
+            build = left;
+            bkey = this.lkey;
+            probe = right;
+            pkey = this.rkey;
+        } else {
+            build = right;
+            bkey = this.rkey;
+            probe = left;
+            pkey = this.lkey;
+        }
+        final Matching matching = new Matching(
+            pkey, new Merged(this.collision), swapped, outer
+        );
+        final Table table = new Table(bkey);
+        final Iterator<JsonObj> rows = build.iterator();
+        long used = 0L;
+        while (used <= this.budget && rows.hasNext()) {
+            used += table.add(rows.next());
+        }
+        final JoinedObjs joined;
+        if (used <= this.budget) {
+            joined = new JoinedObjs(
+                Collections.<Stage>singletonList(new Loaded(table, probe))
+                    .iterator(),
+                matching,
+                () -> { }
+            );
+        } else {
+            final Partitions parts = new Partitions(this.dir, bkey, pkey);
+            joined = new JoinedObjs(
+                HashJoin.partitioned(parts, table.drained(), rows, probe)
+                    .stages(),
+                matching, parts
+            );
+        }
+        return joined;
+    }
+
+    /**
+     * Whether left side is known to be smaller than right side.
+     * @param left Objects of left side.
+     * @param right Objects of right side.
+     * @return True if smaller.
+     */
+    private static boolean smaller(final Iterable<JsonObj> left,
+        final Iterable<JsonObj> right) {
+        return left instanceof Collection && right instanceof Collection
+            && ((Collection<?>) left).size() < ((Collection<?>) right).size();
+    }
+
+    /**
+     * Partitions with objects of both sides spilled.
+     * @param parts Partitions.
+     * @param loaded Objects of build side loaded in memory.
+     * @param rows Objects of build side not loaded.
+     * @param probe Objects of probe side.
+     * @return Partitions.
+     * @throws IOException When spilling fails.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private static Partitions partitioned(final Partitions parts,
+        final Iterable<JsonObj> loaded, final Iterator<JsonObj> rows,
+        final Iterable<JsonObj> probe) throws IOException {
+        try {
+            for (final JsonObj obj : loaded) {
+                parts.add(Partitions.BUILD, obj);
+            }
+            while (rows.hasNext()) {
+                parts.add(Partitions.BUILD, rows.next());
+            }
+            for (final JsonObj obj : probe) {
+                parts.add(Partitions.PROBE, obj);
+            }
+            parts.flush();
+        } catch (final IOException ex) {
+            parts.close();
+            throw ex;
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.PlainValue;
+import com.github.piotrkot.json.patch.Located;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Join key of object, value at path with numbers of equal value made equal
+ * regardless of their type. Objects with missing or null value match none.
+ *
+ * @since 1.9
+ */
+final class JoinKey {
+    /**
+     * Located value.
+     */
+    private final Located located;
+
+    /**
+     * Ctor.
+     * @param path JSON pointer of value.
+     */
+    JoinKey(final String path) {
+        this.located = new Located(path);
+    }
+
+    /**
+     * Key of object.
+     * @param obj Object.
+     * @return Key or null when object matches none.
+     */
+    Object found(final JsonObj obj) {
+        Object key = new PlainValue(this.located.value(obj, null)).value();
+        if (key instanceof Number) {
+            key = JoinKey.normalized((Number) key);
+        }
+        return key;
+    }
+
+    /**
+     * Number as long when integral and in range, otherwise as double or
+     * big decimal without trailing zeros.
+     * @param num Number.
+     * @return Normalized number.
+     */
+    private static Object normalized(final Number num) {
+        final Object result;
+        if (num instanceof BigDecimal || num instanceof BigInteger) {
+            final BigDecimal dec = new BigDecimal(num.toString())
+                .stripTrailingZeros();
+            if (dec.scale() <= 0 && dec.toBigInteger().bitLength() < 64) {
+                result = dec.longValue();
+            } else {
+                result = dec;
+            }
+        } else if (num instanceof Double || num instanceof Float) {
+            final double dbl = num.doubleValue();
+            if (dbl == Math.rint(dbl) && Math.abs(dbl) < 0x1p53) {
+                result = (long) dbl;
+            } else {
+                result = dbl;
+            }
+        } else {
+            result = num.longValue();
+        }
+        return result;
+    }
+}
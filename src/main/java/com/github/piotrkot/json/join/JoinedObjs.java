@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Joined objects, produced while iterated. Closing releases spilled
+ * partitions.
+ *
+ * @since 1.9
+ */
+public final class JoinedObjs implements Iterator<JsonObj>, Closeable {
+    /**
+     * Stages of join.
+     */
+    private final Iterator<Stage> stages;
+
+    /**
+     * Matching of objects.
+     */
+    private final Matching matching;
+
+    /**
+     * Release of partitions.
+     */
+    private final Closeable release;
+
+    /**
+     * Joined objects not returned yet.
+     */
+    private final Deque<JsonObj> ready;
+
+    /**
+     * Hash table of current stage.
+     */
+    private Table table;
+
+    /**
+     * Objects of probe side of current stage.
+     */
+    private Iterator<JsonObj> probe;
+
+    /**
+     * Whether hash table of current stage is finished.
+     */
+    private boolean finished;
+
+    /**
+     * Ctor.
+     * @param stages Stages of join.
+     * @param matching Matching of objects.
+     * @param release Release of partitions.
+     */
+    JoinedObjs(final Iterator<Stage> stages, final Matching matching,
+        final Closeable release) {
+        this.stages = stages;
+        this.matching = matching;
+        this.release = release;
+        this.ready = new ArrayDeque<>(1);
+        this.probe = Collections.emptyIterator();
+        this.finished = true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            boolean more = true;
+            while (this.ready.isEmpty() && more) {
+                more = this.advance();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (final JsonException ex) {
+            throw new IllegalStateException(ex);
+        }
+        return !this.ready.isEmpty();
+    }
+
+    @Override
+    public JsonObj next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more joined objects");
+        }
+        return this.ready.poll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.release.close();
+    }
+
+    /**
+     * Makes one step of join.
+     * @return False when all stages are done.
+     * @throws IOException When reading fails.
+     * @throws JsonException When collision is not allowed.
+     */
+    private boolean advance() throws IOException, JsonException {
+        boolean more = true;
+        if (this.probe.hasNext()) {
+            this.matching.probe(this.table, this.probe.next(), this.ready);
+        } else if (this.finished) {
+            more = this.stages.hasNext();
+            if (more) {
+                final Stage stage = this.stages.next();
+                this.table = stage.table();
+                this.probe = stage.probe();
+                this.finished = false;
+            }
+        } else {
+            this.matching.finish(this.table, this.ready);
+            this.finished = true;
+        }
+        return more;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Matching of objects of probe side with rows of build side.
+ *
+ * @since 1.9
+ */
+final class Matching {
+    /**
+     * Join key of probe side.
+     */
+    private final JoinKey key;
+
+    /**
+     * Merge of joined objects.
+     */
+    private final Merged merged;
+
+    /**
+     * Whether build side is left side.
+     */
+    private final boolean swapped;
+
+    /**
+     * Whether objects of left side without match are kept.
+     */
+    private final boolean outer;
+
+    /**
+     * Ctor.
+     * @param key Join key of probe side.
+     * @param merged Merge of joined objects.
+     * @param swapped Whether build side is left side.
+     * @param outer Whether objects of left side without match are kept.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Matching(final JoinKey key, final Merged merged, final boolean swapped,
+        final boolean outer) {
+        this.key = key;
+        this.merged = merged;
+        this.swapped = swapped;
+        this.outer = outer;
+    }
+
+    /**
+     * Joins object of probe side.
+     * @param table Hash table of build side.
+     * @param obj Object of probe side.
+     * @param out Joined objects.
+     * @throws JsonException When collision is not allowed.
+     */
+    void probe(final Table table, final JsonObj obj,
+        final Collection<JsonObj> out) throws JsonException {
+        final List<Row> rows = table.matches(this.key.found(obj));
+        for (final Row row : rows) {
+            row.match();
+            if (this.swapped) {
+                out.add(this.merged.joined(row.obj(), obj));
+            } else {
+                out.add(this.merged.joined(obj, row.obj()));
+            }
+        }
+        if (rows.isEmpty() && this.outer && !this.swapped) {
+            out.add(obj);
+        }
+    }
+
+    /**
+     * Finishes hash table when all objects of probe side are joined.
+     * @param table Hash table of build side.
+     * @param out Joined objects.
+     */
+    void finish(final Table table, final Collection<JsonObj> out) {
+        if (this.outer && this.swapped) {
+            out.addAll(table.unmatched());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonObjBuilder;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Merge of joined objects, attributes of left one first.
+ *
+ * @since 1.9
+ */
+final class Merged {
+    /**
+     * Rule of colliding attributes.
+     */
+    private final Collision collision;
+
+    /**
+     * Ctor.
+     * @param collision Rule of colliding attributes.
+     */
+    Merged(final Collision collision) {
+        this.collision = collision;
+    }
+
+    /**
+     * Merged object.
+     * @param left Left object.
+     * @param right Right object.
+     * @return Object with attributes of both.
+     * @throws JsonException When collision is not allowed.
+     */
+    JsonObj joined(final JsonObj left, final JsonObj right) throws JsonException {
+        final JsonObjBuilder merged = new JsonObjBuilder(
+            left.size() + right.size()
+        );
+        for (final Map.Entry<String, ?> attr : left.entrySet()) {
+            merged.add(attr.getKey(), attr.getValue());
+        }
+        for (final Map.Entry<String, ?> attr : right.entrySet()) {
+            final String name = attr.getKey();
+            if (left.containsKey(name)) {
+                this.collided(merged, name, left.get(name), attr.getValue());
+            } else {
+                merged.add(name, attr.getValue());
+            }
+        }
+        return merged.freeze();
+    }
+
+    /**
+     * Adds attributes of values in both objects.
+     * @param merged Merged object.
+     * @param name Attribute name.
+     * @param left Value in left object.
+     * @param right Value in right object.
+     * @throws JsonException When collision is not allowed.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void collided(final JsonObjBuilder merged, final String name,
+        final Object left, final Object right) throws JsonException {
+        if (!Objects.equals(left, right)) {
+            for (final Attr<?> resolved
+                : this.collision.resolved(name, left, right)) {
+                merged.add(resolved);
+            }
+        }
+    }
+}
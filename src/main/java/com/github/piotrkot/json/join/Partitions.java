@@ -0,0 +1,308 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonObj;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Partitions of both sides spilled to temporary files by hash of join key,
+ * so that matching objects land in partitions of the same number. Objects
+ * without join key go to the first partition. Each object is written as
+ * length and UTF-8 text.
+ *
+ * @since 1.9
+ */
+final class Partitions implements Closeable {
+    /**
+     * Build side.
+     */
+    static final int BUILD = 0;
+
+    /**
+     * Probe side.
+     */
+    static final int PROBE = 1;
+
+    /**
+     * Number of bits of partition number.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Buffer size.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Directory of temporary files.
+     */
+    private final Path dir;
+
+    /**
+     * Join keys by side.
+     */
+    private final JoinKey[] keys;
+
+    /**
+     * Files by side and partition.
+     */
+    private final Path[][] files;
+
+    /**
+     * Outputs by side and partition.
+     */
+    private final DataOutputStream[][] outputs;
+
+    /**
+     * Number of objects by side and partition.
+     */
+    private final int[][] counts;
+
+    /**
+     * Inputs opened.
+     */
+    private final List<Closeable> opened;
+
+    /**
+     * Ctor.
+     * @param dir Directory of temporary files.
+     * @param build Join key of build side.
+     * @param probe Join key of probe side.
+     */
+    Partitions(final Path dir, final JoinKey build, final JoinKey probe) {
+        this.dir = dir;
+        this.keys = new JoinKey[] {build, probe};
+        this.files = new Path[2][1 << Partitions.BITS];
+        this.outputs = new DataOutputStream[2][1 << Partitions.BITS];
+        this.counts = new int[2][1 << Partitions.BITS];
+        this.opened = new ArrayList<>(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        final List<Closeable> all = new ArrayList<>(this.opened);
+        for (final DataOutputStream[] side : this.outputs) {
+            Collections.addAll(all, side);
+        }
+        for (final Closeable closeable : all) {
+            try {
+                if (closeable != null) {
+                    closeable.close();
+                }
+            } catch (final IOException ex) {
+                failure = ex;
+            }
+        }
+        for (final Path[] side : this.files) {
+            for (final Path file : side) {
+                if (file != null) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Adds object.
+     * @param side Side of object.
+     * @param obj Object.
+     * @throws IOException When fails.
+     */
+    void add(final int side, final JsonObj obj) throws IOException {
+        final int part = Partitions.partition(this.keys[side].found(obj));
+        if (this.outputs[side][part] == null) {
+            this.files[side][part] = Files.createTempFile(
+                this.dir, "join-", ".bin"
+            );
+            this.outputs[side][part] = new DataOutputStream(
+                new BufferedOutputStream(
+                    Files.newOutputStream(this.files[side][part]),
+                    Partitions.BUFFER
+                )
+            );
+        }
+        final byte[] text = obj.jsonValue().toString()
+            .getBytes(StandardCharsets.UTF_8);
+        this.outputs[side][part].writeInt(text.length);
+        this.outputs[side][part].write(text);
+        this.counts[side][part] += 1;
+    }
+
+    /**
+     * Flushes all partitions.
+     * @throws IOException When fails.
+     */
+    void flush() throws IOException {
+        for (final DataOutputStream[] side : this.outputs) {
+            for (final DataOutputStream output : side) {
+                if (output != null) {
+                    output.flush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stages of partitions, build side of one partition in memory at once.
+     * @return Stages.
+     */
+    Iterator<Stage> stages() {
+        final List<Stage> stages = new ArrayList<>(1 << Partitions.BITS);
+        for (int part = 0; part < 1 << Partitions.BITS; part += 1) {
+            final int num = part;
+            stages.add(
+                new Stage() {
+                    @Override
+                    public Table table() throws IOException {
+                        final Table table = new Table(
+                            Partitions.this.keys[Partitions.BUILD]
+                        );
+                        final Iterator<JsonObj> objs = Partitions.this.objs(
+                            Partitions.BUILD, num
+                        );
+                        while (objs.hasNext()) {
+                            table.add(objs.next());
+                        }
+                        return table;
+                    }
+
+                    @Override
+                    public Iterator<JsonObj> probe() throws IOException {
+                        return Partitions.this.objs(Partitions.PROBE, num);
+                    }
+                }
+            );
+        }
+        return stages.iterator();
+    }
+
+    /**
+     * Objects of partition.
+     * @param side Side of objects.
+     * @param part Partition number.
+     * @return Objects.
+     * @throws IOException When fails.
+     */
+    private Iterator<JsonObj> objs(final int side, final int part)
+        throws IOException {
+        final Iterator<JsonObj> objs;
+        if (this.files[side][part] == null) {
+            objs = Collections.emptyIterator();
+        } else {
+            this.outputs[side][part].close();
+            final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(
+                    Files.newInputStream(this.files[side][part]),
+                    Partitions.BUFFER
+                )
+            );
+            this.opened.add(input);
+            objs = new Spilled(input, this.counts[side][part]);
+        }
+        return objs;
+    }
+
+    /**
+     * Partition number of join key.
+     * @param key Join key.
+     * @return Partition number.
+     */
+    private static int partition(final Object key) {
+        int part = 0;
+        if (key != null) {
+            final int hash = key.hashCode();
+            part = (hash ^ hash >>> 16) * 0x9E3779B9 >>> 32 - Partitions.BITS;
+        }
+        return part;
+    }
+
+    /**
+     * Objects read from spilled partition, closing input at the end.
+     *
+     * @since 1.9
+     */
+    private static final class Spilled implements Iterator<JsonObj> {
+        /**
+         * Input.
+         */
+        private final DataInputStream input;
+
+        /**
+         * Number of objects not read.
+         */
+        private int left;
+
+        /**
+         * Ctor.
+         * @param input Input.
+         * @param count Number of objects.
+         */
+        Spilled(final DataInputStream input, final int count) {
+            this.input = input;
+            this.left = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.left > 0;
+        }
+
+        @Override
+        public JsonObj next() {
+            if (this.left == 0) {
+                throw new NoSuchElementException("No more spilled objects");
+            }
+            try {
+                final byte[] text = new byte[this.input.readInt()];
+                this.input.readFully(text);
+                this.left -= 1;
+                if (this.left == 0) {
+                    this.input.close();
+                }
+                return new JsonObj(text);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
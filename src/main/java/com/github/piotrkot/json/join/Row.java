@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonObj;
+
+/**
+ * Object of build side with mark of being matched.
+ *
+ * @since 1.9
+ */
+final class Row {
+    /**
+     * Object.
+     */
+    private final JsonObj value;
+
+    /**
+     * Whether matched any object of probe side.
+     */
+    private boolean hit;
+
+    /**
+     * Ctor.
+     * @param value Object.
+     */
+    Row(final JsonObj value) {
+        this.value = value;
+    }
+
+    /**
+     * Object.
+     * @return Object.
+     */
+    JsonObj obj() {
+        return this.value;
+    }
+
+    /**
+     * Marks as matched.
+     */
+    void match() {
+        this.hit = true;
+    }
+
+    /**
+     * Whether matched any object of probe side.
+     * @return True if matched.
+     */
+    boolean matched() {
+        return this.hit;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.JsonObj;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash table of objects of build side by join key.
+ *
+ * @since 1.9
+ */
+final class Table {
+    /**
+     * Join key of build side.
+     */
+    private final JoinKey key;
+
+    /**
+     * Rows by join key.
+     */
+    private final Map<Object, List<Row>> rows;
+
+    /**
+     * Rows without join key.
+     */
+    private final List<Row> unkeyed;
+
+    /**
+     * Ctor.
+     * @param key Join key of build side.
+     */
+    Table(final JoinKey key) {
+        this.key = key;
+        this.rows = new HashMap<>(0);
+        this.unkeyed = new ArrayList<>(0);
+    }
+
+    /**
+     * Adds object.
+     * @param obj Object.
+     * @return Estimated number of bytes taken by object.
+     */
+    long add(final JsonObj obj) {
+        final Object found = this.key.found(obj);
+        final Row row = new Row(obj);
+        if (found == null) {
+            this.unkeyed.add(row);
+        } else {
+            this.rows.computeIfAbsent(found, any -> new ArrayList<>(1))
+                .add(row);
+        }
+        return 64L + new Footprint(obj).bytes();
+    }
+
+    /**
+     * Rows with join key.
+     * @param found Join key.
+     * @return Rows, empty when key is null.
+     */
+    List<Row> matches(final Object found) {
+        final List<Row> matches;
+        if (found == null) {
+            matches = Collections.emptyList();
+        } else {
+            matches = this.rows.getOrDefault(found, Collections.emptyList());
+        }
+        return matches;
+    }
+
+    /**
+     * Objects of rows not matched.
+     * @return Objects.
+     */
+    List<JsonObj> unmatched() {
+        final List<JsonObj> unmatched = new ArrayList<>(this.unkeyed.size());
+        for (final Row row : this.unkeyed) {
+            unmatched.add(row.obj());
+        }
+        for (final List<Row> same : this.rows.values()) {
+            for (final Row row : same) {
+                if (!row.matched()) {
+                    unmatched.add(row.obj());
+                }
+            }
+        }
+        return unmatched;
+    }
+
+    /**
+     * Removes all objects.
+     * @return Removed objects.
+     */
+    List<JsonObj> drained() {
+        final List<JsonObj> all = new ArrayList<>(this.unkeyed.size());
+        for (final Row row : this.unkeyed) {
+            all.add(row.obj());
+        }
+        for (final List<Row> same : this.rows.values()) {
+            for (final Row row : same) {
+                all.add(row.obj());
+            }
+        }
+        this.unkeyed.clear();
+        this.rows.clear();
+        return all;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Journal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Journal keeping changes until they are flushed to other journal.
+ *
+ * @since 1.9
+ */
+final class BufferedJournal implements Journal {
+    /**
+     * Recorded changes.
+     */
+    private final List<Consumer<Journal>> changes;
+
+    /**
+     * Ctor.
+     */
+    BufferedJournal() {
+        this.changes = new ArrayList<>(0);
+    }
+
+    @Override
+    public void add(final String path, final Object value) {
+        this.changes.add(journal -> journal.add(path, value));
+    }
+
+    @Override
+    public void remove(final String path) {
+        this.changes.add(journal -> journal.remove(path));
+    }
+
+    @Override
+    public void replace(final String path, final Object value) {
+        this.changes.add(journal -> journal.replace(path, value));
+    }
+
+    @Override
+    public void move(final String from, final String path) {
+        this.changes.add(journal -> journal.move(from, path));
+    }
+
+    /**
+     * Records kept changes in other journal, in order of recording.
+     * @param journal Journal of changes.
+     */
+    void flush(final Journal journal) {
+        for (final Consumer<Journal> change : this.changes) {
+            change.accept(journal);
+        }
+        this.changes.clear();
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonVal;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.json.JsonArray;
+
+/**
+ * Structural difference between two JSON objects as JSON Patch.
+ * Shared subtrees and subtrees with different cached hashes are told
+ * apart without being walked. Arrays are
+ * compared in linear time: common head and tail are skipped and the rest
+ * of elements is matched by key attributes, when given, or by value.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Diff implements JsonVal<Collection<JsonObj>> {
+    /**
+     * Source object.
+     */
+    private final JsonObj source;
+
+    /**
+     * Target object.
+     */
+    private final JsonObj target;
+
+    /**
+     * Names of attributes identifying objects in arrays.
+     */
+    private final Iterable<String> keys;
+
+    /**
+     * Ctor.
+     * @param source Source object.
+     * @param target Target object.
+     * @param keys Names of attributes identifying objects in arrays.
+     */
+    public Diff(final JsonObj source, final JsonObj target,
+        final String... keys) {
+        this(source, target, Arrays.asList(keys));
+    }
+
+    /**
+     * Ctor.
+     * @param source Source object.
+     * @param target Target object.
+     * @param keys Names of attributes identifying objects in arrays.
+     */
+    public Diff(final JsonObj source, final JsonObj target,
+        final Iterable<String> keys) {
+        this.source = source;
+        this.target = target;
+        this.keys = keys;
+    }
+
+    /**
+     * Records changes turning source into target.
+     * @param journal Journal of changes.
+     */
+    public void record(final Journal journal) {
+        this.compare(this.source, this.target, "", journal);
+    }
+
+    @Override
+    public JsonArray jsonValue() {
+        return this.value().jsonValue();
+    }
+
+    @Override
+    public JsonArr<JsonObj> value() {
+        final PatchJournal patch = new PatchJournal();
+        this.record(patch);
+        return patch.value();
+    }
+
+    /**
+     * Compares two values.
+     * @param before Value before.
+     * @param after Value after.
+     * @param path Path to value.
+     * @param journal Journal of changes.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    private void compare(final Object before, final Object after,
+        final String path, final Journal journal) {
+        if (!Diff.same(before, after)) {
+            if (before instanceof Map<?, ?> && after instanceof Map<?, ?>) {
+                this.objects(
+                    Diff.attrs(before), Diff.attrs(after),
+                    path, journal
+                );
+            } else if (before instanceof List<?> && after instanceof List<?>) {
+                this.arrays((List<?>) before, (List<?>) after, path, journal);
+            } else {
+                journal.replace(path, after);
+            }
+        }
+    }
+
+    /**
+     * Compares two objects.
+     * @param before Object before.
+     * @param after Object after.
+     * @param path Path to object.
+     * @param journal Journal of changes.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void objects(final Map<String, ?> before,
+        final Map<String, ?> after, final String path, final Journal journal) {
+        for (final Map.Entry<String, ?> entry : before.entrySet()) {
+            final String child = path.concat(
+                new Pointer(entry.getKey()).asString()
+            );
+            if (after.containsKey(entry.getKey())) {
+                this.compare(
+                    entry.getValue(), after.get(entry.getKey()), child, journal
+                );
+            } else {
+                journal.remove(child);
+            }
+        }
+        for (final Map.Entry<String, ?> entry : after.entrySet()) {
+            if (!before.containsKey(entry.getKey())) {
+                journal.add(
+                    path.concat(new Pointer(entry.getKey()).asString()),
+                    entry.getValue()
+                );
+            }
+        }
+    }
+
+    /**
+     * Compares two arrays.
+     * @param before Array before.
+     * @param after Array after.
+     * @param path Path to array.
+     * @param journal Journal of changes.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void arrays(final List<?> before, final List<?> after,
+        final String path, final Journal journal) {
+        final int head = Diff.head(before, after);
+        final int tail = Diff.tail(before, after, head);
+        final List<?> olds = before.subList(head, before.size() - tail);
+        final List<?> news = after.subList(head, after.size() - tail);
+        final int[] matches = this.matches(olds, news);
+        final boolean[] kept = new boolean[olds.size()];
+        for (final int match : matches) {
+            if (match >= 0) {
+                kept[match] = true;
+            }
+        }
+        for (int idx = olds.size() - 1; idx >= 0; idx -= 1) {
+            if (!kept[idx]) {
+                journal.remove(String.format("%s/%d", path, head + idx));
+            }
+        }
+        for (int idx = 0; idx < news.size(); idx += 1) {
+            final String child = String.format("%s/%d", path, head + idx);
+            if (matches[idx] >= 0) {
+                this.compare(olds.get(matches[idx]), news.get(idx), child, journal);
+            } else {
+                journal.add(child, news.get(idx));
+            }
+        }
+    }
+
+    /**
+     * Number of the same elements at the beginning of arrays.
+     * @param before Array before.
+     * @param after Array after.
+     * @return Number of elements.
+     */
+    private static int head(final List<?> before, final List<?> after) {
+        final int min = Math.min(before.size(), after.size());
+        int head = 0;
+        while (head < min && Diff.same(before.get(head), after.get(head))) {
+            head += 1;
+        }
+        return head;
+    }
+
+    /**
+     * Number of the same elements at the end of arrays.
+     * @param before Array before.
+     * @param after Array after.
+     * @param head Number of the same elements at the beginning.
+     * @return Number of elements.
+     */
+    private static int tail(final List<?> before, final List<?> after,
+        final int head) {
+        final int max = Math.min(before.size(), after.size()) - head;
+        int tail = 0;
+        while (tail < max
+            && Diff.same(
+                before.get(before.size() - 1 - tail),
+                after.get(after.size() - 1 - tail)
+            )) {
+            tail += 1;
+        }
+        return tail;
+    }
+
+    /**
+     * Matches elements of arrays keeping their relative order.
+     * @param olds Elements before.
+     * @param news Elements after.
+     * @return Index of matching element before for each element after,
+     *  or -1 when there is no match.
+     */
+    private int[] matches(final List<?> olds, final List<?> news) {
+        final Map<Object, Deque<Integer>> index = new HashMap<>();
+        for (int idx = 0; idx < olds.size(); idx += 1) {
+            index.computeIfAbsent(
+                this.key(olds.get(idx)), key -> new ArrayDeque<>(1)
+            ).add(idx);
+        }
+        final int[] matches = new int[news.size()];
+        int last = -1;
+        for (int idx = 0; idx < news.size(); idx += 1) {
+            matches[idx] = -1;
+            final Deque<Integer> found = index.get(this.key(news.get(idx)));
+            if (found != null) {
+                while (!found.isEmpty() && found.peek() <= last) {
+                    found.poll();
+                }
+                if (!found.isEmpty()) {
+                    last = found.poll();
+                    matches[idx] = last;
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Key identifying array element.
+     * @param elem Array element.
+     * @return Key attribute of object or element itself.
+     */
+    private Object key(final Object elem) {
+        Object key = elem;
+        if (elem instanceof Map<?, ?>) {
+            for (final String name : this.keys) {
+                if (((Map<?, ?>) elem).containsKey(name)) {
+                    key = new Attr<>(name, ((Map<?, ?>) elem).get(name));
+                    break;
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * JSON object typed by its attribute names.
+     * @param value JSON object.
+     * @return Attributes.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> attrs(final Object value) {
+        return (Map<String, ?>) value;
+    }
+
+    /**
+     * Checks if values are the same.
+     * @param first First value.
+     * @param second Second value.
+     * @return True if values are equal.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static boolean same(final Object first, final Object second) {
+        return first == second
+            || Objects.hashCode(first) == Objects.hashCode(second)
+            && Objects.equals(first, second);
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Draft of a JSON document being patched.
+ * Containers on the paths of changes are copied once, no matter how many
+ * changes they get, and all the other values are shared with the original.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Draft {
+    /**
+     * Token pointing past the last array element.
+     */
+    private static final String END = "-";
+
+    /**
+     * Mutable copies of containers.
+     */
+    private final Set<Object> copies;
+
+    /**
+     * Document root.
+     */
+    private Object root;
+
+    /**
+     * Ctor.
+     * @param doc Original document.
+     */
+    Draft(final JsonObj doc) {
+        this.copies = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.root = doc;
+    }
+
+    /**
+     * Value at the path.
+     * @param path Path tokens.
+     * @return Immutable value.
+     * @throws JsonException When there is no value.
+     */
+    public Object get(final List<String> path) throws JsonException {
+        Object node = this.root;
+        for (final String token : path) {
+            node = Draft.child(node, token);
+        }
+        return this.frozen(node);
+    }
+
+    /**
+     * Adds value at the path.
+     * @param path Path tokens.
+     * @param value Value to add.
+     * @throws JsonException When parent is not found.
+     */
+    public void add(final List<String> path, final Object value)
+        throws JsonException {
+        if (path.isEmpty()) {
+            this.root = value;
+        } else {
+            final Object parent = this.mutable(Draft.parent(path));
+            final String last = Draft.last(path);
+            if (parent instanceof Map<?, ?>) {
+                Draft.attrs(parent).put(last, value);
+            } else {
+                final List<Object> list = Draft.elems(parent);
+                list.add(Draft.position(last, list.size()), value);
+            }
+        }
+    }
+
+    /**
+     * Removes value at the path.
+     * @param path Path tokens.
+     * @return Removed value.
+     * @throws JsonException When value is not found.
+     */
+    public Object remove(final List<String> path) throws JsonException {
+        if (path.isEmpty()) {
+            throw new JsonException("Cannot remove the whole document");
+        }
+        final Object parent = this.mutable(Draft.parent(path));
+        final Object removed = Draft.child(parent, Draft.last(path));
+        if (parent instanceof Map<?, ?>) {
+            ((Map<?, ?>) parent).remove(Draft.last(path));
+        } else {
+            ((List<?>) parent).remove(
+                Draft.index(Draft.last(path), ((List<?>) parent).size())
+            );
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces value at the path keeping its position.
+     * @param path Path tokens.
+     * @param value New value.
+     * @throws JsonException When value is not found.
+     */
+    public void replace(final List<String> path, final Object value)
+        throws JsonException {
+        if (path.isEmpty()) {
+            this.root = value;
+        } else {
+            final Object parent = this.mutable(Draft.parent(path));
+            Draft.child(parent, Draft.last(path));
+            Draft.put(parent, Draft.last(path), value);
+        }
+    }
+
+    /**
+     * Patched document.
+     * @return Document.
+     * @throws JsonException When patched document is not an object.
+     */
+    public JsonObj result() throws JsonException {
+        final Object doc = this.frozen(this.root);
+        if (!(doc instanceof JsonObj)) {
+            throw new JsonException("Patched document is not an object");
+        }
+        return (JsonObj) doc;
+    }
+
+    /**
+     * Container at the path made mutable together with all its ancestors.
+     * @param path Path tokens.
+     * @return Mutable container.
+     * @throws JsonException When container is not found.
+     */
+    private Object mutable(final List<String> path) throws JsonException {
+        this.root = this.copy(this.root);
+        Object node = this.root;
+        for (final String token : path) {
+            final Object child = this.copy(Draft.child(node, token));
+            Draft.put(node, token, child);
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Mutable copy of container made once.
+     * @param node Container.
+     * @return Mutable copy.
+     * @throws JsonException When node is not a container.
+     */
+    private Object copy(final Object node) throws JsonException {
+        final Object result;
+        if (this.copies.contains(node)) {
+            result = node;
+        } else if (node instanceof Map<?, ?>) {
+            result = new LinkedHashMap<>((Map<?, ?>) node);
+        } else if (node instanceof List<?>) {
+            result = new ArrayList<>((List<?>) node);
+        } else {
+            throw new JsonException("Value is not a container");
+        }
+        this.copies.add(result);
+        return result;
+    }
+
+    /**
+     * Immutable value for possibly mutable one.
+     * @param node Value.
+     * @return Immutable value.
+     */
+    private Object frozen(final Object node) {
+        final Object result;
+        if (this.copies.contains(node) && node instanceof Map<?, ?>) {
+            final List<Attr<?>> attrs =
+                new ArrayList<>(((Map<?, ?>) node).size());
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) node).entrySet()) {
+                attrs.add(
+                    new Attr<>(
+                        (String) entry.getKey(), this.frozen(entry.getValue())
+                    )
+                );
+            }
+            result = new JsonObj(attrs);
+        } else if (this.copies.contains(node)) {
+            final List<Object> elems = new ArrayList<>(((List<?>) node).size());
+            for (final Object elem : (List<?>) node) {
+                elems.add(this.frozen(elem));
+            }
+            result = new JsonArr<>(elems);
+        } else {
+            result = node;
+        }
+        return result;
+    }
+
+    /**
+     * Child of container.
+     * @param node Container.
+     * @param token Reference token.
+     * @return Child value.
+     * @throws JsonException When child is not found.
+     */
+    private static Object child(final Object node, final String token)
+        throws JsonException {
+        final Object result;
+        if (node instanceof Map<?, ?>) {
+            final Map<?, ?> map = (Map<?, ?>) node;
+            if (!map.containsKey(token)) {
+                throw new JsonException(
+                    String.format("Attribute name \"%s\" not found", token)
+                );
+            }
+            result = map.get(token);
+        } else if (node instanceof List<?>) {
+            final List<?> list = (List<?>) node;
+            result = list.get(Draft.index(token, list.size()));
+        } else {
+            throw new JsonException(
+                String.format("Value for \"%s\" is not a container", token)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Puts child into mutable container.
+     * @param node Mutable container.
+     * @param token Reference token.
+     * @param child Child value.
+     * @throws JsonException When array index is invalid.
+     */
+    private static void put(final Object node, final String token,
+        final Object child) throws JsonException {
+        if (node instanceof Map<?, ?>) {
+            Draft.attrs(node).put(token, child);
+        } else {
+            final List<Object> list = Draft.elems(node);
+            list.set(Draft.index(token, list.size()), child);
+        }
+    }
+
+    /**
+     * Mutable object copy typed for writing.
+     * @param node Mutable object made by this draft.
+     * @return Attributes.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> attrs(final Object node) {
+        return (Map<String, Object>) node;
+    }
+
+    /**
+     * Mutable array copy typed for writing.
+     * @param node Mutable array made by this draft.
+     * @return Elements.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object> elems(final Object node) {
+        return (List<Object>) node;
+    }
+
+    /**
+     * Array index for reference token.
+     * @param token Reference token.
+     * @param size Number of valid indexes.
+     * @return Index.
+     * @throws JsonException When index is invalid.
+     */
+    private static int index(final String token, final int size)
+        throws JsonException {
+        if (!token.matches("0|[1-9][0-9]{0,8}")
+            || Integer.parseInt(token) >= size) {
+            throw new JsonException(
+                String.format("Invalid array index \"%s\"", token)
+            );
+        }
+        return Integer.parseInt(token);
+    }
+
+    /**
+     * Array position to add element at.
+     * @param token Reference token.
+     * @param size Array size.
+     * @return Position.
+     * @throws JsonException When index is invalid.
+     */
+    private static int position(final String token, final int size)
+        throws JsonException {
+        final int idx;
+        if (Draft.END.equals(token)) {
+            idx = size;
+        } else {
+            idx = Draft.index(token, size + 1);
+        }
+        return idx;
+    }
+
+    /**
+     * Path to parent.
+     * @param path Path tokens.
+     * @return Path tokens of parent.
+     */
+    private static List<String> parent(final List<String> path) {
+        return path.subList(0, path.size() - 1);
+    }
+
+    /**
+     * Last reference token.
+     * @param path Path tokens.
+     * @return Last token.
+     */
+    private static String last(final List<String> path) {
+        return path.get(path.size() - 1);
+    }
+}
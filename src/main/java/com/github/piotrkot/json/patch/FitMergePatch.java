@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.JournalNone;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.TrackedFit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.json.JsonObject;
+
+/**
+ * Make it fit by applying JSON Merge Patch defined in RFC 7386.
+ * Works directly on the object and shares all the values not touched
+ * by the patch. Each object on the paths of changes is rebuilt only once.
+ *
+ * @since 1.9
+ */
+public final class FitMergePatch implements TrackedFit<JsonObj> {
+    /**
+     * Merge patch.
+     */
+    private final Map<String, ?> patch;
+
+    /**
+     * Ctor.
+     * @param patch Merge patch from API.
+     */
+    public FitMergePatch(final JsonObject patch) {
+        this(new JsonObj(patch));
+    }
+
+    /**
+     * Ctor.
+     * @param patch Merge patch.
+     */
+    public FitMergePatch(final JsonObj patch) {
+        this.patch = patch;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal) {
+        return FitMergePatch.merged(input, this.patch, "", journal);
+    }
+
+    /**
+     * Target merged with patch.
+     * @param target Target object.
+     * @param patch Merge patch object.
+     * @param prefix Path to target object.
+     * @param journal Journal of changes.
+     * @return Merged object.
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    private static JsonObj merged(final Map<String, ?> target,
+        final Map<String, ?> patch, final String prefix,
+        final Journal journal) {
+        final Map<String, Object> map = new LinkedHashMap<>(target);
+        for (final Map.Entry<String, ?> entry : patch.entrySet()) {
+            final String path = prefix.concat(
+                new Pointer(entry.getKey()).asString()
+            );
+            final Object old = map.get(entry.getKey());
+            final Object value = entry.getValue();
+            if (value == null) {
+                if (map.containsKey(entry.getKey())) {
+                    map.remove(entry.getKey());
+                    journal.remove(path);
+                }
+            } else if (value instanceof Map<?, ?> && old instanceof Map<?, ?>) {
+                map.put(
+                    entry.getKey(),
+                    FitMergePatch.merged(
+                        FitMergePatch.attrs(old), FitMergePatch.attrs(value),
+                        path, journal
+                    )
+                );
+            } else {
+                final Object merged = FitMergePatch.value(value);
+                if (map.containsKey(entry.getKey())) {
+                    journal.replace(path, merged);
+                } else {
+                    journal.add(path, merged);
+                }
+                map.put(entry.getKey(), merged);
+            }
+        }
+        final List<Attr<?>> attrs = new ArrayList<>(map.size());
+        for (final Map.Entry<String, Object> entry : map.entrySet()) {
+            attrs.add(new Attr<>(entry.getKey(), entry.getValue()));
+        }
+        return new JsonObj(attrs);
+    }
+
+    /**
+     * Value of merge patch with nulls removed from objects.
+     * @param value Value of merge patch.
+     * @return Value to put into target.
+     */
+    private static Object value(final Object value) {
+        final Object result;
+        if (value instanceof Map<?, ?>) {
+            result = FitMergePatch.merged(
+                Collections.emptyMap(), FitMergePatch.attrs(value), "",
+                new JournalNone()
+            );
+        } else {
+            result = value;
+        }
+        return result;
+    }
+
+    /**
+     * JSON object typed by its attribute names.
+     * @param value JSON object.
+     * @return Attributes.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, ?> attrs(final Object value) {
+        return (Map<String, ?>) value;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.TrackedFit;
+import java.util.List;
+import javax.json.JsonArray;
+
+/**
+ * Make it fit by applying JSON Patch defined in RFC 6902.
+ * Works directly on the object and shares all the values not touched
+ * by the patch. Each object or array on the paths of operations is
+ * rebuilt only once. Changes are recorded in journal only when the whole
+ * patch succeeds.
+ *
+ * @since 1.9
+ */
+public final class FitPatch implements TrackedFit<JsonObj> {
+    /**
+     * Path attribute name.
+     */
+    private static final String PATH = "path";
+
+    /**
+     * From attribute name.
+     */
+    private static final String FROM = "from";
+
+    /**
+     * Value attribute name.
+     */
+    private static final String VAL = "value";
+
+    /**
+     * Patch operations.
+     */
+    private final Iterable<JsonObj> ops;
+
+    /**
+     * Ctor.
+     * @param patch JSON Patch from API.
+     */
+    public FitPatch(final JsonArray patch) {
+        this(new JsonArr<JsonObj>(patch));
+    }
+
+    /**
+     * Ctor.
+     * @param ops Patch operations.
+     */
+    public FitPatch(final Iterable<JsonObj> ops) {
+        this.ops = ops;
+    }
+
+    @Override
+    public JsonObj make(final JsonObj input, final Journal journal)
+        throws Exception {
+        final Draft draft = new Draft(input);
+        final BufferedJournal changes = new BufferedJournal();
+        for (final JsonObj oper : this.ops) {
+            FitPatch.apply(draft, oper, changes);
+        }
+        final JsonObj result = draft.result();
+        changes.flush(journal);
+        return result;
+    }
+
+    /**
+     * Applies operation to the draft.
+     * @param draft Draft of document.
+     * @param oper Patch operation.
+     * @param journal Journal of changes.
+     * @throws JsonException When operation fails.
+     * @checkstyle CyclomaticComplexity (3 lines)
+     */
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static void apply(final Draft draft, final JsonObj oper,
+        final Journal journal) throws JsonException {
+        final String path = oper.get(FitPatch.PATH);
+        final List<String> tokens = new PointerTokens(path).asList();
+        final String name = oper.get("op");
+        switch (name) {
+            case "add":
+                draft.add(tokens, oper.get(FitPatch.VAL));
+                journal.add(path, oper.get(FitPatch.VAL));
+                break;
+            case "remove":
+                draft.remove(tokens);
+                journal.remove(path);
+                break;
+            case "replace":
+                draft.replace(tokens, oper.get(FitPatch.VAL));
+                journal.replace(path, oper.get(FitPatch.VAL));
+                break;
+            case "move":
+                FitPatch.move(draft, oper, tokens);
+                journal.move(oper.get(FitPatch.FROM), path);
+                break;
+            case "copy":
+                final Object copied = draft.get(
+                    new PointerTokens(oper.get(FitPatch.FROM)).asList()
+                );
+                draft.add(tokens, copied);
+                journal.add(path, copied);
+                break;
+            case "test":
+                if (!new SameValue(
+                    draft.get(tokens), oper.get(FitPatch.VAL)
+                ).value()) {
+                    throw new JsonException(
+                        String.format("Test of \"%s\" failed", path)
+                    );
+                }
+                break;
+            default:
+                throw new JsonException(
+                    String.format("Operation \"%s\" not supported", name)
+                );
+        }
+    }
+
+    /**
+     * Moves value within the draft.
+     * @param draft Draft of document.
+     * @param oper Patch operation.
+     * @param tokens Path tokens.
+     * @throws JsonException When operation fails.
+     */
+    private static void move(final Draft draft, final JsonObj oper,
+        final List<String> tokens) throws JsonException {
+        final List<String> from =
+            new PointerTokens(oper.get(FitPatch.FROM)).asList();
+        if (tokens.size() > from.size()
+            && tokens.subList(0, from.size()).equals(from)) {
+            throw new JsonException("Cannot move value into its child");
+        }
+        draft.add(tokens, draft.remove(from));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Value located in JSON document by pointer.
+ * Reference tokens are parsed once, so the same pointer can be resolved
+ * against many documents cheaply.
+ *
+ * @since 1.9
+ */
+public final class Located {
+    /**
+     * Array index token.
+     */
+    private static final Pattern NUMERIC = Pattern.compile("0|[1-9][0-9]{0,8}");
+
+    /**
+     * Reference tokens.
+     */
+    private final String[] tokens;
+
+    /**
+     * Ctor.
+     * @param pointer JSON pointer.
+     */
+    public Located(final String pointer) {
+        this(new PointerTokens(pointer));
+    }
+
+    /**
+     * Ctor.
+     * @param tokens Reference tokens.
+     */
+    public Located(final Iterable<String> tokens) {
+        this.tokens = Located.array(tokens);
+    }
+
+    /**
+     * Value in document.
+     * @param doc Document, object or array.
+     * @param def Default value.
+     * @return Value or default when not found.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public Object value(final Object doc, final Object def) {
+        Object node = doc;
+        for (final String token : this.tokens) {
+            node = Located.child(node, token, def);
+            if (node == def) {
+                break;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Child of container.
+     * @param node Container.
+     * @param token Reference token.
+     * @param def Default value.
+     * @return Child or default when not found.
+     */
+    private static Object child(final Object node, final String token,
+        final Object def) {
+        Object result = def;
+        if (node instanceof Map<?, ?>) {
+            final Map<?, ?> map = (Map<?, ?>) node;
+            if (map.containsKey(token)) {
+                result = map.get(token);
+            }
+        } else if (node instanceof List<?>) {
+            final List<?> list = (List<?>) node;
+            final int idx = Located.index(token);
+            if (idx >= 0 && idx < list.size()) {
+                result = list.get(idx);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Array index of token.
+     * @param token Reference token.
+     * @return Index or negative if token is not an index.
+     */
+    private static int index(final String token) {
+        int result = -1;
+        if (Located.NUMERIC.matcher(token).matches()) {
+            result = Integer.parseInt(token);
+        }
+        return result;
+    }
+
+    /**
+     * Tokens as array.
+     * @param tokens Tokens.
+     * @return Array.
+     */
+    private static String[] array(final Iterable<String> tokens) {
+        final List<String> list = new ArrayList<>(0);
+        for (final String token : tokens) {
+            list.add(token);
+        }
+        return list.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Journal;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonVal;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.json.JsonArray;
+
+/**
+ * Journal recording changes as JSON Patch defined in RFC 6902.
+ *
+ * @since 1.9
+ */
+public final class PatchJournal implements Journal,
+    JsonVal<Collection<JsonObj>> {
+    /**
+     * Operation attribute name.
+     */
+    private static final String OP = "op";
+
+    /**
+     * Path attribute name.
+     */
+    private static final String PATH = "path";
+
+    /**
+     * Value attribute name.
+     */
+    private static final String VAL = "value";
+
+    /**
+     * Recorded operations.
+     */
+    private final Queue<JsonObj> ops;
+
+    /**
+     * Ctor.
+     */
+    public PatchJournal() {
+        this.ops = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public void add(final String path, final Object value) {
+        this.ops.add(
+            new JsonObj(
+                new Attr<>(PatchJournal.OP, "add"),
+                new Attr<>(PatchJournal.PATH, path),
+                new Attr<>(PatchJournal.VAL, value)
+            )
+        );
+    }
+
+    @Override
+    public void remove(final String path) {
+        this.ops.add(
+            new JsonObj(
+                new Attr<>(PatchJournal.OP, "remove"),
+                new Attr<>(PatchJournal.PATH, path)
+            )
+        );
+    }
+
+    @Override
+    public void replace(final String path, final Object value) {
+        this.ops.add(
+            new JsonObj(
+                new Attr<>(PatchJournal.OP, "replace"),
+                new Attr<>(PatchJournal.PATH, path),
+                new Attr<>(PatchJournal.VAL, value)
+            )
+        );
+    }
+
+    @Override
+    public void move(final String from, final String path) {
+        this.ops.add(
+            new JsonObj(
+                new Attr<>(PatchJournal.OP, "move"),
+                new Attr<>("from", from),
+                new Attr<>(PatchJournal.PATH, path)
+            )
+        );
+    }
+
+    @Override
+    public JsonArray jsonValue() {
+        return this.value().jsonValue();
+    }
+
+    @Override
+    public JsonArr<JsonObj> value() {
+        return new JsonArr<>(this.ops);
+    }
+}
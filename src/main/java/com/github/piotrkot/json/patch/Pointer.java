@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import java.util.Arrays;
+
+/**
+ * JSON pointer as defined in RFC 6901.
+ *
+ * @since 1.9
+ */
+public final class Pointer {
+    /**
+     * Reference tokens.
+     */
+    private final Iterable<String> tokens;
+
+    /**
+     * Ctor.
+     * @param tokens Reference tokens.
+     */
+    public Pointer(final String... tokens) {
+        this(Arrays.asList(tokens));
+    }
+
+    /**
+     * Ctor.
+     * @param tokens Reference tokens.
+     */
+    public Pointer(final Iterable<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Pointer as string with escaped reference tokens.
+     * @return Pointer.
+     */
+    public String asString() {
+        final StringBuilder text = new StringBuilder();
+        for (final String token : this.tokens) {
+            text.append('/').append(
+                token.replace("~", "~0").replace("/", "~1")
+            );
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.asString();
+    }
+}
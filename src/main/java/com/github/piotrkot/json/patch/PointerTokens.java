@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.JsonException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Reference tokens of JSON pointer as defined in RFC 6901.
+ *
+ * @since 1.9
+ */
+public final class PointerTokens implements Iterable<String> {
+    /**
+     * Pointer as string.
+     */
+    private final String text;
+
+    /**
+     * Ctor.
+     * @param text Pointer as string.
+     */
+    public PointerTokens(final String text) {
+        this.text = text;
+    }
+
+    /**
+     * Unescaped reference tokens.
+     * @return Tokens.
+     * @throws JsonException When pointer is malformed.
+     */
+    public List<String> asList() throws JsonException {
+        final List<String> tokens = new ArrayList<>(0);
+        if (!this.text.isEmpty()) {
+            if (this.text.charAt(0) != '/') {
+                throw new JsonException(
+                    String.format("Invalid JSON pointer \"%s\"", this.text)
+                );
+            }
+            for (final String token : this.text.substring(1).split("/", -1)) {
+                tokens.add(token.replace("~1", "/").replace("~0", "~"));
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        try {
+            return this.asList().iterator();
+        } catch (final JsonException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
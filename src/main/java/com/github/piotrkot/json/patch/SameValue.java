@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Equality of JSON values as JSON Patch test operation sees it.
+ *
+ * <p>Numbers are equal by value, so 1, 1L and 1.0 are the same. Objects
+ * and arrays are compared member by member.
+ *
+ * @since 1.9
+ */
+final class SameValue {
+    /**
+     * First value.
+     */
+    private final Object first;
+
+    /**
+     * Second value.
+     */
+    private final Object second;
+
+    /**
+     * Ctor.
+     * @param first First value.
+     * @param second Second value.
+     */
+    SameValue(final Object first, final Object second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Checks if values are the same.
+     * @return True if values are equal.
+     */
+    public boolean value() {
+        return SameValue.same(this.first, this.second);
+    }
+
+    /**
+     * Checks if values are the same.
+     * @param first First value.
+     * @param second Second value.
+     * @return True if values are equal.
+     */
+    private static boolean same(final Object first, final Object second) {
+        final boolean result;
+        if (first instanceof Number && second instanceof Number) {
+            result = SameValue.numbers((Number) first, (Number) second);
+        } else if (first instanceof Map<?, ?> && second instanceof Map<?, ?>) {
+            result = SameValue.maps((Map<?, ?>) first, (Map<?, ?>) second);
+        } else if (first instanceof List<?> && second instanceof List<?>) {
+            result = SameValue.lists((List<?>) first, (List<?>) second);
+        } else {
+            result = Objects.equals(first, second);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if numbers have the same value.
+     * @param first First number.
+     * @param second Second number.
+     * @return True if values are equal.
+     */
+    private static boolean numbers(final Number first, final Number second) {
+        final boolean result;
+        if (SameValue.finite(first) && SameValue.finite(second)) {
+            result = new BigDecimal(first.toString())
+                .compareTo(new BigDecimal(second.toString())) == 0;
+        } else {
+            result = first.equals(second);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if objects have the same members.
+     * @param first First object.
+     * @param second Second object.
+     * @return True if objects are equal.
+     */
+    private static boolean maps(final Map<?, ?> first,
+        final Map<?, ?> second) {
+        boolean result = first.size() == second.size();
+        for (final Map.Entry<?, ?> entry : first.entrySet()) {
+            if (!result) {
+                break;
+            }
+            result = second.containsKey(entry.getKey())
+                && SameValue.same(entry.getValue(), second.get(entry.getKey()));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if arrays have the same elements in the same order.
+     * @param first First array.
+     * @param second Second array.
+     * @return True if arrays are equal.
+     */
+    private static boolean lists(final List<?> first, final List<?> second) {
+        boolean result = first.size() == second.size();
+        final Iterator<?> other = second.iterator();
+        for (final Object elem : first) {
+            if (!result) {
+                break;
+            }
+            result = SameValue.same(elem, other.next());
+        }
+        return result;
+    }
+
+    /**
+     * Checks if number has decimal representation.
+     * @param num Number.
+     * @return True unless number is infinite or not a number.
+     */
+    private static boolean finite(final Number num) {
+        return !(num instanceof Double || num instanceof Float)
+            || Double.isFinite(num.doubleValue());
+    }
+}
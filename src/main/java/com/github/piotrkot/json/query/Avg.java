@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.patch.Located;
+
+/**
+ * Average of numeric values at path.
+ *
+ * @since 1.9
+ */
+public final class Avg implements Aggregate {
+    /**
+     * Attribute name.
+     */
+    private final String label;
+
+    /**
+     * Located values.
+     */
+    private final Located located;
+
+    /**
+     * Ctor.
+     * @param name Attribute name.
+     * @param path JSON pointer of values.
+     */
+    public Avg(final String name, final String path) {
+        this.label = name;
+        this.located = new Located(path);
+    }
+
+    @Override
+    public String name() {
+        return this.label;
+    }
+
+    @Override
+    public Accumulator start() {
+        return new Stats(this.located, Stats::avg);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.JsonObj;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BinaryOperator;
+
+/**
+ * Objects of source processed in chunks in parallel.
+ * Each chunk gives a partial result in the common fork-join pool and
+ * partial results are merged in order of chunks. Lists with random access
+ * are split into views, other sources are read into chunks as they are
+ * iterated with a bounded number of chunks in flight.
+ *
+ * @since 1.9
+ */
+final class Chunks {
+    /**
+     * Default number of objects in chunk.
+     */
+    static final int SIZE = 4096;
+
+    /**
+     * Source of objects.
+     */
+    private final Iterable<JsonObj> source;
+
+    /**
+     * Number of objects in chunk.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param source Source of objects.
+     * @param size Number of objects in chunk, at least one.
+     */
+    Chunks(final Iterable<JsonObj> source, final int size) {
+        this.source = source;
+        this.size = Chunks.valid(size);
+    }
+
+    /**
+     * Validated number of objects in chunk.
+     * @param size Number of objects in chunk.
+     * @return The same number.
+     * @throws IllegalArgumentException When it is less than one.
+     */
+    static int valid(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                String.format("Chunk size %d is less than one", size)
+            );
+        }
+        return size;
+    }
+
+    /**
+     * Merged partial results of chunks.
+     * @param partial Partial result of chunk.
+     * @param merge Merge of partial results, the earlier one first.
+     * @param empty Result of no objects.
+     * @param <R> Type of result.
+     * @return Result.
+     * @throws Exception When partial result fails.
+     */
+    <R> R reduced(final Partial<R> partial, final BinaryOperator<R> merge,
+        final R empty) throws Exception {
+        final Sink<R> sink = new Sink<>(partial, merge, empty);
+        if (this.source instanceof List && this.source instanceof RandomAccess) {
+            final List<JsonObj> list = (List<JsonObj>) this.source;
+            for (int from = 0; from < list.size(); from += this.size) {
+                sink.accept(
+                    list.subList(from, Math.min(from + this.size, list.size()))
+                );
+            }
+        } else {
+            List<JsonObj> chunk = new ArrayList<>(this.size);
+            for (final JsonObj obj : this.source) {
+                chunk.add(obj);
+                if (chunk.size() == this.size) {
+                    sink.accept(chunk);
+                    chunk = new ArrayList<>(this.size);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                sink.accept(chunk);
+            }
+        }
+        return sink.result();
+    }
+
+    /**
+     * Partial result of chunk.
+     * @param <R> Type of result.
+     * @since 1.9
+     */
+    interface Partial<R> {
+        /**
+         * Gives partial result.
+         * @param chunk Objects of chunk.
+         * @return Partial result.
+         * @throws Exception When fails.
+         */
+        R apply(List<JsonObj> chunk) throws Exception;
+    }
+
+    /**
+     * Chunks in flight and merged result.
+     * @param <R> Type of result.
+     * @since 1.9
+     */
+    private static final class Sink<R> {
+        /**
+         * Partial result of chunk.
+         */
+        private final Partial<R> partial;
+
+        /**
+         * Merge of partial results.
+         */
+        private final BinaryOperator<R> merge;
+
+        /**
+         * Chunks in flight.
+         */
+        private final Deque<Future<R>> running;
+
+        /**
+         * Merged result so far.
+         */
+        private R merged;
+
+        /**
+         * Ctor.
+         * @param partial Partial result of chunk.
+         * @param merge Merge of partial results.
+         * @param empty Result of no objects.
+         */
+        Sink(final Partial<R> partial, final BinaryOperator<R> merge,
+            final R empty) {
+            this.partial = partial;
+            this.merge = merge;
+            this.running = new ArrayDeque<>(0);
+            this.merged = empty;
+        }
+
+        /**
+         * Starts chunk, merging the oldest one when too many are in flight.
+         * @param chunk Objects of chunk.
+         * @throws Exception When partial result fails.
+         */
+        void accept(final List<JsonObj> chunk) throws Exception {
+            this.running.add(
+                ForkJoinPool.commonPool().submit(() -> this.partial.apply(chunk))
+            );
+            if (this.running.size() > ForkJoinPool.getCommonPoolParallelism() * 2) {
+                this.next();
+            }
+        }
+
+        /**
+         * Merged result of all chunks.
+         * @return Result.
+         * @throws Exception When partial result fails.
+         */
+        R result() throws Exception {
+            while (!this.running.isEmpty()) {
+                this.next();
+            }
+            return this.merged;
+        }
+
+        /**
+         * Merges the oldest chunk in flight.
+         * @throws Exception When partial result fails.
+         */
+        private void next() throws Exception {
+            try {
+                this.merged = this.merge.apply(
+                    this.merged, this.running.poll().get()
+                );
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof Exception) {
+                    throw (Exception) ex.getCause();
+                }
+                throw ex;
+            }
+        }
+    }
+}
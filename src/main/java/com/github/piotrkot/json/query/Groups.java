@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonObjBuilder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulators of objects grouped by values, in order of the first object
+ * of group.
+ *
+ * @since 1.9
+ */
+final class Groups {
+    /**
+     * Aggregates.
+     */
+    private final Aggregate[] aggs;
+
+    /**
+     * Accumulators by grouping values.
+     */
+    private final Map<List<Object>, Accumulator[]> accs;
+
+    /**
+     * Ctor.
+     * @param aggs Aggregates.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Groups(final Aggregate... aggs) {
+        this.aggs = aggs;
+        this.accs = new LinkedHashMap<>(0);
+    }
+
+    /**
+     * Adds object to group.
+     * @param key Grouping values.
+     * @param obj Object.
+     */
+    void add(final Object[] key, final JsonObj obj) {
+        final Accumulator[] group = this.accs.computeIfAbsent(
+            Arrays.asList(key), any -> this.started()
+        );
+        for (final Accumulator acc : group) {
+            acc.add(obj);
+        }
+    }
+
+    /**
+     * Merges later groups into these.
+     * @param later Later groups.
+     * @return These groups.
+     */
+    Groups merged(final Groups later) {
+        for (final Map.Entry<List<Object>, Accumulator[]> group
+            : later.accs.entrySet()) {
+            this.accs.merge(
+                group.getKey(), group.getValue(),
+                (first, second) -> {
+                    for (int idx = 0; idx < first.length; idx += 1) {
+                        first[idx].merge(second[idx]);
+                    }
+                    return first;
+                }
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Objects with grouping and aggregated values.
+     * @param names Names of grouping values.
+     * @return Objects.
+     */
+    List<JsonObj> rows(final String... names) {
+        final List<JsonObj> rows = new ArrayList<>(this.accs.size());
+        for (final Map.Entry<List<Object>, Accumulator[]> group
+            : this.accs.entrySet()) {
+            final JsonObjBuilder row = new JsonObjBuilder(
+                names.length + this.aggs.length
+            );
+            for (int idx = 0; idx < names.length; idx += 1) {
+                row.add(names[idx], group.getKey().get(idx));
+            }
+            for (int idx = 0; idx < this.aggs.length; idx += 1) {
+                row.add(this.aggs[idx].name(), group.getValue()[idx].result());
+            }
+            rows.add(row.freeze());
+        }
+        return rows;
+    }
+
+    /**
+     * Started accumulators.
+     * @return Accumulators.
+     */
+    private Accumulator[] started() {
+        final Accumulator[] started = new Accumulator[this.aggs.length];
+        for (int idx = 0; idx < this.aggs.length; idx += 1) {
+            started[idx] = this.aggs[idx].start();
+        }
+        return started;
+    }
+}
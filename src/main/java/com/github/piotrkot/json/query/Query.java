@@ -0,0 +1,273 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.Condition;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonObjBuilder;
+import com.github.piotrkot.json.PlainValue;
+import com.github.piotrkot.json.patch.Located;
+import com.github.piotrkot.json.patch.PointerTokens;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Query over objects of a source.
+ * Objects are filtered, projected, grouped and ranked in chunks in
+ * parallel, each chunk giving partial result that is merged with others,
+ * so conditions must be thread-safe. Query is immutable and the source is
+ * read once each time a result is asked for.
+ *
+ * @since 1.9
+ */
+public final class Query {
+    /**
+     * Marker of missing value.
+     */
+    private static final Object MISSING = new Object();
+
+    /**
+     * Source of objects.
+     */
+    private final Iterable<JsonObj> source;
+
+    /**
+     * Conditions of objects.
+     */
+    private final List<Condition<JsonObj>> conds;
+
+    /**
+     * Number of objects in chunk.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param source Source of objects.
+     */
+    public Query(final Iterable<JsonObj> source) {
+        this(source, Chunks.SIZE);
+    }
+
+    /**
+     * Ctor.
+     * @param source Source of objects.
+     * @param size Number of objects in chunk processed by one thread, at
+     *  least one.
+     */
+    public Query(final Iterable<JsonObj> source, final int size) {
+        this(source, new ArrayList<>(0), Chunks.valid(size));
+    }
+
+    /**
+     * Ctor.
+     * @param source Source of objects.
+     * @param conds Conditions of objects.
+     * @param size Number of objects in chunk processed by one thread.
+     */
+    private Query(final Iterable<JsonObj> source,
+        final List<Condition<JsonObj>> conds, final int size) {
+        this.source = source;
+        this.conds = conds;
+        this.size = size;
+    }
+
+    /**
+     * Query of objects satisfying also given condition.
+     * @param cond Condition.
+     * @return Query.
+     */
+    public Query where(final Condition<JsonObj> cond) {
+        final List<Condition<JsonObj>> all = new ArrayList<>(this.conds);
+        all.add(cond);
+        return new Query(this.source, all, this.size);
+    }
+
+    /**
+     * Objects with values at paths, named after the last reference token
+     * of path. Missing values are left out.
+     * @param paths JSON pointers of values.
+     * @return Objects in order of source.
+     * @throws Exception When fails.
+     */
+    public JsonArr<JsonObj> select(final String... paths) throws Exception {
+        final String[] names = Query.names(paths);
+        final Located[] located = Query.located(paths);
+        return new JsonArr<>(
+            new Chunks(this.source, this.size).<List<JsonObj>>reduced(
+                chunk -> {
+                    final List<JsonObj> rows = new ArrayList<>(chunk.size());
+                    for (final JsonObj obj : chunk) {
+                        if (this.accepted(obj)) {
+                            rows.add(Query.projected(obj, names, located));
+                        }
+                    }
+                    return rows;
+                },
+                (first, second) -> {
+                    first.addAll(second);
+                    return first;
+                },
+                new ArrayList<>(0)
+            )
+        );
+    }
+
+    /**
+     * Aggregates of objects grouped by values at paths. Each group is an
+     * object with grouping values named after the last reference token of
+     * path and aggregated values.
+     * @param keys JSON pointers of grouping values.
+     * @param aggs Aggregates.
+     * @return Groups in order of their first object.
+     * @throws Exception When fails.
+     */
+    public JsonArr<JsonObj> group(final Iterable<String> keys,
+        final Aggregate... aggs) throws Exception {
+        final List<String> paths = new ArrayList<>(0);
+        keys.forEach(paths::add);
+        final String[] names = Query.names(paths.toArray(new String[0]));
+        final Located[] located = Query.located(paths.toArray(new String[0]));
+        return new JsonArr<>(
+            new Chunks(this.source, this.size).reduced(
+                chunk -> {
+                    final Groups groups = new Groups(aggs);
+                    for (final JsonObj obj : chunk) {
+                        if (this.accepted(obj)) {
+                            final Object[] key = new Object[located.length];
+                            for (int idx = 0; idx < key.length; idx += 1) {
+                                key[idx] = new PlainValue(
+                                    located[idx].value(obj, null)
+                                ).value();
+                            }
+                            groups.add(key, obj);
+                        }
+                    }
+                    return groups;
+                },
+                Groups::merged,
+                new Groups(aggs)
+            ).rows(names)
+        );
+    }
+
+    /**
+     * Objects with the highest numeric values at path. Objects without
+     * numeric value are left out.
+     * @param count Number of objects.
+     * @param path JSON pointer of values.
+     * @return Objects from the highest value.
+     * @throws Exception When fails.
+     */
+    public JsonArr<JsonObj> top(final int count, final String path)
+        throws Exception {
+        final Located located = new Located(path);
+        return new JsonArr<>(
+            new Chunks(this.source, this.size).reduced(
+                chunk -> {
+                    final Ranking ranking = new Ranking(count);
+                    for (final JsonObj obj : chunk) {
+                        final Object value = located.value(obj, null);
+                        if (value instanceof Number && this.accepted(obj)) {
+                            ranking.offer(((Number) value).doubleValue(), obj);
+                        }
+                    }
+                    return ranking;
+                },
+                Ranking::merged,
+                new Ranking(count)
+            ).sorted()
+        );
+    }
+
+    /**
+     * Whether object satisfies all conditions.
+     * @param obj Object.
+     * @return True if satisfies.
+     * @throws Exception When condition fails.
+     */
+    private boolean accepted(final JsonObj obj) throws Exception {
+        boolean result = true;
+        for (final Condition<JsonObj> cond : this.conds) {
+            if (!cond.test(obj)) {
+                result = false;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Object with projected values.
+     * @param obj Object.
+     * @param names Names of values.
+     * @param located Values.
+     * @return Projected object.
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    private static JsonObj projected(final JsonObj obj, final String[] names,
+        final Located... located) {
+        final JsonObjBuilder row = new JsonObjBuilder(names.length);
+        for (int idx = 0; idx < names.length; idx += 1) {
+            final Object value = located[idx].value(obj, Query.MISSING);
+            if (value != Query.MISSING) {
+                row.add(names[idx], value);
+            }
+        }
+        return row.freeze();
+    }
+
+    /**
+     * Names after the last reference token of paths.
+     * @param paths JSON pointers.
+     * @return Names.
+     * @throws JsonException When pointer is malformed.
+     */
+    private static String[] names(final String... paths) throws JsonException {
+        final String[] names = new String[paths.length];
+        for (int idx = 0; idx < paths.length; idx += 1) {
+            final List<String> tokens = new PointerTokens(paths[idx]).asList();
+            if (tokens.isEmpty()) {
+                throw new JsonException("Path of value can not be empty");
+            }
+            names[idx] = tokens.get(tokens.size() - 1);
+        }
+        return names;
+    }
+
+    /**
+     * Located values at paths.
+     * @param paths JSON pointers.
+     * @return Located values.
+     */
+    private static Located[] located(final String... paths) {
+        final Located[] located = new Located[paths.length];
+        for (int idx = 0; idx < paths.length; idx += 1) {
+            located[idx] = new Located(paths[idx]);
+        }
+        return located;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.JsonObj;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Objects with the highest scores, kept on min-heap so that object with
+ * the lowest score is replaced first.
+ *
+ * @since 1.9
+ */
+final class Ranking {
+    /**
+     * Order by score.
+     */
+    private static final Comparator<Ranked> ORDER =
+        Comparator.comparingDouble(rank -> rank.score);
+
+    /**
+     * Number of objects.
+     */
+    private final int count;
+
+    /**
+     * Objects with the lowest score on top.
+     */
+    private final PriorityQueue<Ranked> heap;
+
+    /**
+     * Ctor.
+     * @param count Number of objects.
+     */
+    Ranking(final int count) {
+        this.count = count;
+        this.heap = new PriorityQueue<>(Math.max(count, 1), Ranking.ORDER);
+    }
+
+    /**
+     * Offers object with score.
+     * @param score Score.
+     * @param obj Object.
+     */
+    void offer(final double score, final JsonObj obj) {
+        this.offer(new Ranked(score, obj));
+    }
+
+    /**
+     * Offers all objects of other ranking.
+     * @param other Other ranking.
+     * @return This ranking.
+     */
+    Ranking merged(final Ranking other) {
+        for (final Ranked rank : other.heap) {
+            this.offer(rank);
+        }
+        return this;
+    }
+
+    /**
+     * Objects from the highest score.
+     * @return Objects.
+     */
+    List<JsonObj> sorted() {
+        final List<Ranked> ranks = new ArrayList<>(this.heap);
+        ranks.sort(Ranking.ORDER.reversed());
+        final List<JsonObj> objs = new ArrayList<>(ranks.size());
+        for (final Ranked rank : ranks) {
+            objs.add(rank.obj);
+        }
+        return objs;
+    }
+
+    /**
+     * Offers ranked object.
+     * @param rank Ranked object.
+     */
+    private void offer(final Ranked rank) {
+        if (this.heap.size() < this.count) {
+            this.heap.add(rank);
+        } else if (this.count > 0 && this.heap.peek().score < rank.score) {
+            this.heap.poll();
+            this.heap.add(rank);
+        }
+    }
+
+    /**
+     * Object ranked by score.
+     *
+     * @since 1.9
+     */
+    private static final class Ranked {
+        /**
+         * Score.
+         */
+        private final double score;
+
+        /**
+         * Object.
+         */
+        private final JsonObj obj;
+
+        /**
+         * Ctor.
+         * @param score Score.
+         * @param obj Object.
+         */
+        Ranked(final double score, final JsonObj obj) {
+            this.score = score;
+            this.obj = obj;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.Located;
+import java.util.function.Function;
+
+/**
+ * Accumulator of statistics of numeric values at path.
+ * Values that are not numbers are counted as objects only.
+ *
+ * @since 1.9
+ */
+final class Stats implements Accumulator {
+    /**
+     * Located values.
+     */
+    private final Located located;
+
+    /**
+     * Aggregated value of statistics.
+     */
+    private final Function<Stats, Object> outcome;
+
+    /**
+     * Number of objects.
+     */
+    private long seen;
+
+    /**
+     * Number of numeric values.
+     */
+    private long numeric;
+
+    /**
+     * Sum of values.
+     */
+    private double total;
+
+    /**
+     * The lowest value.
+     */
+    private double lowest;
+
+    /**
+     * The highest value.
+     */
+    private double highest;
+
+    /**
+     * Ctor.
+     * @param located Located values.
+     * @param outcome Aggregated value of statistics.
+     */
+    Stats(final Located located, final Function<Stats, Object> outcome) {
+        this.located = located;
+        this.outcome = outcome;
+        this.lowest = Double.POSITIVE_INFINITY;
+        this.highest = Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public void add(final JsonObj obj) {
+        this.seen += 1L;
+        final Object value = this.located.value(obj, null);
+        if (value instanceof Number) {
+            final double num = ((Number) value).doubleValue();
+            this.numeric += 1L;
+            this.total += num;
+            this.lowest = Math.min(this.lowest, num);
+            this.highest = Math.max(this.highest, num);
+        }
+    }
+
+    @Override
+    public void merge(final Accumulator other) {
+        final Stats that = (Stats) other;
+        this.seen += that.seen;
+        this.numeric += that.numeric;
+        this.total += that.total;
+        this.lowest = Math.min(this.lowest, that.lowest);
+        this.highest = Math.max(this.highest, that.highest);
+    }
+
+    @Override
+    public Object result() {
+        return this.outcome.apply(this);
+    }
+
+    /**
+     * Number of objects.
+     * @return Count.
+     */
+    Long objects() {
+        return this.seen;
+    }
+
+    /**
+     * Sum of values.
+     * @return Sum.
+     */
+    Double sum() {
+        return this.total;
+    }
+
+    /**
+     * The lowest value.
+     * @return Value or null when there were no values.
+     */
+    Double min() {
+        Double result = null;
+        if (this.numeric > 0L) {
+            result = this.lowest;
+        }
+        return result;
+    }
+
+    /**
+     * The highest value.
+     * @return Value or null when there were no values.
+     */
+    Double max() {
+        Double result = null;
+        if (this.numeric > 0L) {
+            result = this.highest;
+        }
+        return result;
+    }
+
+    /**
+     * Average value.
+     * @return Value or null when there were no values.
+     */
+    Double avg() {
+        Double result = null;
+        if (this.numeric > 0L) {
+            result = this.total / this.numeric;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import com.github.piotrkot.json.JsonObj;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * External merge sort of objects not fitting in memory.
+ * Objects are kept as UTF-8 text with their sort keys in runs of half of
+ * memory budget. Full run is sorted in parallel and spilled to temporary
+ * file in background while the next one is read. Spilled runs are merged
+ * by k-way merge, in a few passes when there are too many of them. When
+ * all objects fit in a single run nothing is spilled.
+ *
+ * @since 1.9
+ */
+public final class ExternalSort {
+    /**
+     * Maximum number of runs merged at once.
+     */
+    private static final int FANIN = 64;
+
+    /**
+     * Directory of temporary files.
+     */
+    private final Path dir;
+
+    /**
+     * Memory budget in bytes.
+     */
+    private final long budget;
+
+    /**
+     * Order of objects.
+     */
+    private final PathOrder order;
+
+    /**
+     * Ctor.
+     * @param dir Directory of temporary files.
+     * @param budget Memory budget in bytes.
+     * @param order Order of objects.
+     */
+    public ExternalSort(final Path dir, final long budget,
+        final PathOrder order) {
+        this.dir = dir;
+        this.budget = budget;
+        this.order = order;
+    }
+
+    /**
+     * Sorted objects of source.
+     * @param source Source of objects.
+     * @return Sorted objects, to be closed.
+     * @throws IOException When spilling fails.
+     */
+    public SortedObjs sorted(final Iterable<JsonObj> source)
+        throws IOException {
+        final List<Path> files = new ArrayList<>(0);
+        final Deque<Future<?>> spilling = new ArrayDeque<>(1);
+        try {
+            List<Keyed> run = new ArrayList<>(0);
+            long used = 0L;
+            for (final JsonObj obj : source) {
+                final Keyed rec = new Keyed(
+                    this.order.key(obj),
+                    obj.jsonValue().toString().getBytes(StandardCharsets.UTF_8)
+                );
+                run.add(rec);
+                used += rec.bytes();
+                if (used >= this.budget / 2) {
+                    this.spill(run, spilling, files);
+                    run = new ArrayList<>(run.size());
+                    used = 0L;
+                }
+            }
+            final SortedObjs sorted;
+            if (files.isEmpty()) {
+                final Keyed[] recs = run.toArray(new Keyed[0]);
+                Arrays.parallelSort(recs, Keyed.ORDER);
+                sorted = new SortedObjs(Arrays.asList(recs).iterator(), () -> { });
+            } else {
+                if (!run.isEmpty()) {
+                    this.spill(run, spilling, files);
+                }
+                ExternalSort.finish(spilling);
+                this.reduce(files);
+                final Merge merge = new Merge(files, this.order.width());
+                sorted = new SortedObjs(
+                    merge,
+                    () -> {
+                        try {
+                            merge.close();
+                        } finally {
+                            ExternalSort.delete(files);
+                        }
+                    }
+                );
+            }
+            return sorted;
+        } catch (final IOException | UncheckedIOException ex) {
+            try {
+                ExternalSort.finish(spilling);
+            } catch (final IOException other) {
+                ex.addSuppressed(other);
+            }
+            ExternalSort.delete(files);
+            throw ex;
+        }
+    }
+
+    /**
+     * Spills run in background after the previous one is spilled.
+     * @param run Records of run.
+     * @param spilling Runs being spilled.
+     * @param files Files of runs.
+     * @throws IOException When spilling fails.
+     */
+    private void spill(final List<Keyed> run, final Deque<Future<?>> spilling,
+        final List<Path> files) throws IOException {
+        ExternalSort.finish(spilling);
+        final Path file = Files.createTempFile(this.dir, "run-", ".bin");
+        files.add(file);
+        spilling.add(
+            ForkJoinPool.commonPool().submit(
+                () -> {
+                    final Keyed[] recs = run.toArray(new Keyed[0]);
+                    Arrays.parallelSort(recs, Keyed.ORDER);
+                    Run.write(file, recs.length, Arrays.asList(recs).iterator());
+                    return file;
+                }
+            )
+        );
+    }
+
+    /**
+     * Merges runs until there are few enough of them to merge at once.
+     * @param files Files of runs.
+     * @throws IOException When merging fails.
+     */
+    private void reduce(final List<Path> files) throws IOException {
+        while (files.size() > ExternalSort.FANIN) {
+            final List<Path> merged = new ArrayList<>(
+                files.subList(0, ExternalSort.FANIN)
+            );
+            final Path file = Files.createTempFile(this.dir, "run-", ".bin");
+            files.add(file);
+            try (Merge merge = new Merge(merged, this.order.width())) {
+                Run.write(file, merge.count(), merge);
+            } catch (final UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            files.removeAll(merged);
+            ExternalSort.delete(merged);
+        }
+    }
+
+    /**
+     * Waits until runs are spilled.
+     * @param spilling Runs being spilled.
+     * @throws IOException When spilling of any run failed.
+     */
+    private static void finish(final Deque<Future<?>> spilling)
+        throws IOException {
+        IOException failure = null;
+        while (!spilling.isEmpty()) {
+            try {
+                spilling.poll().get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                failure = new IOException("Interrupted while spilling", ex);
+            } catch (final ExecutionException ex) {
+                failure = new IOException("Failed to spill run", ex.getCause());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Deletes files of runs.
+     * @param files Files of runs.
+     * @throws IOException When fails.
+     */
+    private static void delete(final Iterable<Path> files) throws IOException {
+        for (final Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
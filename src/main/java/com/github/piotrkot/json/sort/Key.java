@@ -0,0 +1,392 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sort key of object, values at paths kept as primitives where possible.
+ * Missing and null values go first, then false, true, numbers, strings
+ * and the other values compared by their text. Integral numbers are kept
+ * as longs and numbers out of range of long as big decimals, so that they
+ * are compared exactly, also with doubles.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class Key {
+    /**
+     * Kind of missing or null value.
+     */
+    private static final byte NONE = 0;
+
+    /**
+     * Kind of false value.
+     */
+    private static final byte FALSE = 1;
+
+    /**
+     * Kind of true value.
+     */
+    private static final byte TRUE = 2;
+
+    /**
+     * Kind of integral value in range of long.
+     */
+    private static final byte LONG = 3;
+
+    /**
+     * Kind of double value.
+     */
+    private static final byte DOUBLE = 4;
+
+    /**
+     * Kind of numeric value out of range of long or double.
+     */
+    private static final byte BIG = 5;
+
+    /**
+     * Kind of string value.
+     */
+    private static final byte TEXT = 6;
+
+    /**
+     * Kind of other value.
+     */
+    private static final byte OTHER = 7;
+
+    /**
+     * Kinds of values.
+     */
+    private final byte[] kinds;
+
+    /**
+     * Longs and bits of doubles.
+     */
+    private final long[] nums;
+
+    /**
+     * String values, text of big numbers and text of other values.
+     */
+    private final String[] texts;
+
+    /**
+     * Ctor.
+     * @param values Values at paths, null for missing ones.
+     */
+    Key(final Object... values) {
+        this(Key.classified(values), values);
+    }
+
+    /**
+     * Ctor.
+     * @param kinds Kinds of values.
+     * @param values Values at paths.
+     */
+    private Key(final byte[] kinds, final Object... values) {
+        this(kinds, Key.numeric(kinds, values), Key.textual(kinds, values));
+    }
+
+    /**
+     * Ctor.
+     * @param kinds Kinds of values.
+     * @param nums Longs and bits of doubles.
+     * @param texts String values, text of big numbers and text of other
+     *  values.
+     */
+    @SuppressWarnings({"PMD.ArrayIsStoredDirectly", "PMD.UseVarargs"})
+    private Key(final byte[] kinds, final long[] nums, final String[] texts) {
+        this.kinds = kinds;
+        this.nums = nums;
+        this.texts = texts;
+    }
+
+    /**
+     * Compares with other key of the same paths.
+     * @param other Other key.
+     * @return Negative, zero or positive when less, equal or greater.
+     */
+    int compared(final Key other) {
+        int result = 0;
+        for (int idx = 0; idx < this.kinds.length && result == 0; idx += 1) {
+            result = Integer.compare(
+                Key.rank(this.kinds[idx]), Key.rank(other.kinds[idx])
+            );
+            if (result == 0 && Key.rank(this.kinds[idx]) == Key.LONG) {
+                result = this.numeric(other, idx);
+            } else if (result == 0 && this.kinds[idx] >= Key.TEXT) {
+                result = this.texts[idx].compareTo(other.texts[idx]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Estimated number of bytes taken in memory.
+     * @return Number of bytes.
+     */
+    long bytes() {
+        long bytes = 64L + this.kinds.length * 24L;
+        for (final String text : this.texts) {
+            if (text != null) {
+                bytes += 48L + text.length() * 2L;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes key.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    void write(final DataOutput output) throws IOException {
+        for (int idx = 0; idx < this.kinds.length; idx += 1) {
+            output.writeByte(this.kinds[idx]);
+            if (this.kinds[idx] == Key.LONG || this.kinds[idx] == Key.DOUBLE) {
+                output.writeLong(this.nums[idx]);
+            } else if (this.kinds[idx] >= Key.BIG) {
+                final byte[] utf = this.texts[idx]
+                    .getBytes(StandardCharsets.UTF_8);
+                output.writeInt(utf.length);
+                output.write(utf);
+            }
+        }
+    }
+
+    /**
+     * Reads key.
+     * @param input Input.
+     * @param width Number of values.
+     * @return Key.
+     * @throws IOException When fails.
+     */
+    static Key read(final DataInput input, final int width)
+        throws IOException {
+        final byte[] kinds = new byte[width];
+        final long[] nums = new long[width];
+        final String[] texts = new String[width];
+        for (int idx = 0; idx < width; idx += 1) {
+            kinds[idx] = input.readByte();
+            if (kinds[idx] == Key.LONG || kinds[idx] == Key.DOUBLE) {
+                nums[idx] = input.readLong();
+            } else if (kinds[idx] >= Key.BIG) {
+                final byte[] utf = new byte[input.readInt()];
+                input.readFully(utf);
+                texts[idx] = new String(utf, StandardCharsets.UTF_8);
+            }
+        }
+        return new Key(kinds, nums, texts);
+    }
+
+    /**
+     * Compares numbers with other key.
+     * @param other Other key.
+     * @param idx Index of values.
+     * @return Negative, zero or positive when less, equal or greater.
+     */
+    private int numeric(final Key other, final int idx) {
+        final int result;
+        if (this.kinds[idx] == Key.LONG && other.kinds[idx] == Key.LONG) {
+            result = Long.compare(this.nums[idx], other.nums[idx]);
+        } else if (this.kinds[idx] == Key.DOUBLE
+            && other.kinds[idx] == Key.DOUBLE) {
+            result = Double.compare(
+                Double.longBitsToDouble(this.nums[idx]),
+                Double.longBitsToDouble(other.nums[idx])
+            );
+        } else if (this.finite(idx) && other.finite(idx)) {
+            result = this.decimal(idx).compareTo(other.decimal(idx));
+        } else {
+            result = Double.compare(this.approx(idx), other.approx(idx));
+        }
+        return result;
+    }
+
+    /**
+     * Whether number is finite.
+     * @param idx Index of value.
+     * @return True if finite.
+     */
+    private boolean finite(final int idx) {
+        return this.kinds[idx] != Key.DOUBLE
+            || !Double.isInfinite(Double.longBitsToDouble(this.nums[idx]))
+            && !Double.isNaN(Double.longBitsToDouble(this.nums[idx]));
+    }
+
+    /**
+     * Number as exact decimal.
+     * @param idx Index of value.
+     * @return Decimal.
+     */
+    private BigDecimal decimal(final int idx) {
+        final BigDecimal result;
+        if (this.kinds[idx] == Key.LONG) {
+            result = BigDecimal.valueOf(this.nums[idx]);
+        } else if (this.kinds[idx] == Key.DOUBLE) {
+            result = new BigDecimal(Double.longBitsToDouble(this.nums[idx]));
+        } else {
+            result = new BigDecimal(this.texts[idx]);
+        }
+        return result;
+    }
+
+    /**
+     * Number as double.
+     * @param idx Index of value.
+     * @return Double.
+     */
+    private double approx(final int idx) {
+        final double result;
+        if (this.kinds[idx] == Key.LONG) {
+            result = this.nums[idx];
+        } else if (this.kinds[idx] == Key.DOUBLE) {
+            result = Double.longBitsToDouble(this.nums[idx]);
+        } else {
+            result = new BigDecimal(this.texts[idx]).doubleValue();
+        }
+        return result;
+    }
+
+    /**
+     * Rank of kind in order, all numbers ranked the same.
+     * @param kind Kind.
+     * @return Rank.
+     */
+    private static int rank(final byte kind) {
+        final int result;
+        if (kind >= Key.LONG && kind <= Key.BIG) {
+            result = Key.LONG;
+        } else {
+            result = kind;
+        }
+        return result;
+    }
+
+    /**
+     * Kinds of values.
+     * @param values Values.
+     * @return Kinds.
+     */
+    private static byte[] classified(final Object... values) {
+        final byte[] kinds = new byte[values.length];
+        for (int idx = 0; idx < values.length; idx += 1) {
+            kinds[idx] = Key.kind(values[idx]);
+        }
+        return kinds;
+    }
+
+    /**
+     * Kind of value.
+     * @param value Value.
+     * @return Kind.
+     */
+    private static byte kind(final Object value) {
+        final byte kind;
+        if (value == null) {
+            kind = Key.NONE;
+        } else if (value instanceof Boolean) {
+            if ((Boolean) value) {
+                kind = Key.TRUE;
+            } else {
+                kind = Key.FALSE;
+            }
+        } else if (value instanceof Number) {
+            kind = Key.number((Number) value);
+        } else if (value instanceof CharSequence) {
+            kind = Key.TEXT;
+        } else {
+            kind = Key.OTHER;
+        }
+        return kind;
+    }
+
+    /**
+     * Kind of number.
+     * @param num Number.
+     * @return Kind.
+     */
+    private static byte number(final Number num) {
+        final byte kind;
+        if (num instanceof Double || num instanceof Float) {
+            kind = Key.DOUBLE;
+        } else if (num instanceof BigDecimal || num instanceof BigInteger) {
+            final BigDecimal dec = new BigDecimal(num.toString())
+                .stripTrailingZeros();
+            if (dec.scale() <= 0 && dec.toBigInteger().bitLength() < 64) {
+                kind = Key.LONG;
+            } else {
+                kind = Key.BIG;
+            }
+        } else {
+            kind = Key.LONG;
+        }
+        return kind;
+    }
+
+    /**
+     * Longs and bits of doubles of values.
+     * @param kinds Kinds of values.
+     * @param values Values.
+     * @return Longs and bits of doubles.
+     */
+    private static long[] numeric(final byte[] kinds, final Object... values) {
+        final long[] nums = new long[values.length];
+        for (int idx = 0; idx < values.length; idx += 1) {
+            if (kinds[idx] == Key.LONG) {
+                nums[idx] = ((Number) values[idx]).longValue();
+            } else if (kinds[idx] == Key.DOUBLE) {
+                nums[idx] = Double.doubleToLongBits(
+                    ((Number) values[idx]).doubleValue()
+                );
+            }
+        }
+        return nums;
+    }
+
+    /**
+     * Texts of values.
+     * @param kinds Kinds of values.
+     * @param values Values.
+     * @return String values, text of big numbers and text of other values.
+     */
+    private static String[] textual(final byte[] kinds,
+        final Object... values) {
+        final String[] texts = new String[values.length];
+        for (int idx = 0; idx < values.length; idx += 1) {
+            if (kinds[idx] == Key.BIG) {
+                texts[idx] = new BigDecimal(values[idx].toString())
+                    .toPlainString();
+            } else if (kinds[idx] >= Key.TEXT) {
+                texts[idx] = values[idx].toString();
+            }
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * Object as UTF-8 text with its sort key.
+ *
+ * @since 1.9
+ */
+final class Keyed {
+    /**
+     * Order by key.
+     */
+    static final Comparator<Keyed> ORDER = (first, second) ->
+        first.key.compared(second.key);
+
+    /**
+     * Sort key.
+     */
+    private final Key key;
+
+    /**
+     * Object as UTF-8 text.
+     */
+    private final byte[] text;
+
+    /**
+     * Ctor.
+     * @param key Sort key.
+     * @param doc Object as UTF-8 text.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    Keyed(final Key key, final byte[] doc) {
+        this.key = key;
+        this.text = doc;
+    }
+
+    /**
+     * Object as UTF-8 text.
+     * @return Bytes.
+     */
+    @SuppressWarnings("PMD.MethodReturnsInternalArray")
+    byte[] doc() {
+        return this.text;
+    }
+
+    /**
+     * Estimated number of bytes taken in memory.
+     * @return Number of bytes.
+     */
+    long bytes() {
+        return 32L + this.text.length + this.key.bytes();
+    }
+
+    /**
+     * Writes key and object.
+     * @param output Output.
+     * @throws IOException When fails.
+     */
+    void write(final DataOutput output) throws IOException {
+        this.key.write(output);
+        output.writeInt(this.text.length);
+        output.write(this.text);
+    }
+
+    /**
+     * Reads key and object.
+     * @param input Input.
+     * @param width Number of values in key.
+     * @return Keyed object.
+     * @throws IOException When fails.
+     */
+    static Keyed read(final DataInput input, final int width)
+        throws IOException {
+        final Key key = Key.read(input, width);
+        final byte[] doc = new byte[input.readInt()];
+        input.readFully(doc);
+        return new Keyed(key, doc);
+    }
+}
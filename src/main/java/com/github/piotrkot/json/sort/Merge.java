@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * K-way merge of sorted runs, keeping run with the least record on top of
+ * heap.
+ *
+ * @since 1.9
+ */
+final class Merge implements Iterator<Keyed>, Closeable {
+    /**
+     * Runs with records left.
+     */
+    private final PriorityQueue<Run> heap;
+
+    /**
+     * All runs.
+     */
+    private final List<Run> runs;
+
+    /**
+     * Ctor.
+     * @param files Files of runs.
+     * @param width Number of values in key.
+     * @throws IOException When fails.
+     */
+    Merge(final Iterable<Path> files, final int width) throws IOException {
+        this.runs = Merge.opened(files, width);
+        this.heap = Merge.started(this.runs);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.heap.isEmpty();
+    }
+
+    @Override
+    public Keyed next() {
+        if (this.heap.isEmpty()) {
+            throw new NoSuchElementException("No more sorted records");
+        }
+        final Run run = this.heap.poll();
+        final Keyed least = run.current();
+        this.forward(run);
+        return least;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final Run run : this.runs) {
+            run.close();
+        }
+    }
+
+    /**
+     * Number of records in all runs.
+     * @return Number of records.
+     */
+    int count() {
+        int count = 0;
+        for (final Run run : this.runs) {
+            count += run.count();
+        }
+        return count;
+    }
+
+    /**
+     * Reads next record of run, returning run to heap unless it ended.
+     * @param run Run.
+     */
+    private void forward(final Run run) {
+        try {
+            if (run.advance()) {
+                this.heap.add(run);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Opened runs.
+     * @param files Files of runs.
+     * @param width Number of values in key.
+     * @return Runs.
+     * @throws IOException When fails.
+     */
+    private static List<Run> opened(final Iterable<Path> files,
+        final int width) throws IOException {
+        final List<Run> runs = new ArrayList<>(0);
+        try {
+            for (final Path file : files) {
+                runs.add(new Run(file, width));
+            }
+        } catch (final IOException ex) {
+            for (final Run run : runs) {
+                run.close();
+            }
+            throw ex;
+        }
+        return runs;
+    }
+
+    /**
+     * Heap of runs with the first record read.
+     * @param runs Runs.
+     * @return Heap of runs.
+     * @throws IOException When fails.
+     */
+    private static PriorityQueue<Run> started(final Iterable<Run> runs)
+        throws IOException {
+        final PriorityQueue<Run> heap = new PriorityQueue<>(
+            (first, second) -> Keyed.ORDER.compare(
+                first.current(), second.current()
+            )
+        );
+        try {
+            for (final Run run : runs) {
+                if (run.advance()) {
+                    heap.add(run);
+                }
+            }
+        } catch (final IOException ex) {
+            for (final Run run : runs) {
+                run.close();
+            }
+            throw ex;
+        }
+        return heap;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.Located;
+import java.util.Comparator;
+
+/**
+ * Ascending order of objects by values at paths, the first path the most
+ * significant. Numbers are compared exactly by value, as primitive longs
+ * or doubles where they fit. Missing and null values go first, then false,
+ * true, numbers, strings and the other values compared by their text.
+ *
+ * @since 1.9
+ */
+public final class PathOrder implements Comparator<JsonObj> {
+    /**
+     * Located values.
+     */
+    private final Located[] located;
+
+    /**
+     * Ctor.
+     * @param paths JSON pointers of values.
+     */
+    public PathOrder(final String... paths) {
+        this.located = PathOrder.values(paths);
+    }
+
+    @Override
+    public int compare(final JsonObj first, final JsonObj second) {
+        return this.key(first).compared(this.key(second));
+    }
+
+    /**
+     * Sort key of object.
+     * @param obj Object.
+     * @return Key.
+     */
+    Key key(final JsonObj obj) {
+        final Object[] values = new Object[this.located.length];
+        for (int idx = 0; idx < this.located.length; idx += 1) {
+            values[idx] = this.located[idx].value(obj, null);
+        }
+        return new Key(values);
+    }
+
+    /**
+     * Number of values in key.
+     * @return Number of values.
+     */
+    int width() {
+        return this.located.length;
+    }
+
+    /**
+     * Located values at paths.
+     * @param paths JSON pointers.
+     * @return Located values.
+     */
+    private static Located[] values(final String... paths) {
+        final Located[] located = new Located[paths.length];
+        for (int idx = 0; idx < paths.length; idx += 1) {
+            located[idx] = new Located(paths[idx]);
+        }
+        return located;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Sorted run spilled to file, read sequentially. File starts with number
+ * of records, each record is sort key followed by length and UTF-8 text of
+ * object.
+ *
+ * @since 1.9
+ */
+final class Run implements Closeable {
+    /**
+     * Buffer size.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Input.
+     */
+    private final DataInputStream input;
+
+    /**
+     * Number of values in key.
+     */
+    private final int width;
+
+    /**
+     * Number of records.
+     */
+    private final int records;
+
+    /**
+     * Number of records not read.
+     */
+    private int left;
+
+    /**
+     * The last record read.
+     */
+    private Keyed last;
+
+    /**
+     * Ctor.
+     * @param file File of run.
+     * @param width Number of values in key.
+     * @throws IOException When fails.
+     */
+    Run(final Path file, final int width) throws IOException {
+        this.input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(file), Run.BUFFER)
+        );
+        this.width = width;
+        this.records = this.input.readInt();
+        this.left = this.records;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.input.close();
+    }
+
+    /**
+     * Number of records.
+     * @return Number of records.
+     */
+    int count() {
+        return this.records;
+    }
+
+    /**
+     * Reads next record.
+     * @return True if read, false at the end of run.
+     * @throws IOException When fails.
+     */
+    boolean advance() throws IOException {
+        final boolean more = this.left > 0;
+        if (more) {
+            this.last = Keyed.read(this.input, this.width);
+            this.left -= 1;
+        }
+        return more;
+    }
+
+    /**
+     * The last record read.
+     * @return Record.
+     */
+    Keyed current() {
+        return this.last;
+    }
+
+    /**
+     * Writes records to file.
+     * @param file File of run.
+     * @param count Number of records.
+     * @param records Records in order.
+     * @throws IOException When fails.
+     */
+    static void write(final Path file, final int count,
+        final Iterator<Keyed> records) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file), Run.BUFFER)
+        )) {
+            output.writeInt(count);
+            while (records.hasNext()) {
+                records.next().write(output);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import com.github.piotrkot.json.JsonObj;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Sorted objects, parsed one by one. Closing releases spilled runs.
+ *
+ * @since 1.9
+ */
+public final class SortedObjs implements Iterator<JsonObj>, Closeable {
+    /**
+     * Records in order.
+     */
+    private final Iterator<Keyed> records;
+
+    /**
+     * Release of runs.
+     */
+    private final Closeable release;
+
+    /**
+     * Ctor.
+     * @param records Records in order.
+     * @param release Release of runs.
+     */
+    SortedObjs(final Iterator<Keyed> records, final Closeable release) {
+        this.records = records;
+        this.release = release;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.records.hasNext();
+    }
+
+    @Override
+    public JsonObj next() {
+        return new JsonObj(this.records.next().doc());
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.release.close();
+    }
+}
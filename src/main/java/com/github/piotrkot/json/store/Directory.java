@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Directory of files whose entries are made durable.
+ * Creating, renaming or deleting a file changes its directory, which has to
+ * be forced to disk on its own for the change to survive a crash. On
+ * Windows directories can not be opened for that and are left as they are.
+ *
+ * @since 1.9
+ */
+final class Directory {
+    /**
+     * Whether directories can not be forced to disk.
+     */
+    private static final boolean WINDOWS = System.getProperty("os.name", "")
+        .startsWith("Windows");
+
+    /**
+     * Path of directory.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param path Path of directory.
+     */
+    Directory(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Forces entries of directory to disk.
+     * @throws IOException When fails.
+     */
+    void sync() throws IOException {
+        try (FileChannel chan = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            chan.force(true);
+        } catch (final AccessDeniedException ex) {
+            if (!Directory.WINDOWS) {
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.changes.FitTracked;
+import com.github.piotrkot.json.patch.FitPatch;
+import com.github.piotrkot.json.patch.PatchJournal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * JSON object persisted as log of changes.
+ * Each fit made to the object appends the changes it recorded as JSON Patch
+ * to a segmented write-ahead log, so a write costs the size of the change
+ * rather than the size of the object. Fits not recording changes are
+ * logged as replacement of the whole object. Concurrent writers share
+ * one fsync. Every given number of changes the object is written as
+ * snapshot and the log is dropped. On first access the object is recovered
+ * from the snapshot and the log.
+ *
+ * @since 1.9
+ */
+public final class LoggedObj implements Closeable {
+    /**
+     * Sequence number attribute name.
+     */
+    private static final String SEQ = "seq";
+
+    /**
+     * Changes attribute name.
+     */
+    private static final String OPS = "ops";
+
+    /**
+     * Object attribute name.
+     */
+    private static final String DOC = "doc";
+
+    /**
+     * Log of changes.
+     */
+    private final Segments log;
+
+    /**
+     * Snapshot of object.
+     */
+    private final Snapshot snapshot;
+
+    /**
+     * Object before first change.
+     */
+    private final JsonObj initial;
+
+    /**
+     * Number of changes between snapshots.
+     */
+    private final long every;
+
+    /**
+     * Lock of object state.
+     */
+    private final Object lock;
+
+    /**
+     * Current object.
+     */
+    private JsonObj current;
+
+    /**
+     * Sequence number of the last change.
+     */
+    private long seq;
+
+    /**
+     * Whether object was recovered.
+     */
+    private boolean recovered;
+
+    /**
+     * Ctor.
+     * @param dir Directory of log and snapshot.
+     * @param initial Object before first change.
+     */
+    public LoggedObj(final Path dir, final JsonObj initial) {
+        this(dir, initial, 64L << 20, 10_000L);
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory of log and snapshot.
+     * @param initial Object before first change.
+     * @param segment Size of log segment after which next one is started,
+     *  at least one byte.
+     * @param every Number of changes between snapshots, at least one.
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public LoggedObj(final Path dir, final JsonObj initial,
+        final long segment, final long every) {
+        this.log = new Segments(
+            dir, LoggedObj.positive(segment, "Segment size")
+        );
+        this.snapshot = new Snapshot(dir.resolve("snapshot.json"));
+        this.initial = initial;
+        this.every = LoggedObj.positive(every, "Snapshot interval");
+        this.lock = new Object();
+    }
+
+    /**
+     * Current object.
+     * @return Object.
+     * @throws Exception When recovery fails.
+     */
+    public JsonObj get() throws Exception {
+        synchronized (this.lock) {
+            this.recover();
+            return this.current;
+        }
+    }
+
+    /**
+     * Makes fit to object and waits until the change is durable.
+     * @param fit Fit to make.
+     * @return Updated object.
+     * @throws Exception When fit or writing fails.
+     */
+    public JsonObj apply(final Fit<JsonObj> fit) throws Exception {
+        final JsonObj result;
+        long position = 0L;
+        synchronized (this.lock) {
+            this.recover();
+            final PatchJournal patch = new PatchJournal();
+            result = new FitTracked<>(fit).make(this.current, patch);
+            if (!patch.value().isEmpty()) {
+                final long next = this.seq + 1L;
+                position = this.log.append(
+                    next,
+                    new JsonObj(
+                        new Attr<>(LoggedObj.SEQ, next),
+                        new Attr<>(LoggedObj.OPS, patch.value())
+                    )
+                );
+                this.seq = next;
+                this.current = result;
+                if (this.seq % this.every == 0L) {
+                    this.snapshot.write(
+                        new JsonObj(
+                            new Attr<>(LoggedObj.SEQ, this.seq),
+                            new Attr<>(LoggedObj.DOC, result)
+                        )
+                    );
+                    this.log.compact();
+                }
+            }
+        }
+        this.log.sync(position);
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.log.close();
+    }
+
+    /**
+     * Recovers object from snapshot and log unless recovered already.
+     * Changes covered by the snapshot are skipped.
+     * @throws Exception When fails.
+     */
+    private void recover() throws Exception {
+        if (!this.recovered) {
+            JsonObj doc = this.initial;
+            long last = 0L;
+            if (this.snapshot.exists()) {
+                final JsonObj snap = this.snapshot.read();
+                last = snap.<Number>get(LoggedObj.SEQ).longValue();
+                doc = snap.get(LoggedObj.DOC);
+            }
+            for (final JsonObj record : this.log.recover()) {
+                final long num = record.<Number>get(LoggedObj.SEQ).longValue();
+                if (num > last) {
+                    doc = new FitPatch(
+                        record.<Iterable<JsonObj>>get(LoggedObj.OPS)
+                    ).make(doc);
+                    last = num;
+                }
+            }
+            this.current = doc;
+            this.seq = last;
+            this.recovered = true;
+        }
+    }
+
+    /**
+     * Validated positive number.
+     * @param num Number.
+     * @param what What the number is.
+     * @return The same number.
+     * @throws IllegalArgumentException When it is less than one.
+     */
+    private static long positive(final long num, final String what) {
+        if (num < 1L) {
+            throw new IllegalArgumentException(
+                String.format("%s %d is less than one", what, num)
+            );
+        }
+        return num;
+    }
+}
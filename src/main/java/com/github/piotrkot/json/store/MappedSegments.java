@@ -0,0 +1,374 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records in memory-mapped segment files of fixed size.
+ * Record is length of key, length of value, key and value. Length of
+ * value is negative for removal. Length of key is written last, so zero
+ * length ends the records of segment. Offset of record is the segment
+ * number in upper and position in lower half. Records are appended by one
+ * thread at a time and read by any thread. Segment file that cannot be
+ * deleted while mapped is marked and deleted on recovery.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class MappedSegments implements Closeable {
+    /**
+     * Size of record header.
+     */
+    private static final int HEADER = 8;
+
+    /**
+     * Directory of segments.
+     */
+    private final Path dir;
+
+    /**
+     * Size of segment.
+     */
+    private final int size;
+
+    /**
+     * Mapped segments, null when dropped.
+     */
+    private volatile MappedByteBuffer[] maps;
+
+    /**
+     * Bytes used in segments.
+     */
+    private int[] used;
+
+    /**
+     * Bytes of records not live in segments.
+     */
+    private int[] garbage;
+
+    /**
+     * Segment appended to.
+     */
+    private int active;
+
+    /**
+     * Ctor.
+     * @param dir Directory of segments.
+     * @param size Size of segment.
+     */
+    MappedSegments(final Path dir, final int size) {
+        this.dir = dir;
+        this.size = size;
+        this.maps = new MappedByteBuffer[0];
+        this.used = new int[0];
+        this.garbage = new int[0];
+        this.active = -1;
+    }
+
+    @Override
+    public void close() {
+        for (final MappedByteBuffer map : this.maps) {
+            if (map != null) {
+                map.force();
+            }
+        }
+    }
+
+    /**
+     * Maps existing segments and visits their records in order.
+     * @param visitor Visitor of records.
+     * @throws IOException When fails.
+     */
+    void recover(final Visitor visitor) throws IOException {
+        Files.createDirectories(this.dir);
+        final List<Path> files = new ArrayList<>(0);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+            this.dir, "seg-*.dat"
+        )) {
+            for (final Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        for (final Path file : files) {
+            final String name = file.getFileName().toString();
+            final int seg = Integer.parseInt(
+                name.substring(name.indexOf('-') + 1, name.indexOf('.'))
+            );
+            if (Files.exists(this.marker(seg))) {
+                Files.delete(file);
+                Files.delete(this.marker(seg));
+            } else {
+                this.mapped(seg);
+                this.used[seg] = this.scan(seg, visitor);
+                this.active = seg;
+            }
+        }
+    }
+
+    /**
+     * Appends record.
+     * @param key Key.
+     * @param value Value or empty for removal.
+     * @return Offset of record.
+     * @throws IOException When fails.
+     */
+    long append(final byte[] key, final byte[]... value) throws IOException {
+        final int vlen;
+        if (value.length == 0) {
+            vlen = -1;
+        } else {
+            vlen = value[0].length;
+        }
+        final int len = MappedSegments.HEADER + key.length + Math.max(vlen, 0);
+        if (len > this.size - Integer.BYTES) {
+            throw new IOException(
+                String.format(
+                    "Record of %d bytes does not fit segment of %d bytes",
+                    len, this.size
+                )
+            );
+        }
+        if (this.active < 0 || this.used[this.active] + len
+            > this.size - Integer.BYTES) {
+            this.active += 1;
+            this.mapped(this.active);
+        }
+        final int pos = this.used[this.active];
+        final ByteBuffer buf = this.maps[this.active].duplicate();
+        buf.position(pos + Integer.BYTES);
+        buf.putInt(vlen).put(key);
+        if (vlen >= 0) {
+            buf.put(value[0]);
+        }
+        buf.putInt(pos, key.length);
+        this.used[this.active] = pos + len;
+        return (long) this.active << 32 | pos;
+    }
+
+    /**
+     * Key of record.
+     * @param offset Offset of record.
+     * @return Key or empty if segment was dropped.
+     */
+    String key(final long offset) {
+        final ByteBuffer buf = this.record(offset);
+        String result = "";
+        if (buf.hasRemaining()) {
+            final byte[] key = new byte[buf.getInt()];
+            buf.getInt();
+            buf.get(key);
+            result = new String(key, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * Value of record.
+     * @param offset Offset of record.
+     * @return Value or empty for removal or if segment was dropped.
+     */
+    byte[] value(final long offset) {
+        final ByteBuffer buf = this.record(offset);
+        byte[] value = new byte[0];
+        if (buf.hasRemaining()) {
+            final int klen = buf.getInt();
+            value = new byte[Math.max(buf.getInt(), 0)];
+            buf.position(buf.position() + klen);
+            buf.get(value);
+        }
+        return value;
+    }
+
+    /**
+     * Counts record as not live anymore.
+     * @param offset Offset of record.
+     */
+    void discard(final long offset) {
+        final ByteBuffer buf = this.record(offset);
+        final int seg = (int) (offset >>> 32);
+        this.garbage[seg] += MappedSegments.HEADER + buf.getInt()
+            + Math.max(buf.getInt(), 0);
+    }
+
+    /**
+     * Segments other than the active one with at least half of bytes
+     * not live.
+     * @return Segment numbers.
+     */
+    List<Integer> sparse() {
+        final List<Integer> segs = new ArrayList<>(0);
+        for (int seg = 0; seg < this.active; seg += 1) {
+            if (this.maps[seg] != null && this.garbage[seg] * 2 >= this.used[seg]) {
+                segs.add(seg);
+            }
+        }
+        return segs;
+    }
+
+    /**
+     * Whether no segment precedes given one.
+     * @param seg Segment number.
+     * @return True if segment is the oldest one.
+     */
+    boolean oldest(final int seg) {
+        boolean result = true;
+        for (int idx = 0; idx < seg; idx += 1) {
+            if (this.maps[idx] != null) {
+                result = false;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Visits records of segment in order.
+     * @param seg Segment number.
+     * @param visitor Visitor of records.
+     * @return Position after the last record.
+     * @throws IOException When visitor fails.
+     */
+    int scan(final int seg, final Visitor visitor) throws IOException {
+        final ByteBuffer buf = this.maps[seg].duplicate();
+        int pos = 0;
+        while (pos + MappedSegments.HEADER <= this.size && buf.getInt(pos) > 0) {
+            final long offset = (long) seg << 32 | pos;
+            final int vlen = buf.getInt(pos + Integer.BYTES);
+            visitor.visit(offset, this.key(offset), vlen < 0);
+            pos += MappedSegments.HEADER + buf.getInt(pos) + Math.max(vlen, 0);
+        }
+        return pos;
+    }
+
+    /**
+     * Drops segment. Readers still holding offsets into it read it
+     * until the mapping is collected, so it is not unmapped here. File
+     * that cannot be deleted while mapped, as on Windows, is marked
+     * instead and deleted on recovery.
+     * @param seg Segment number.
+     * @throws IOException When fails.
+     */
+    void drop(final int seg) throws IOException {
+        final MappedByteBuffer[] dropped = this.maps.clone();
+        dropped[seg] = null;
+        this.maps = dropped;
+        try {
+            Files.delete(this.file(seg));
+        } catch (final FileSystemException ex) {
+            Files.write(this.marker(seg), new byte[0]);
+        }
+    }
+
+    /**
+     * Maps segment file, creating it when missing.
+     * @param seg Segment number.
+     * @throws IOException When fails.
+     */
+    private void mapped(final int seg) throws IOException {
+        if (seg >= this.used.length) {
+            final int length = Math.max(seg + 1, this.used.length * 2);
+            this.used = Arrays.copyOf(this.used, length);
+            this.garbage = Arrays.copyOf(this.garbage, length);
+        }
+        Files.deleteIfExists(this.marker(seg));
+        final MappedByteBuffer[] grown = Arrays.copyOf(
+            this.maps, Math.max(this.maps.length, seg + 1)
+        );
+        try (FileChannel chan = FileChannel.open(
+            this.file(seg), StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            grown[seg] = chan.map(FileChannel.MapMode.READ_WRITE, 0L, this.size);
+        }
+        this.maps = grown;
+    }
+
+    /**
+     * Buffer positioned at record.
+     * @param offset Offset of record.
+     * @return Buffer or empty one if segment was dropped.
+     */
+    private ByteBuffer record(final long offset) {
+        final MappedByteBuffer[] all = this.maps;
+        final int seg = (int) (offset >>> 32);
+        final ByteBuffer buf;
+        if (seg < all.length && all[seg] != null) {
+            buf = all[seg].duplicate();
+            buf.position((int) offset);
+        } else {
+            buf = ByteBuffer.allocate(0);
+        }
+        return buf;
+    }
+
+    /**
+     * File of segment.
+     * @param seg Segment number.
+     * @return File.
+     */
+    private Path file(final int seg) {
+        return this.dir.resolve(String.format("seg-%08d.dat", seg));
+    }
+
+    /**
+     * Marker of dropped segment whose file is left to delete.
+     * @param seg Segment number.
+     * @return Marker file.
+     */
+    private Path marker(final int seg) {
+        return this.dir.resolve(String.format("seg-%08d.del", seg));
+    }
+
+    /**
+     * Visitor of records.
+     *
+     * @since 1.9
+     */
+    interface Visitor {
+        /**
+         * Visits record.
+         * @param offset Offset of record.
+         * @param key Key of record.
+         * @param removal Whether record is removal.
+         * @throws IOException When fails.
+         */
+        void visit(long offset, String key, boolean removal) throws IOException;
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongPredicate;
+
+/**
+ * Store of JSON objects by key in memory-mapped segment files.
+ * Objects are appended as compact JSON text. An open-addressing index
+ * of primitive slots maps keys to records, so it holds no object per key.
+ * Reads are lock-free and do not copy segments to heap beyond the record
+ * read. Writes are serialized. Segments with at least half of their bytes
+ * overwritten or removed are compacted in the background by copying live
+ * records to the end. The index is rebuilt from segments on first access.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class MappedStore implements Closeable {
+    /**
+     * Segments.
+     */
+    private final MappedSegments segments;
+
+    /**
+     * Index.
+     */
+    private final SlotIndex index;
+
+    /**
+     * Lock of writes.
+     */
+    private final Object writer;
+
+    /**
+     * Background compaction.
+     */
+    private final ExecutorService compactor;
+
+    /**
+     * Whether compaction is scheduled.
+     */
+    private final AtomicBoolean scheduled;
+
+    /**
+     * Failure of background compaction.
+     */
+    private final AtomicReference<IOException> failure;
+
+    /**
+     * Whether segments were recovered.
+     */
+    private volatile boolean open;
+
+    /**
+     * Ctor.
+     * @param dir Directory of segments.
+     */
+    public MappedStore(final Path dir) {
+        this(dir, 64 << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param dir Directory of segments.
+     * @param segment Size of segment, limiting size of object.
+     */
+    public MappedStore(final Path dir, final int segment) {
+        this.segments = new MappedSegments(dir, segment);
+        this.index = new SlotIndex();
+        this.writer = new Object();
+        this.compactor = Executors.newSingleThreadExecutor(
+            task -> {
+                final Thread thread = new Thread(task, "mapped-store-compactor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.scheduled = new AtomicBoolean();
+        this.failure = new AtomicReference<>();
+    }
+
+    /**
+     * Checks if object is stored.
+     * @param key Key.
+     * @return True if object is stored.
+     * @throws IOException When fails.
+     */
+    public boolean contains(final String key) throws IOException {
+        this.recover();
+        return this.index.find(MappedStore.hash(key), this.same(key)) >= 0L;
+    }
+
+    /**
+     * Gets object.
+     * @param key Key.
+     * @return Object.
+     * @throws IOException When fails.
+     * @throws JsonException When no object is stored under key.
+     */
+    public JsonObj get(final String key) throws IOException, JsonException {
+        return new JsonObj(this.bytes(key));
+    }
+
+    /**
+     * Gets view of object, not parsed until needed.
+     * @param key Key.
+     * @return View of object.
+     * @throws IOException When fails.
+     * @throws JsonException When no object is stored under key.
+     */
+    public MappedView view(final String key) throws IOException, JsonException {
+        return new MappedView(this.bytes(key));
+    }
+
+    /**
+     * Stores object under key, replacing previous one.
+     * @param key Key, not empty.
+     * @param obj Object.
+     * @throws IOException When fails.
+     */
+    public void put(final String key, final JsonObj obj) throws IOException {
+        MappedStore.nonempty(key);
+        this.recover();
+        final byte[] value = obj.jsonValue().toString()
+            .getBytes(StandardCharsets.UTF_8);
+        synchronized (this.writer) {
+            this.failed();
+            final long previous = this.index.put(
+                MappedStore.hash(key),
+                this.segments.append(MappedStore.utf(key), value),
+                this.same(key)
+            );
+            if (previous >= 0L) {
+                this.segments.discard(previous);
+            }
+            this.schedule();
+        }
+    }
+
+    /**
+     * Removes object.
+     * @param key Key, not empty.
+     * @throws IOException When fails.
+     */
+    public void remove(final String key) throws IOException {
+        MappedStore.nonempty(key);
+        this.recover();
+        synchronized (this.writer) {
+            this.failed();
+            final long previous = this.index.remove(
+                MappedStore.hash(key), this.same(key)
+            );
+            if (previous >= 0L) {
+                this.segments.discard(previous);
+                this.segments.discard(
+                    this.segments.append(MappedStore.utf(key))
+                );
+            }
+            this.schedule();
+        }
+    }
+
+    /**
+     * Compacts segments with at least half of bytes not live.
+     * @throws IOException When fails.
+     */
+    public void compact() throws IOException {
+        this.recover();
+        synchronized (this.writer) {
+            for (final int seg : this.segments.sparse()) {
+                final boolean oldest = this.segments.oldest(seg);
+                this.segments.scan(
+                    seg,
+                    (offset, key, removal) -> this.moved(
+                        offset, key, removal && !oldest
+                    )
+                );
+                this.segments.drop(seg);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.compactor.shutdown();
+        try {
+            this.compactor.awaitTermination(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this.writer) {
+            this.segments.close();
+        }
+        this.failed();
+    }
+
+    /**
+     * Moves record to the end if it is live.
+     * @param offset Offset of record.
+     * @param key Key of record.
+     * @param removal Whether record is removal to keep.
+     * @throws IOException When fails.
+     */
+    private void moved(final long offset, final String key,
+        final boolean removal) throws IOException {
+        final long hash = MappedStore.hash(key);
+        final long live = this.index.find(hash, this.same(key));
+        if (live == offset) {
+            this.index.put(
+                hash,
+                this.segments.append(
+                    MappedStore.utf(key), this.segments.value(offset)
+                ),
+                this.same(key)
+            );
+        } else if (removal && live < 0L) {
+            this.segments.discard(
+                this.segments.append(MappedStore.utf(key))
+            );
+        }
+    }
+
+    /**
+     * Text of stored object.
+     * @param key Key.
+     * @return Object as UTF-8 text.
+     * @throws IOException When fails.
+     * @throws JsonException When no object is stored under key.
+     */
+    private byte[] bytes(final String key) throws IOException, JsonException {
+        this.recover();
+        final long hash = MappedStore.hash(key);
+        byte[] value = new byte[0];
+        while (value.length == 0) {
+            final long offset = this.index.find(hash, this.same(key));
+            if (offset < 0L) {
+                throw new JsonException(
+                    String.format("Key \"%s\" not found", key)
+                );
+            }
+            value = this.segments.value(offset);
+        }
+        return value;
+    }
+
+    /**
+     * Schedules background compaction when segments are sparse.
+     * Must be called by writer.
+     */
+    private void schedule() {
+        if (!this.segments.sparse().isEmpty()
+            && this.scheduled.compareAndSet(false, true)) {
+            this.compactor.execute(
+                () -> {
+                    try {
+                        this.compact();
+                    } catch (final IOException ex) {
+                        this.failure.compareAndSet(null, ex);
+                    } finally {
+                        this.scheduled.set(false);
+                    }
+                }
+            );
+        }
+    }
+
+    /**
+     * Rethrows failure of background compaction.
+     * @throws IOException When compaction failed.
+     */
+    private void failed() throws IOException {
+        final IOException cause = this.failure.get();
+        if (cause != null) {
+            throw new IOException("Background compaction failed", cause);
+        }
+    }
+
+    /**
+     * Rebuilds index from segments unless done already.
+     * @throws IOException When fails.
+     */
+    private void recover() throws IOException {
+        if (!this.open) {
+            synchronized (this.writer) {
+                if (!this.open) {
+                    this.segments.recover(this::recovered);
+                    this.open = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indexes recovered record.
+     * @param offset Offset of record.
+     * @param key Key of record.
+     * @param removal Whether record is removal.
+     */
+    private void recovered(final long offset, final String key,
+        final boolean removal) {
+        final long previous;
+        if (removal) {
+            previous = this.index.remove(MappedStore.hash(key), this.same(key));
+            this.segments.discard(offset);
+        } else {
+            previous = this.index.put(
+                MappedStore.hash(key), offset, this.same(key)
+            );
+        }
+        if (previous >= 0L) {
+            this.segments.discard(previous);
+        }
+    }
+
+    /**
+     * Whether record at offset has key.
+     * @param key Key.
+     * @return Predicate of offset.
+     */
+    private LongPredicate same(final String key) {
+        return offset -> key.equals(this.segments.key(offset));
+    }
+
+    /**
+     * Non-zero hash of key.
+     * @param key Key.
+     * @return Hash.
+     */
+    private static long hash(final String key) {
+        long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 29;
+        if (hash == 0L) {
+            hash = 1L;
+        }
+        return hash;
+    }
+
+    /**
+     * Checks that key is not empty, since record with empty key can not
+     * be told apart from end of segment on recovery.
+     * @param key Key.
+     */
+    private static void nonempty(final String key) {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Key must not be empty");
+        }
+    }
+
+    /**
+     * Key as UTF-8 bytes.
+     * @param key Key.
+     * @return Bytes.
+     */
+    private static byte[] utf(final String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
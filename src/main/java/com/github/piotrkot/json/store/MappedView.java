@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.JsonVal;
+import com.github.piotrkot.json.ObjectFound;
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.Optional;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+
+/**
+ * View of JSON object stored as text.
+ * The text is a heap copy of the record taken when the view is made, so
+ * the view stays valid after the segment is dropped. Single attributes
+ * are found by streaming over the text and skipping other attributes
+ * without building them, which parses the text again on every call.
+ * The whole object is parsed only when asked for.
+ *
+ * @since 1.9
+ */
+public final class MappedView implements JsonVal<Map<String, ?>> {
+    /**
+     * Object as UTF-8 text.
+     */
+    private final byte[] bytes;
+
+    /**
+     * Ctor.
+     * @param bytes Object as UTF-8 text.
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    MappedView(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Checks if attribute is present.
+     * @param name Attribute name.
+     * @return True if attribute exists, false otherwise.
+     */
+    public boolean contains(final String name) {
+        return this.found(name).isPresent();
+    }
+
+    /**
+     * Gets attribute value for given name.
+     * @param name Attribute name.
+     * @param <T> Type of return value.
+     * @return Value.
+     * @throws JsonException When attribute is not found.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String name) throws JsonException {
+        final Optional<JsonValue> value = this.found(name);
+        if (!value.isPresent()) {
+            throw new JsonException(
+                String.format("Attribute name \"%s\" not found", name)
+            );
+        }
+        return (T) new ObjectFound(value.get()).asObject();
+    }
+
+    @Override
+    public JsonObject jsonValue() {
+        return Json.createReader(new ByteArrayInputStream(this.bytes))
+            .readObject();
+    }
+
+    @Override
+    public JsonObj value() {
+        return new JsonObj(this.bytes);
+    }
+
+    /**
+     * Finds value of top-level attribute.
+     * @param name Attribute name.
+     * @return Value if found.
+     */
+    private Optional<JsonValue> found(final String name) {
+        Optional<JsonValue> result = Optional.empty();
+        try (JsonParser parser = Json.createParser(
+            new ByteArrayInputStream(this.bytes)
+        )) {
+            parser.next();
+            while (parser.next() == JsonParser.Event.KEY_NAME) {
+                final boolean match = name.equals(parser.getString());
+                final JsonParser.Event event = parser.next();
+                if (match) {
+                    result = Optional.of(parser.getValue());
+                    break;
+                }
+                MappedView.skip(parser, event);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Skips value unless it is a scalar.
+     * @param parser Parser.
+     * @param event Event starting the value.
+     */
+    private static void skip(final JsonParser parser,
+        final JsonParser.Event event) {
+        if (event == JsonParser.Event.START_OBJECT) {
+            parser.skipObject();
+        } else if (event == JsonParser.Event.START_ARRAY) {
+            parser.skipArray();
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.JsonObj;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Append-only log of records split into segment files.
+ * Each record is a line of JSON. Segment files are named after sequence
+ * number of their first record. Appended records are made durable with
+ * {@link #sync(long)}, which forces all records appended so far at once,
+ * so threads waiting for durability share one fsync. Directory is forced
+ * to disk whenever new segment is created.
+ *
+ * @since 1.9
+ */
+final class Segments implements Closeable {
+    /**
+     * Prefix of segment file names.
+     */
+    private static final String PREFIX = "log-";
+
+    /**
+     * Suffix of segment file names.
+     */
+    private static final String SUFFIX = ".jsonl";
+
+    /**
+     * Directory of segments.
+     */
+    private final Path dir;
+
+    /**
+     * Size of segment after which next one is started.
+     */
+    private final long limit;
+
+    /**
+     * Lock of appending records.
+     */
+    private final Object appending;
+
+    /**
+     * Lock of forcing records to disk.
+     */
+    private final Object forcing;
+
+    /**
+     * Segment appended to or null.
+     */
+    private volatile FileChannel channel;
+
+    /**
+     * Bytes appended since opening.
+     */
+    private volatile long written;
+
+    /**
+     * Bytes forced to disk since opening.
+     */
+    private long synced;
+
+    /**
+     * Ctor.
+     * @param dir Directory of segments.
+     * @param limit Size of segment after which next one is started.
+     */
+    Segments(final Path dir, final long limit) {
+        this.dir = dir;
+        this.limit = limit;
+        this.appending = new Object();
+        this.forcing = new Object();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.appending) {
+            this.release();
+        }
+    }
+
+    /**
+     * Appends record.
+     * @param seq Sequence number of record.
+     * @param record Record.
+     * @return Position to sync to make the record durable.
+     * @throws IOException When fails.
+     */
+    long append(final long seq, final JsonObj record) throws IOException {
+        final ByteBuffer buf = ByteBuffer.wrap(
+            String.format("%s\n", record.jsonValue()).getBytes(
+                StandardCharsets.UTF_8
+            )
+        );
+        final int size = buf.remaining();
+        synchronized (this.appending) {
+            if (this.channel == null || this.channel.size() >= this.limit) {
+                this.release();
+                this.channel = FileChannel.open(
+                    this.dir.resolve(
+                        String.format(
+                            "%s%020d%s", Segments.PREFIX, seq, Segments.SUFFIX
+                        )
+                    ),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+                );
+                new Directory(this.dir).sync();
+            }
+            while (buf.hasRemaining()) {
+                this.channel.write(buf);
+            }
+            this.written += size;
+            return this.written;
+        }
+    }
+
+    /**
+     * Forces records to disk up to position, unless other thread did it.
+     * @param position Position returned on appending.
+     * @throws IOException When fails.
+     */
+    void sync(final long position) throws IOException {
+        synchronized (this.forcing) {
+            if (this.synced < position) {
+                final long target = this.written;
+                final FileChannel chan = this.channel;
+                if (chan != null) {
+                    chan.force(false);
+                }
+                this.synced = target;
+            }
+        }
+    }
+
+    /**
+     * Deletes all segments. Records must be preserved elsewhere.
+     * @throws IOException When fails.
+     */
+    void compact() throws IOException {
+        synchronized (this.appending) {
+            this.release();
+            for (final Path file : this.files()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Reads records of all segments. Torn record at the end of segment,
+     * left by a crash, is truncated together with the rest of the log.
+     * @return Records in order of appending.
+     * @throws IOException When fails.
+     */
+    List<JsonObj> recover() throws IOException {
+        synchronized (this.appending) {
+            Files.createDirectories(this.dir);
+            final List<JsonObj> records = new ArrayList<>(0);
+            boolean torn = false;
+            for (final Path file : this.files()) {
+                if (torn) {
+                    Files.delete(file);
+                } else {
+                    torn = Segments.read(file, records);
+                }
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Forces and closes segment appended to.
+     * @throws IOException When fails.
+     */
+    @SuppressWarnings("PMD.NullAssignment")
+    private void release() throws IOException {
+        synchronized (this.forcing) {
+            if (this.channel != null) {
+                this.channel.force(false);
+                this.channel.close();
+                this.channel = null;
+            }
+        }
+    }
+
+    /**
+     * Segment files in order of their records.
+     * @return Segment files.
+     * @throws IOException When fails.
+     */
+    private List<Path> files() throws IOException {
+        final List<Path> files = new ArrayList<>(0);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+            this.dir, String.format("%s*%s", Segments.PREFIX, Segments.SUFFIX)
+        )) {
+            for (final Path file : stream) {
+                files.add(file);
+            }
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * Reads records of segment truncating torn record.
+     * @param file Segment file.
+     * @param records Records to add to.
+     * @return True if segment had torn record.
+     * @throws IOException When fails.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static boolean read(final Path file, final List<JsonObj> records)
+        throws IOException {
+        final byte[] bytes = Files.readAllBytes(file);
+        int start = 0;
+        boolean torn = false;
+        for (int idx = 0; idx < bytes.length && !torn; idx += 1) {
+            if (bytes[idx] == '\n') {
+                try {
+                    records.add(
+                        new JsonObj(
+                            new StringReader(
+                                new String(
+                                    bytes, start, idx - start,
+                                    StandardCharsets.UTF_8
+                                )
+                            )
+                        )
+                    );
+                    start = idx + 1;
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final RuntimeException ex) {
+                    torn = true;
+                }
+            }
+        }
+        if (start < bytes.length) {
+            try (FileChannel chan = FileChannel.open(
+                file, StandardOpenOption.WRITE
+            )) {
+                chan.truncate(start);
+                chan.force(false);
+            }
+            torn = true;
+        }
+        return torn;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongPredicate;
+
+/**
+ * Open-addressing index from key hash to record offset.
+ * Slots are pairs of longs in a flat array: hash of key and offset of
+ * record plus one, zero when slot is empty and negative when record was
+ * removed. Keys are compared by reading them from records. Reads are
+ * lock-free, writes must come from one thread at a time. The table grows
+ * by copying into a new one published atomically, so readers keep using
+ * a complete table.
+ *
+ * @since 1.9
+ */
+final class SlotIndex {
+    /**
+     * Marker of removed record.
+     */
+    private static final long REMOVED = -1L;
+
+    /**
+     * Slots.
+     */
+    private final AtomicReference<AtomicLongArray> table;
+
+    /**
+     * Number of slots taken, also by removed records.
+     */
+    private int taken;
+
+    /**
+     * Ctor.
+     */
+    SlotIndex() {
+        this(64);
+    }
+
+    /**
+     * Ctor.
+     * @param slots Initial number of slots, power of two.
+     */
+    SlotIndex(final int slots) {
+        this.table = new AtomicReference<>(new AtomicLongArray(slots * 2));
+    }
+
+    /**
+     * Finds record offset.
+     * @param hash Hash of key.
+     * @param same Whether record at offset has the key.
+     * @return Offset or negative if not found.
+     */
+    long find(final long hash, final LongPredicate same) {
+        final AtomicLongArray slots = this.table.get();
+        final int mask = slots.length() / 2 - 1;
+        long result = -1L;
+        for (int idx = (int) hash & mask; slots.get(idx * 2) != 0L;
+            idx = idx + 1 & mask) {
+            final long offset = slots.get(idx * 2 + 1) - 1L;
+            if (slots.get(idx * 2) == hash && offset >= 0L
+                && same.test(offset)) {
+                result = offset;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Puts record offset.
+     * @param hash Hash of key.
+     * @param offset Record offset.
+     * @param same Whether record at offset has the key.
+     * @return Previous offset or negative if none.
+     */
+    long put(final long hash, final long offset, final LongPredicate same) {
+        final AtomicLongArray slots = this.table.get();
+        final int idx = SlotIndex.slot(slots, hash, same);
+        final long previous = slots.get(idx * 2 + 1) - 1L;
+        slots.set(idx * 2 + 1, offset + 1L);
+        if (slots.get(idx * 2) == 0L) {
+            slots.set(idx * 2, hash);
+            this.taken += 1;
+            if (this.taken * 2 > slots.length() / 2) {
+                this.grow();
+            }
+        }
+        return Math.max(previous, -1L);
+    }
+
+    /**
+     * Removes record offset.
+     * @param hash Hash of key.
+     * @param same Whether record at offset has the key.
+     * @return Removed offset or negative if none.
+     */
+    long remove(final long hash, final LongPredicate same) {
+        final AtomicLongArray slots = this.table.get();
+        final int idx = SlotIndex.slot(slots, hash, same);
+        final long previous = slots.get(idx * 2 + 1) - 1L;
+        if (previous >= 0L) {
+            slots.set(idx * 2 + 1, SlotIndex.REMOVED);
+        }
+        return Math.max(previous, -1L);
+    }
+
+    /**
+     * Copies live slots into a new table of fitting size.
+     */
+    private void grow() {
+        final AtomicLongArray slots = this.table.get();
+        int live = 0;
+        for (int idx = 0; idx < slots.length(); idx += 2) {
+            if (slots.get(idx + 1) > 0L) {
+                live += 1;
+            }
+        }
+        int size = slots.length() / 2;
+        while (live * 4 > size) {
+            size *= 2;
+        }
+        final AtomicLongArray grown = new AtomicLongArray(size * 2);
+        for (int idx = 0; idx < slots.length(); idx += 2) {
+            if (slots.get(idx + 1) > 0L) {
+                int pos = (int) slots.get(idx) & size - 1;
+                while (grown.get(pos * 2) != 0L) {
+                    pos = pos + 1 & size - 1;
+                }
+                grown.set(pos * 2 + 1, slots.get(idx + 1));
+                grown.set(pos * 2, slots.get(idx));
+            }
+        }
+        this.taken = live;
+        this.table.set(grown);
+    }
+
+    /**
+     * Slot of key, either taken by it or the empty one ending the probe.
+     * @param slots Slots.
+     * @param hash Hash of key.
+     * @param same Whether record at offset has the key.
+     * @return Slot index.
+     */
+    private static int slot(final AtomicLongArray slots, final long hash,
+        final LongPredicate same) {
+        final int mask = slots.length() / 2 - 1;
+        int idx = (int) hash & mask;
+        while (slots.get(idx * 2) != 0L) {
+            final long offset = slots.get(idx * 2 + 1) - 1L;
+            if (slots.get(idx * 2) == hash && offset >= 0L
+                && same.test(offset)) {
+                break;
+            }
+            idx = idx + 1 & mask;
+        }
+        return idx;
+    }
+}
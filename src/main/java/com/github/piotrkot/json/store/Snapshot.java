@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.JsonObj;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Snapshot file replaced atomically.
+ *
+ * @since 1.9
+ */
+final class Snapshot {
+    /**
+     * Snapshot file.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param file Snapshot file.
+     */
+    Snapshot(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Whether snapshot was written.
+     * @return True if snapshot exists.
+     */
+    boolean exists() {
+        return Files.exists(this.file);
+    }
+
+    /**
+     * Reads snapshot.
+     * @return Snapshot record.
+     * @throws IOException When fails.
+     */
+    JsonObj read() throws IOException {
+        try (InputStream input = Files.newInputStream(this.file)) {
+            return new JsonObj(input);
+        }
+    }
+
+    /**
+     * Writes snapshot to temporary file, forces it to disk and moves it
+     * in place of the previous one, forcing the move to disk too.
+     * @param record Snapshot record.
+     * @throws IOException When fails.
+     */
+    void write(final JsonObj record) throws IOException {
+        final Path temp = this.file.resolveSibling(
+            String.format("%s.tmp", this.file.getFileName())
+        );
+        try (FileChannel chan = FileChannel.open(
+            temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            final ByteBuffer buf = ByteBuffer.wrap(
+                record.jsonValue().toString().getBytes(StandardCharsets.UTF_8)
+            );
+            while (buf.hasRemaining()) {
+                chan.write(buf);
+            }
+            chan.force(true);
+        }
+        Files.move(
+            temp, this.file, StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING
+        );
+        new Directory(this.file.toAbsolutePath().getParent()).sync();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for request-scoped arena of parsing.
+ *
+ * @since 1.9
+ */
+final class ArenaTest {
+    /**
+     * Text for tests.
+     */
+    private static final String TEXT = String.join(
+        "",
+        "{\"a\":[1,-2,[3,{\"b\":[]}],{}],\"c\":{\"d\":-9223372036854775808,",
+        "\"e\":123456789012345678,\"f\":-0,\"g\":1e2,\"h\":[\"x\",null]}}"
+    );
+
+    /**
+     * Should parse many documents with the same arena as JSON reader does.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldParseWithArenaAsReader() throws Exception {
+        final JsonObj expected = new JsonObj(
+            Json.createReader(new StringReader(ArenaTest.TEXT)).readObject()
+        );
+        try (Arena arena = new Arena()) {
+            for (int idx = 0; idx < 3; idx += 1) {
+                MatcherAssert.assertThat(
+                    new ParsedBytes(
+                        ArenaTest.TEXT.getBytes(StandardCharsets.UTF_8), arena
+                    ).obj(),
+                    Matchers.equalTo(expected)
+                );
+            }
+        }
+    }
+
+    /**
+     * Should keep parsed documents valid after arena is closed.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldKeepDocumentsAfterClose() throws Exception {
+        final JsonObj parsed;
+        try (Arena arena = new Arena()) {
+            parsed = new ParsedBytes(
+                ArenaTest.TEXT.getBytes(StandardCharsets.UTF_8), arena
+            ).obj();
+        }
+        try (Arena arena = new Arena()) {
+            new ParsedBytes(
+                "[[7,8,9],[10]]".getBytes(StandardCharsets.UTF_8), arena
+            ).arr();
+        }
+        MatcherAssert.assertThat(
+            parsed,
+            Matchers.equalTo(
+                new JsonObj(
+                    Json.createReader(new StringReader(ArenaTest.TEXT))
+                        .readObject()
+                )
+            )
+        );
+    }
+
+    /**
+     * Should reject use after close.
+     */
+    @Test
+    void shouldRejectUseAfterClose() {
+        final Arena arena = new Arena();
+        final ParsedBytes parsed = new ParsedBytes(
+            "{}".getBytes(StandardCharsets.UTF_8), arena
+        );
+        arena.close();
+        Assertions.assertThrows(IllegalStateException.class, parsed::obj);
+        Assertions.assertThrows(IllegalStateException.class, arena::close);
+    }
+
+    /**
+     * Should reject use from other thread.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRejectOtherThread() throws Exception {
+        final ExecutorService other = Executors.newSingleThreadExecutor();
+        try (Arena arena = new Arena()) {
+            final ParsedBytes parsed = new ParsedBytes(
+                "{}".getBytes(StandardCharsets.UTF_8), arena
+            );
+            final ExecutionException thrown = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> other.submit(parsed::obj).get()
+            );
+            MatcherAssert.assertThat(
+                thrown.getCause(),
+                Matchers.instanceOf(IllegalStateException.class)
+            );
+        } finally {
+            other.shutdown();
+        }
+    }
+}
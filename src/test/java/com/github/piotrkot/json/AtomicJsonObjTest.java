@@ -0,0 +1,231 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import com.github.piotrkot.json.changes.FitValUpd;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for JSON object updated atomically.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class AtomicJsonObjTest {
+    /**
+     * Should update object.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldUpdate() throws Exception {
+        final AtomicJsonObj obj = new AtomicJsonObj(
+            new JsonObj(new Attr<>("n", 1))
+        );
+        obj.update(new FitValUpd("n", 2));
+        MatcherAssert.assertThat(
+            obj.get().jsonValue().toString(),
+            Matchers.is("{\"n\":2}")
+        );
+    }
+
+    /**
+     * Should not lose concurrent updates.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotLoseUpdates() throws Exception {
+        MatcherAssert.assertThat(
+            AtomicJsonObjTest.counted(new AtomicJsonObj(AtomicJsonObjTest.zero())),
+            Matchers.is(8000)
+        );
+    }
+
+    /**
+     * Should not lose concurrent updates when combining.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotLoseCombinedUpdates() throws Exception {
+        MatcherAssert.assertThat(
+            AtomicJsonObjTest.counted(
+                new AtomicJsonObj(AtomicJsonObjTest.zero(), true)
+            ),
+            Matchers.is(8000)
+        );
+    }
+
+    /**
+     * Should rethrow failure of fit leaving object unchanged.
+     */
+    @Test
+    void shouldRethrowFailure() {
+        final JsonObj initial = AtomicJsonObjTest.zero();
+        final AtomicJsonObj obj = new AtomicJsonObj(initial, true);
+        Assertions.assertThrows(
+            IOException.class,
+            () -> obj.update(
+                input -> {
+                    throw new IOException("broken");
+                }
+            )
+        );
+        MatcherAssert.assertThat(obj.get(), Matchers.sameInstance(initial));
+    }
+
+    /**
+     * Should complete all combined updates when fit fails with error.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldCompleteCombinedOnError() throws Exception {
+        final AtomicJsonObj obj = new AtomicJsonObj(
+            AtomicJsonObjTest.zero(), true
+        );
+        final CountDownLatch combining = new CountDownLatch(1);
+        final CountDownLatch queued = new CountDownLatch(2);
+        final ExecutorService exec = Executors.newFixedThreadPool(3);
+        try {
+            final Future<JsonObj> first = exec.submit(
+                AtomicJsonObjTest.contended(
+                    obj, new CountDownLatch(1), input -> {
+                        combining.countDown();
+                        queued.await();
+                        Thread.sleep(200L);
+                        return input;
+                    }
+                )
+            );
+            combining.await();
+            final List<Future<JsonObj>> failed = new ArrayList<>(2);
+            failed.add(
+                exec.submit(
+                    AtomicJsonObjTest.contended(
+                        obj, queued, input -> {
+                            throw new AssertionError("broken");
+                        }
+                    )
+                )
+            );
+            failed.add(
+                exec.submit(AtomicJsonObjTest.contended(obj, queued, in -> in))
+            );
+            first.get(10L, TimeUnit.SECONDS);
+            for (final Future<JsonObj> update : failed) {
+                Assertions.assertThrows(
+                    ExecutionException.class,
+                    () -> update.get(10L, TimeUnit.SECONDS)
+                );
+            }
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Update queued for combining, as other updates interfere with its
+     * first attempts.
+     * @param obj Object to update.
+     * @param started Latch counted down before update is queued.
+     * @param fit Fit made when combined.
+     * @return Update.
+     */
+    private static Callable<JsonObj> contended(final AtomicJsonObj obj,
+        final CountDownLatch started, final Fit<JsonObj> fit) {
+        final AtomicInteger calls = new AtomicInteger();
+        return () -> obj.update(
+            input -> {
+                final int call = calls.incrementAndGet();
+                final JsonObj result;
+                if (call > 4) {
+                    result = fit.make(input);
+                } else {
+                    if (call == 4) {
+                        started.countDown();
+                    }
+                    obj.update(new FitValUpd("n", call));
+                    result = input;
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Counter after concurrent increments.
+     * @param obj Object with counter.
+     * @return Counter.
+     * @throws Exception When fails.
+     */
+    private static int counted(final AtomicJsonObj obj) throws Exception {
+        final int threads = 8;
+        final ExecutorService exec = Executors.newFixedThreadPool(threads);
+        final List<Callable<Object>> tasks = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; idx += 1) {
+            tasks.add(
+                () -> {
+                    for (int num = 0; num < 1000; num += 1) {
+                        obj.update(
+                            input -> {
+                                final int count = input.get("n");
+                                return new FitValUpd("n", count + 1)
+                                    .make(input);
+                            }
+                        );
+                    }
+                    return null;
+                }
+            );
+        }
+        try {
+            for (final Future<Object> done : exec.invokeAll(tasks)) {
+                done.get();
+            }
+        } finally {
+            exec.shutdown();
+        }
+        return obj.get().get("n");
+    }
+
+    /**
+     * Object with zero counter.
+     * @return Object.
+     */
+    private static JsonObj zero() {
+        return new JsonObj(new Attr<>("n", 0));
+    }
+}
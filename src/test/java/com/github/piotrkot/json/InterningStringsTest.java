@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.StringReader;
+import java.util.Collections;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for bounded interning of strings.
+ *
+ * @since 1.9
+ */
+final class InterningStringsTest {
+    /**
+     * Should share repeated string values and names while parsing.
+     */
+    @Test
+    void shouldShareRepeatedStrings() {
+        final Interning strings = new InterningStrings();
+        final JsonArr<JsonObj> arr = new JsonArr<>(
+            Json.createReader(
+                new StringReader(
+                    String.format(
+                        "[%s{\"country\":\"PL\"}]",
+                        String.join(
+                            "",
+                            Collections.nCopies(5, "{\"country\":\"PL\"},")
+                        )
+                    )
+                )
+            ).readArray(),
+            strings
+        );
+        final String last = arr.get(5).get("country", "");
+        MatcherAssert.assertThat(
+            arr.get(4).get("country", ""), Matchers.sameInstance(last)
+        );
+        MatcherAssert.assertThat(
+            arr.get(4).keySet().iterator().next(),
+            Matchers.sameInstance(arr.get(5).keySet().iterator().next())
+        );
+    }
+
+    /**
+     * Should admit string seen twice only.
+     */
+    @Test
+    void shouldAdmitStringSeenTwice() {
+        final Interning strings = new InterningStrings(64, 8);
+        final String first = new String(new char[] {'O', 'K'});
+        final String second = new String(new char[] {'O', 'K'});
+        strings.interned(first);
+        MatcherAssert.assertThat(
+            strings.interned(second), Matchers.sameInstance(second)
+        );
+        MatcherAssert.assertThat(
+            strings.interned(new String(new char[] {'O', 'K'})),
+            Matchers.sameInstance(second)
+        );
+    }
+
+    /**
+     * Should not intern long strings.
+     */
+    @Test
+    void shouldSkipLongStrings() {
+        final Interning strings = new InterningStrings(64, 2);
+        strings.interned("long");
+        strings.interned("long");
+        final String text = new String(new char[] {'l', 'o', 'n', 'g'});
+        MatcherAssert.assertThat(
+            strings.interned(text), Matchers.sameInstance(text)
+        );
+    }
+}
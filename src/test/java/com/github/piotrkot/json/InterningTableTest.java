@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.StringReader;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for bounded interning table.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class InterningTableTest {
+    /**
+     * Should share repeated subtrees while parsing.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldShareRepeatedSubtrees() throws Exception {
+        final JsonObj doc = new JsonObj(
+            Json.createReader(
+                new StringReader(
+                    String.join(
+                        "",
+                        "{\"home\":{\"city\":\"A\",\"tags\":[1,2]},",
+                        "\"work\":{\"city\":\"A\",\"tags\":[1,2]},",
+                        "\"tags\":[1,2]}"
+                    )
+                )
+            ).readObject(),
+            new InterningTable()
+        );
+        final JsonObj home = doc.get("home");
+        MatcherAssert.assertThat(
+            doc.get("work"), Matchers.sameInstance(home)
+        );
+        MatcherAssert.assertThat(
+            doc.get("tags"), Matchers.sameInstance(home.get("tags"))
+        );
+    }
+
+    /**
+     * Should not share subtrees with attributes in other order.
+     */
+    @Test
+    void shouldKeepOrderOfAttributes() {
+        final Interning table = new InterningTable();
+        final JsonObj first = table.interned(
+            new JsonObj(new Attr<>("a", 1), new Attr<>("b", 2))
+        );
+        final JsonObj second = new JsonObj(
+            new Attr<>("b", 2), new Attr<>("a", 1)
+        );
+        MatcherAssert.assertThat(
+            table.interned(second), Matchers.sameInstance(second)
+        );
+        MatcherAssert.assertThat(
+            table.interned(new JsonObj(new Attr<>("b", 2), new Attr<>("a", 1))),
+            Matchers.not(Matchers.sameInstance(first))
+        );
+    }
+
+    /**
+     * Should not intern large subtrees.
+     */
+    @Test
+    void shouldSkipLargeSubtrees() {
+        final Interning table = new InterningTable(16, 1);
+        table.interned(new JsonArr<>(1, 2));
+        final JsonArr<Integer> arr = new JsonArr<>(1, 2);
+        MatcherAssert.assertThat(
+            table.interned(arr), Matchers.sameInstance(arr)
+        );
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for JSON array builder.
+ *
+ * @since 1.9
+ */
+final class JsonArrBuilderTest {
+    /**
+     * Should build array with elements in order.
+     */
+    @Test
+    void shouldBuildArray() {
+        MatcherAssert.assertThat(
+            new JsonArrBuilder<Integer>(2).add(2).add(1).add(3).freeze()
+                .jsonValue().toString(),
+            Matchers.is("[2,1,3]")
+        );
+    }
+
+    /**
+     * Should not be used after freezing.
+     */
+    @Test
+    void shouldRejectAfterFreeze() {
+        final JsonArrBuilder<String> builder = new JsonArrBuilder<>();
+        builder.freeze();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> builder.add("a")
+        );
+    }
+}
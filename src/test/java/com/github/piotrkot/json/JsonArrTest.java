@@ -28,11 +28,13 @@ import java.io.StringReader;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.ListIterator;
 import javax.json.JsonArray;
 import org.cactoos.iterable.Filtered;
 import org.cactoos.iterable.Mapped;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -225,4 +227,66 @@ final class JsonArrTest {
             )
         );
     }
+
+    /**
+     * Should same arrays have the same content hash.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSameArraysHaveSameContentHash() throws Exception {
+        MatcherAssert.assertThat(
+            new JsonArr<>(1L, "a", new JsonObj()).contentHash(),
+            Matchers.is(
+                new JsonArr<>(new StringReader("[1,\"a\",{}]")).contentHash()
+            )
+        );
+    }
+
+    /**
+     * Should arrays in different order have different content hash.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReorderedArraysHaveDifferentContentHash() throws Exception {
+        MatcherAssert.assertThat(
+            new JsonArr<>(true, false).contentHash(),
+            Matchers.not(new JsonArr<>(false, true).contentHash())
+        );
+    }
+
+    /**
+     * Should arrays with different elements not be equal.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDifferentArraysNotBeEqual() throws Exception {
+        MatcherAssert.assertThat(
+            new JsonArr<>("p", null),
+            Matchers.not(Matchers.equalTo(new JsonArr<>("p", "q")))
+        );
+    }
+
+    /**
+     * Should keep hash valid when elements are set through views.
+     */
+    @Test
+    void shouldKeepHashOnViewChanges() {
+        final JsonArr<Integer> arr = new JsonArr<>(1, 2, 3);
+        final int hash = arr.hashCode();
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> arr.subList(0, 2).set(0, 5)
+        );
+        MatcherAssert.assertThat(arr.hashCode(), Matchers.is(hash));
+        final ListIterator<Integer> iter = arr.listIterator();
+        iter.next();
+        iter.set(7);
+        iter.next();
+        MatcherAssert.assertThat(
+            arr, Matchers.equalTo(new JsonArr<>(7, 2, 3))
+        );
+        MatcherAssert.assertThat(
+            arr.hashCode(), Matchers.is(new JsonArr<>(7, 2, 3).hashCode())
+        );
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for JSON object builder.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class JsonObjBuilderTest {
+    /**
+     * Should build object with attributes in order.
+     */
+    @Test
+    void shouldBuildObject() {
+        MatcherAssert.assertThat(
+            new JsonObjBuilder(3)
+                .add("b", 1)
+                .add(new Attr<>("a", "x"))
+                .add("c", new JsonArr<>())
+                .freeze(),
+            Matchers.equalTo(
+                new JsonObj(
+                    new Attr<>("b", 1),
+                    new Attr<>("a", "x"),
+                    new Attr<>("c", new JsonArr<>())
+                )
+            )
+        );
+    }
+
+    /**
+     * Should not be used after freezing.
+     */
+    @Test
+    void shouldRejectAfterFreeze() {
+        final JsonObjBuilder builder = new JsonObjBuilder().add("a", 1);
+        builder.freeze();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> builder.add("b", 2)
+        );
+    }
+
+    /**
+     * Should build object with cached content hash.
+     */
+    @Test
+    void shouldHashLikeObject() {
+        MatcherAssert.assertThat(
+            new JsonObjBuilder().add("a", 1).freeze().contentHash(),
+            Matchers.is(new JsonObj(new Attr<>("a", 1)).contentHash())
+        );
+    }
+}
@@ -27,6 +27,7 @@ import java.io.ByteArrayInputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import javax.json.Json;
 import org.hamcrest.MatcherAssert;
@@ -267,4 +268,185 @@ final class JsonObjTest {
             )
         );
     }
+
+    /**
+     * Should same objects have the same content hash.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSameObjectsHaveSameContentHash() throws Exception {
+        MatcherAssert.assertThat(
+            new JsonObj(
+                new Attr<>("c1", 1),
+                new Attr<>("c2", new JsonArr<>(1.5, "x"))
+            ).contentHash(),
+            Matchers.is(
+                new JsonObj(
+                    new StringReader("{\"c2\":[1.50,\"x\"],\"c1\":1}")
+                ).contentHash()
+            )
+        );
+    }
+
+    /**
+     * Should different objects have different content hash.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDifferentObjectsHaveDifferentContentHash() throws Exception {
+        MatcherAssert.assertThat(
+            new JsonObj(new Attr<>("d", "1")).contentHash(),
+            Matchers.not(new JsonObj(new Attr<>("d", 1)).contentHash())
+        );
+    }
+
+    /**
+     * Should objects with shared attributes be equal.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSharedObjectsBeEqual() throws Exception {
+        final JsonObj shared = new JsonObj(new Attr<>("s", "v"));
+        MatcherAssert.assertThat(
+            new JsonObj(new Attr<>("x", shared), new Attr<>("y", null)),
+            Matchers.equalTo(
+                new JsonObj(new Attr<>("x", shared), new Attr<>("y", null))
+            )
+        );
+    }
+
+    /**
+     * Should objects with different values not be equal.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDifferentObjectsNotBeEqual() throws Exception {
+        MatcherAssert.assertThat(
+            new JsonObj(new Attr<>("z", null)),
+            Matchers.not(Matchers.equalTo(new JsonObj(new Attr<>("w", null))))
+        );
+    }
+
+    /**
+     * Should visit attributes in order of insertion.
+     */
+    @Test
+    void shouldVisitAttributesInOrder() {
+        final StringBuilder visited = new StringBuilder();
+        new JsonObj(
+            new JsonObj(new Attr<>("c", 1), new Attr<>("a", null)),
+            new Attr<>("b", true), new Attr<>("c", 2)
+        ).forEach(
+            (name, value) -> visited.append(
+                String.format("%s=%s;", name, value)
+            )
+        );
+        MatcherAssert.assertThat(
+            visited.toString(), Matchers.is("c=2;a=null;b=true;")
+        );
+    }
+
+    /**
+     * Should get values of primitive types.
+     * @throws Exception When fails.
+     * @checkstyle MagicNumber (30 lines)
+     */
+    @Test
+    void shouldGetPrimitiveValues() throws Exception {
+        final JsonObj obj = new ParsedBytes(
+            "{\"i\":-7,\"l\":12345678901,\"d\":1.5,\"b\":true,\"s\":\"t\"}"
+                .getBytes(StandardCharsets.UTF_8),
+            0, new InterningNone()
+        ).obj();
+        MatcherAssert.assertThat(obj.getInt("i"), Matchers.is(-7));
+        MatcherAssert.assertThat(obj.getLong("i"), Matchers.is(-7L));
+        MatcherAssert.assertThat(obj.getLong("l"), Matchers.is(12_345_678_901L));
+        MatcherAssert.assertThat(obj.getDouble("d"), Matchers.is(1.5));
+        MatcherAssert.assertThat(obj.getDouble("i"), Matchers.is(-7.0));
+        MatcherAssert.assertThat(obj.getBoolean("b"), Matchers.is(true));
+        MatcherAssert.assertThat(obj.getString("s"), Matchers.is("t"));
+    }
+
+    /**
+     * Should get defaults for missing or mismatched values.
+     * @checkstyle MagicNumber (20 lines)
+     */
+    @Test
+    void shouldGetDefaultsOfPrimitiveValues() {
+        final JsonObj obj = new JsonObj(
+            new Attr<>("n", null), new Attr<>("l", 12_345_678_901L)
+        );
+        MatcherAssert.assertThat(obj.getInt("l", 3), Matchers.is(3));
+        MatcherAssert.assertThat(obj.getLong("x", 4L), Matchers.is(4L));
+        MatcherAssert.assertThat(obj.getDouble("n", 0.5), Matchers.is(0.5));
+        MatcherAssert.assertThat(obj.getBoolean("l", true), Matchers.is(true));
+        MatcherAssert.assertThat(obj.getString("n", "d"), Matchers.is("d"));
+    }
+
+    /**
+     * Should reject missing or mismatched values of primitive types.
+     */
+    @Test
+    void shouldRejectMismatchedPrimitiveValues() {
+        final JsonObj obj = new JsonObj(
+            new Attr<>("n", null), new Attr<>("s", "1")
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                JsonException.class, () -> obj.getInt("s")
+            ).getMessage(),
+            Matchers.is("Attribute \"s\" is not int")
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                JsonException.class, () -> obj.getBoolean("n")
+            ).getMessage(),
+            Matchers.is("Attribute \"n\" is not boolean")
+        );
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                JsonException.class, () -> obj.getString("x")
+            ).getMessage(),
+            Matchers.is("Attribute name \"x\" not found")
+        );
+    }
+
+    /**
+     * Should not let views change object behind its cached hash.
+     */
+    @Test
+    void shouldKeepViewsReadOnly() {
+        final JsonObj obj = new JsonObj(
+            new Attr<>("a", 1), new Attr<>("b", "x")
+        );
+        final int hash = obj.hashCode();
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> {
+                final Iterator<Map.Entry<String, Object>> iter =
+                    obj.entrySet().iterator();
+                iter.next();
+                iter.remove();
+            }
+        );
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> obj.entrySet().iterator().next().setValue(2)
+        );
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> obj.keySet().remove("a")
+        );
+        Assertions.assertThrows(
+            UnsupportedOperationException.class,
+            () -> obj.values().remove("x")
+        );
+        MatcherAssert.assertThat(obj.hashCode(), Matchers.is(hash));
+        MatcherAssert.assertThat(
+            obj,
+            Matchers.equalTo(
+                new JsonObj(new Attr<>("a", 1), new Attr<>("b", "x"))
+            )
+        );
+    }
 }
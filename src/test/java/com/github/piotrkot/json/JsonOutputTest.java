@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for value written as JSON text.
+ *
+ * @since 1.9
+ */
+final class JsonOutputTest {
+    /**
+     * Should copy slices verbatim.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldCopySlicesVerbatim() throws Exception {
+        final String text = "{\"a\":\"x\\/y \\u0041\",\"b\":[1,2.5,null]}";
+        MatcherAssert.assertThat(
+            new String(
+                new JsonOutput(
+                    new ParsedBytes(
+                        text.getBytes(StandardCharsets.UTF_8),
+                        0, new InterningNone()
+                    ).obj()
+                ).asBytes(),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.is(text)
+        );
+    }
+
+    /**
+     * Should escape strings.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldEscapeStrings() throws Exception {
+        MatcherAssert.assertThat(
+            new String(
+                new JsonOutput(
+                    new JsonObj(new Attr<>("q", "\"ż\"\n\u0001"))
+                ).asBytes(),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.is("{\"q\":\"\\\"ż\\\"\\n\\u0001\"}")
+        );
+    }
+
+    /**
+     * Should give the same text as JSON API for slices.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldConvertSlicesToJsonValue() throws Exception {
+        MatcherAssert.assertThat(
+            new ParsedBytes(
+                "{\"s\":\"a\\tb\"}".getBytes(StandardCharsets.UTF_8),
+                0, new InterningNone()
+            ).obj().jsonValue().getString("s"),
+            Matchers.is("a\tb")
+        );
+    }
+}
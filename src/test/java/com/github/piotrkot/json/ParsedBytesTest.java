@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for JSON value parsed from UTF-8 text.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class ParsedBytesTest {
+    /**
+     * Text for tests.
+     */
+    private static final String TEXT = String.join(
+        "",
+        "{\"id\":12,\"big\":12345678901,\"num\":1.5,\"ok\":true,\"no\":null,",
+        "\"tags\":[\"a\",false,{\"n\":\"ż\\u00f3\\n\"}],",
+        "\"body\":\"<p>long \\\"quoted\\\" body</p>\"}"
+    );
+
+    /**
+     * Should parse values as JSON reader does.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldParseAsReader() throws Exception {
+        MatcherAssert.assertThat(
+            new ParsedBytes(
+                ParsedBytesTest.TEXT.getBytes(StandardCharsets.UTF_8)
+            ).obj(),
+            Matchers.equalTo(
+                new JsonObj(
+                    Json.createReader(new StringReader(ParsedBytesTest.TEXT))
+                        .readObject()
+                )
+            )
+        );
+    }
+
+    /**
+     * Should leave long strings as slices.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSliceLongStrings() throws Exception {
+        final JsonObj obj = new ParsedBytes(
+            ParsedBytesTest.TEXT.getBytes(StandardCharsets.UTF_8),
+            8, new InterningNone()
+        ).obj();
+        Object body = null;
+        for (final Map.Entry<String, Object> entry : obj.stored()) {
+            if ("body".equals(entry.getKey())) {
+                body = entry.getValue();
+            }
+        }
+        MatcherAssert.assertThat(body, Matchers.instanceOf(StringSlice.class));
+        MatcherAssert.assertThat(
+            body.toString(), Matchers.is("<p>long \"quoted\" body</p>")
+        );
+    }
+
+    /**
+     * Should reject malformed text.
+     */
+    @Test
+    void shouldRejectMalformedText() {
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new ParsedBytes(
+                "{\"a\":1,}".getBytes(StandardCharsets.UTF_8)
+            ).obj()
+        );
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new ParsedBytes(
+                "[1] 2".getBytes(StandardCharsets.UTF_8)
+            ).arr()
+        );
+    }
+
+    /**
+     * Should make object with slices equal to the same object with
+     * strings and get slices as strings.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldEqualObjectWithStrings() throws Exception {
+        final JsonObj sliced = new ParsedBytes(
+            ParsedBytesTest.TEXT.getBytes(StandardCharsets.UTF_8),
+            0, new InterningNone()
+        ).obj();
+        final JsonObj read = new JsonObj(
+            Json.createReader(new StringReader(ParsedBytesTest.TEXT))
+                .readObject()
+        );
+        MatcherAssert.assertThat(sliced, Matchers.equalTo(read));
+        MatcherAssert.assertThat(read, Matchers.equalTo(sliced));
+        final String body = sliced.get("body");
+        MatcherAssert.assertThat(body, Matchers.is("<p>long \"quoted\" body</p>"));
+    }
+
+    /**
+     * Should equal map of strings both ways and give out slices as
+     * strings.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldGiveOutSlicesAsStrings() throws Exception {
+        final JsonObj sliced = new ParsedBytes(
+            "{\"a\":\"long text\",\"b\":[\"long item\"]}".getBytes(
+                StandardCharsets.UTF_8
+            ),
+            0, new InterningNone()
+        ).obj();
+        final Map<String, Object> plain = new LinkedHashMap<>(0);
+        plain.put("a", "long text");
+        plain.put("b", Collections.singletonList("long item"));
+        MatcherAssert.assertThat(sliced.equals(plain), Matchers.is(true));
+        MatcherAssert.assertThat(plain.equals(sliced), Matchers.is(true));
+        MatcherAssert.assertThat(
+            sliced.values().iterator().next(),
+            Matchers.instanceOf(String.class)
+        );
+        MatcherAssert.assertThat(
+            sliced.entrySet().iterator().next().getValue(),
+            Matchers.instanceOf(String.class)
+        );
+        MatcherAssert.assertThat(
+            sliced.attributes().iterator().next().value(),
+            Matchers.instanceOf(String.class)
+        );
+        final List<Object> visited = new ArrayList<>(2);
+        sliced.forEach((name, value) -> visited.add(value));
+        MatcherAssert.assertThat(
+            visited.get(0), Matchers.instanceOf(String.class)
+        );
+        final JsonArr<String> items = sliced.get("b");
+        MatcherAssert.assertThat(
+            items.iterator().next(), Matchers.is("long item")
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for value with text as Java string.
+ *
+ * @since 1.9
+ */
+final class PlainValueTest {
+    /**
+     * Should make slice of parsed text plain string.
+     */
+    @Test
+    void shouldMakeSlicePlain() {
+        final byte[] text = "\"a\\tb\"".getBytes(StandardCharsets.UTF_8);
+        final Object plain = new PlainValue(
+            new StringSlice(text, 1, text.length - 1)
+        ).value();
+        MatcherAssert.assertThat(plain, Matchers.instanceOf(String.class));
+        MatcherAssert.assertThat(plain, Matchers.is("a\tb"));
+    }
+
+    /**
+     * Should compare slice with string and keep other values.
+     */
+    @Test
+    void shouldCompareSliceWithString() {
+        final byte[] text = "\"xy\"".getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new PlainValue("xy").same(new StringSlice(text, 1, 3)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new PlainValue(1).same(1L), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new PlainValue(null).same(null), Matchers.is(true)
+        );
+    }
+}
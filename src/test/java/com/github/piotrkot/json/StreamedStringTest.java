@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for string value read as a stream.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class StreamedStringTest {
+    /**
+     * Text for tests.
+     */
+    private static final String TEXT = String.join(
+        "",
+        "{\"skip\": {\"a\": [1, -2.5e3, true, null, \"x\\\"}\"]},",
+        " \"items\": [ {\"n\": 1}, {\"text\": \"za\\u017c\\u00f3\\u0142\\n",
+        "\\ud83d\\ude00 \\/ \\\"q\\\"\"} ], \"after\": 1}"
+    );
+
+    /**
+     * Should read string at pointer decoding escapes.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReadString() throws Exception {
+        final StringBuilder text = new StringBuilder(0);
+        try (Reader reader = new StreamedString(
+            StreamedStringTest.input(StreamedStringTest.TEXT), "/items/1/text"
+        ).reader()) {
+            int read = reader.read();
+            while (read >= 0) {
+                text.append((char) read);
+                read = reader.read();
+            }
+        }
+        MatcherAssert.assertThat(
+            text.toString(), Matchers.is("zażół\n😀 / \"q\"")
+        );
+    }
+
+    /**
+     * Should decode base64 payload incrementally.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDecodePayload() throws Exception {
+        final byte[] payload = new byte[1 << 20];
+        new Random(1L).nextBytes(payload);
+        final String text = String.format(
+            "{\"name\":\"blob\",\"data\":\"%s\"}",
+            Base64.getMimeEncoder().encodeToString(payload)
+                .replace("\r\n", "\\r\\n").replace("/", "\\/")
+        );
+        final ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        try (InputStream blob = new StreamedString(
+            StreamedStringTest.input(text), "/data"
+        ).decoded()) {
+            final byte[] buffer = new byte[4096];
+            int read = blob.read(buffer);
+            while (read >= 0) {
+                decoded.write(buffer, 0, read);
+                read = blob.read(buffer);
+            }
+        }
+        MatcherAssert.assertThat(decoded.toByteArray(), Matchers.is(payload));
+    }
+
+    /**
+     * Should read long string in bulk across escapes.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReadLongStringInBulk() throws Exception {
+        final String plain = String.join(
+            "", Collections.nCopies(5000, "abc\"ż\\")
+        );
+        final String escaped = String.join(
+            "", Collections.nCopies(5000, "abc\\\"\\u017c\\\\")
+        );
+        final ByteArrayOutputStream read = new ByteArrayOutputStream();
+        try (InputStream bytes = new StreamedString(
+            StreamedStringTest.input(
+                String.format("{\"long\":\"%s\",\"n\":1}", escaped)
+            ),
+            "/long"
+        ).bytes()) {
+            final byte[] buffer = new byte[1000];
+            int count = bytes.read(buffer, 0, buffer.length);
+            while (count >= 0) {
+                read.write(buffer, 0, count);
+                count = bytes.read(buffer, 0, buffer.length);
+            }
+        }
+        MatcherAssert.assertThat(
+            new String(read.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.is(plain)
+        );
+    }
+
+    /**
+     * Should fail on surrogate escape without its pair.
+     */
+    @Test
+    void shouldFailOnUnpairedSurrogate() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new StreamedString(
+                StreamedStringTest.input("{\"s\":\"\\ud800\\u0041\"}"), "/s"
+            ).reader().read()
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new StreamedString(
+                StreamedStringTest.input("{\"s\":\"\\udc00\"}"), "/s"
+            ).reader().read()
+        );
+    }
+
+    /**
+     * Should fail when there is no string at pointer.
+     */
+    @Test
+    void shouldFailWithoutString() {
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new StreamedString(
+                StreamedStringTest.input(StreamedStringTest.TEXT), "/after"
+            ).bytes()
+        );
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new StreamedString(
+                StreamedStringTest.input(StreamedStringTest.TEXT), "/items/2"
+            ).bytes()
+        );
+    }
+
+    /**
+     * Should reject tokens which are not array indexes.
+     */
+    @Test
+    void shouldRejectBadIndex() {
+        final String[] pointers = {"/items/-1", "/items/+1", "/items/01"};
+        for (final String pointer : pointers) {
+            Assertions.assertThrows(
+                JsonException.class,
+                () -> new StreamedString(
+                    StreamedStringTest.input(StreamedStringTest.TEXT), pointer
+                ).bytes()
+            );
+        }
+    }
+
+    /**
+     * Input of text.
+     * @param text Text.
+     * @return Input.
+     */
+    private static InputStream input(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json;
+
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for string slice.
+ *
+ * @since 1.9
+ */
+final class StringSliceTest {
+    /**
+     * Should decode escapes and UTF-8 lazily.
+     */
+    @Test
+    void shouldDecode() {
+        final byte[] bytes = "\"zaż\\u00f3\\u0142\\\\ć\""
+            .getBytes(StandardCharsets.UTF_8);
+        final StringSlice slice = new StringSlice(bytes, 1, bytes.length - 1);
+        MatcherAssert.assertThat(slice.toString(), Matchers.is("zażół\\ć"));
+        MatcherAssert.assertThat(slice.charAt(3), Matchers.is('ó'));
+        MatcherAssert.assertThat(slice.length(), Matchers.is(7));
+    }
+
+    /**
+     * Should equal JSON string of the same characters.
+     */
+    @Test
+    void shouldEqualJsonString() {
+        final byte[] bytes = "abc".getBytes(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            new StringSlice(bytes, 0, bytes.length),
+            Matchers.equalTo(Json.createValue("abc"))
+        );
+    }
+
+    /**
+     * Should reject malformed escape when decoded.
+     */
+    @Test
+    void shouldRejectMalformedEscape() {
+        final byte[] bytes = "a\\x".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new StringSlice(bytes, 0, bytes.length).toString()
+        );
+    }
+
+    /**
+     * Should reject unicode escape with sign instead of hex digit.
+     */
+    @Test
+    void shouldRejectSignedUnicodeEscape() {
+        final byte[] bytes = "a\\u-123".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new StringSlice(bytes, 0, bytes.length).toString()
+        );
+    }
+}
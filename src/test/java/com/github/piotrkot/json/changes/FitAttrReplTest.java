@@ -25,6 +25,7 @@ package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Attr;
 import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.PatchJournal;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -68,4 +69,42 @@ final class FitAttrReplTest {
             Matchers.is("{\"aa\":true,\"val\":0}")
         );
     }
+
+    /**
+     * Should record replacement with the same value as move.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordMove() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitAttrRepl("old", new Attr<>("new", "same")).make(
+            new JsonObj(new Attr<>("old", "same")), patch
+        );
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is("[{\"op\":\"move\",\"from\":\"/old\",\"path\":\"/new\"}]")
+        );
+    }
+
+    /**
+     * Should record replacement with other value as remove and add.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordRemoveAndAdd() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitAttrRepl("old", new Attr<>("new", 1)).make(
+            new JsonObj(new Attr<>("old", 0)), patch
+        );
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"remove\",\"path\":\"/old\"},",
+                    "{\"op\":\"add\",\"path\":\"/new\",\"value\":1}]"
+                )
+            )
+        );
+    }
 }
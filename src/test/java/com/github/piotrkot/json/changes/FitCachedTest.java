@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.io.StringReader;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for cached fit.
+ *
+ * @since 1.9
+ */
+final class FitCachedTest {
+    /**
+     * Should make fit once for the same content.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldCacheResult() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final FitCached fit = new FitCached(
+            json -> {
+                calls.incrementAndGet();
+                return new FitValUpd("v", 2).make(json);
+            }
+        );
+        fit.make(new JsonObj(new Attr<>("v", 1)));
+        MatcherAssert.assertThat(
+            fit.make(new JsonObj(new StringReader("{\"v\":1}")))
+                .jsonValue().toString(),
+            Matchers.is("{\"v\":2}")
+        );
+        MatcherAssert.assertThat(calls.get(), Matchers.is(1));
+        MatcherAssert.assertThat(fit.hits(), Matchers.is(1L));
+        MatcherAssert.assertThat(fit.misses(), Matchers.is(1L));
+    }
+
+    /**
+     * Should evict least recently used results.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldEvictResults() throws Exception {
+        final FitCached fit = new FitCached(new FitNotNull(), 1);
+        for (int idx = 0; idx < 100; idx += 1) {
+            fit.make(new JsonObj(new Attr<>("i", idx)));
+        }
+        MatcherAssert.assertThat(
+            fit.evictions(),
+            Matchers.greaterThan(0L)
+        );
+    }
+
+    /**
+     * Should cache no more results than capacity.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldKeepCapacity() throws Exception {
+        final FitCached fit = new FitCached(new FitNotNull(), 1);
+        for (int idx = 0; idx < 100; idx += 1) {
+            fit.make(new JsonObj(new Attr<>("i", idx)));
+        }
+        MatcherAssert.assertThat(fit.evictions(), Matchers.is(99L));
+    }
+
+    /**
+     * Should reject capacity less than one.
+     */
+    @Test
+    void shouldRejectNoCapacity() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new FitCached(new FitNotNull(), 0)
+        );
+    }
+}
@@ -25,6 +25,8 @@ package com.github.piotrkot.json.changes;
 
 import com.github.piotrkot.json.Attr;
 import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.PatchJournal;
+import java.util.Arrays;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -53,4 +55,59 @@ final class FitChainTest {
             Matchers.is("{\"test\":1,\"val\":\"bar\"}")
         );
     }
+
+    /**
+     * Should record operations of chain changes.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordChain() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitChain<>(
+            new FitAttrAdd(new Attr<>("new", 1)),
+            new FitAttrDel("old"),
+            new FitAttrDel("missing"),
+            new FitValUpd("val", "bar")
+        ).make(
+            new JsonObj(
+                new Attr<>("val", "foo"),
+                new Attr<>("old", "baz")
+            ),
+            patch
+        );
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"add\",\"path\":\"/new\",\"value\":1},",
+                    "{\"op\":\"remove\",\"path\":\"/old\"},",
+                    "{\"op\":\"replace\",\"path\":\"/val\",",
+                    "\"value\":\"bar\"}]"
+                )
+            )
+        );
+    }
+
+    /**
+     * Should keep attribute fits conditional and unconditional fits.
+     */
+    @Test
+    void shouldKeepFitKinds() {
+        final Attr<?> attr = new Attr<>("a", 1);
+        MatcherAssert.assertThat(
+            Arrays.asList(
+                new FitAttrAdd(attr),
+                new FitValUpd("a", 2),
+                new FitAttrRepl("a", attr)
+            ),
+            Matchers.everyItem(Matchers.instanceOf(FitCond.class))
+        );
+        MatcherAssert.assertThat(
+            new FitAttrDel("a"), Matchers.instanceOf(FitUncond.class)
+        );
+        MatcherAssert.assertThat(
+            new FitValUpdOrAdd("a", 2), Matchers.instanceOf(FitCondElse.class)
+        );
+    }
 }
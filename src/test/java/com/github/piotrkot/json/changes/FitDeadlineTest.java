@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonObj;
+import java.time.Duration;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for fits applied within time budget.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class FitDeadlineTest {
+    /**
+     * Should apply all fits within budget.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldApplyWithinBudget() throws Exception {
+        MatcherAssert.assertThat(
+            new FitDeadline<JsonObj>(
+                Duration.ofMinutes(1L),
+                new FitAttrAdd(new Attr<>("a", 1)),
+                new FitOptional<>(new FitAttrAdd(new Attr<>("b", 2)))
+            ).make(new JsonObj()).jsonValue().toString(),
+            Matchers.is("{\"a\":1,\"b\":2}")
+        );
+    }
+
+    /**
+     * Should skip optional fits once budget is exhausted.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSkipOptional() throws Exception {
+        MatcherAssert.assertThat(
+            new FitDeadline<JsonObj>(
+                Duration.ofMillis(1L),
+                FitDeadlineTest.slow(),
+                new FitOptional<>(new FitAttrAdd(new Attr<>("b", 2)))
+            ).make(new JsonObj()).jsonValue().toString(),
+            Matchers.is("{\"a\":1}")
+        );
+    }
+
+    /**
+     * Should abort on required fit naming step that exhausted budget.
+     */
+    @Test
+    void shouldAbortOnRequired() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                DeadlineException.class,
+                () -> new FitDeadline<JsonObj>(
+                    Duration.ofMillis(50L),
+                    input -> input,
+                    FitDeadlineTest.slow(),
+                    new FitOptional<>(new FitAttrAdd(new Attr<>("b", 2))),
+                    new FitAttrAdd(new Attr<>("c", 3))
+                ).make(new JsonObj())
+            ).step(),
+            Matchers.is(1)
+        );
+    }
+
+    /**
+     * Should not run any step with zero budget.
+     */
+    @Test
+    void shouldNotRunWithZeroBudget() {
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                DeadlineException.class,
+                () -> new FitDeadline<JsonObj>(
+                    Duration.ZERO,
+                    input -> {
+                        throw new IllegalStateException("ran");
+                    }
+                ).make(new JsonObj())
+            ).step(),
+            Matchers.is(-1)
+        );
+    }
+
+    /**
+     * Slow fit adding attribute.
+     * @return Fit.
+     */
+    private static Fit<JsonObj> slow() {
+        return input -> {
+            Thread.sleep(100L);
+            return new FitAttrAdd(new Attr<>("a", 1)).make(input);
+        };
+    }
+}
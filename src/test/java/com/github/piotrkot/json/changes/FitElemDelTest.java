@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.JsonArr;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for deletion of array elements.
+ *
+ * @since 1.9
+ */
+final class FitElemDelTest {
+    /**
+     * Should delete elements satisfying condition.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDeleteElements() throws Exception {
+        MatcherAssert.assertThat(
+            new FitElemDel<String>(String::isEmpty).make(
+                new JsonArr<>("a", "", "b", "")
+            ).jsonValue().toString(),
+            Matchers.is("[\"a\",\"b\"]")
+        );
+    }
+
+    /**
+     * Should delete elements of large array in parallel keeping order.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDeleteInParallel() throws Exception {
+        final int size = 10_000;
+        final List<Integer> elems = new ArrayList<>(size);
+        final List<Integer> expected = new ArrayList<>(size);
+        for (int idx = 0; idx < size; idx += 1) {
+            elems.add(idx);
+            if (idx % 3 != 0) {
+                expected.add(idx);
+            }
+        }
+        MatcherAssert.assertThat(
+            new FitElemDel<Integer>(num -> num % 3 == 0, 100).make(
+                new JsonArr<>(elems)
+            ),
+            Matchers.equalTo(new JsonArr<>(expected))
+        );
+    }
+
+    /**
+     * Should reject threshold less than one.
+     */
+    @Test
+    void shouldRejectZeroThreshold() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new FitElemDel<String>(String::isEmpty, 0)
+        );
+    }
+}
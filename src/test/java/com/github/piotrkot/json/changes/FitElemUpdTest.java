@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonObj;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for fit made to every element of array.
+ *
+ * @since 1.9
+ */
+final class FitElemUpdTest {
+    /**
+     * Should make fit every element.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMakeFitElements() throws Exception {
+        MatcherAssert.assertThat(
+            new FitElemUpd<>(new FitAttrDel("a")).make(
+                new JsonArr<>(
+                    new JsonObj(new Attr<>("a", 1), new Attr<>("b", 2)),
+                    new JsonObj(new Attr<>("c", 3))
+                )
+            ).jsonValue().toString(),
+            Matchers.is("[{\"b\":2},{\"c\":3}]")
+        );
+    }
+
+    /**
+     * Should make fit elements of large array in parallel keeping order.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMakeFitInParallel() throws Exception {
+        final int size = 10_000;
+        final List<Integer> elems = new ArrayList<>(size);
+        final List<Integer> expected = new ArrayList<>(size);
+        for (int idx = 0; idx < size; idx += 1) {
+            elems.add(idx);
+            expected.add(idx * 2);
+        }
+        MatcherAssert.assertThat(
+            new FitElemUpd<Integer>(num -> num * 2, 100).make(
+                new JsonArr<>(elems)
+            ),
+            Matchers.equalTo(new JsonArr<>(expected))
+        );
+    }
+
+    /**
+     * Should split array down to single elements.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMakeFitSingleElements() throws Exception {
+        MatcherAssert.assertThat(
+            new FitElemUpd<Integer>(num -> num * 2, 1).make(
+                new JsonArr<>(1, 2, 3)
+            ).jsonValue().toString(),
+            Matchers.is("[2,4,6]")
+        );
+    }
+
+    /**
+     * Should reject threshold less than one.
+     */
+    @Test
+    void shouldRejectZeroThreshold() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new FitElemUpd<Integer>(num -> num, 0)
+        );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.Fit;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.PatchJournal;
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for fit chosen by discriminator attribute.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class FitRoutedTest {
+    /**
+     * Should make fit by route of discriminator value.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRouteByValue() throws Exception {
+        MatcherAssert.assertThat(
+            new FitRouted("type", FitRoutedTest.routes()).make(
+                new JsonObj(new Attr<>("type", "bus"), new Attr<>("n", 1))
+            ).jsonValue().toString(),
+            Matchers.is("{\"type\":\"bus\",\"n\":1,\"seats\":40}")
+        );
+    }
+
+    /**
+     * Should make fit by default fit when value not routed.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFallBack() throws Exception {
+        MatcherAssert.assertThat(
+            new FitRouted(
+                "type", FitRoutedTest.routes(), new FitAttrDel("n")
+            ).make(
+                new JsonObj(new Attr<>("type", "bike"), new Attr<>("n", 1))
+            ).jsonValue().toString(),
+            Matchers.is("{\"type\":\"bike\"}")
+        );
+    }
+
+    /**
+     * Should leave object unchanged when no discriminator.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldLeaveUnrouted() throws Exception {
+        final JsonObj obj = new JsonObj(new Attr<>("n", 1));
+        MatcherAssert.assertThat(
+            new FitRouted("type", FitRoutedTest.routes()).make(obj),
+            Matchers.sameInstance(obj)
+        );
+    }
+
+    /**
+     * Should record changes of routed fit.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordChanges() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitRouted("type", FitRoutedTest.routes()).make(
+            new JsonObj(new Attr<>("type", "car")), patch
+        );
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is("[{\"op\":\"add\",\"path\":\"/seats\",\"value\":5}]")
+        );
+    }
+
+    /**
+     * Routes for tests.
+     * @return Fits by type.
+     */
+    private static Map<String, Fit<JsonObj>> routes() {
+        final Map<String, Fit<JsonObj>> routes = new HashMap<>(0);
+        routes.put("car", new FitAttrAdd(new Attr<>("seats", 5)));
+        routes.put("bus", new FitAttrAdd(new Attr<>("seats", 40)));
+        return routes;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JournalNone;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.patch.PatchJournal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for tracked fit.
+ *
+ * @since 1.9
+ */
+final class FitTrackedTest {
+    /**
+     * Should record operations of tracked fit.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordTrackedFit() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitTracked<>(new FitAttrDel("x")).make(
+            new JsonObj(new Attr<>("x", 1)), patch
+        );
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is("[{\"op\":\"remove\",\"path\":\"/x\"}]")
+        );
+    }
+
+    /**
+     * Should record replacement of document changed by untracked fit.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordUntrackedFit() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitTracked<JsonObj>(
+            json -> new JsonObj(new Attr<>("y", true))
+        ).make(new JsonObj(), patch);
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is(
+                "[{\"op\":\"replace\",\"path\":\"\",\"value\":{\"y\":true}}]"
+            )
+        );
+    }
+
+    /**
+     * Should not record untracked fit that changed nothing.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotRecordUnchanged() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitTracked<JsonObj>(
+            json -> new JsonObj(json.attributes())
+        ).make(new JsonObj(new Attr<>("z", 0)), patch);
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is("[]")
+        );
+    }
+
+    /**
+     * Should not compare documents when journal records nothing.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotCompareForNoJournal() throws Exception {
+        final FitTrackedTest.Unequal result = new FitTrackedTest.Unequal();
+        MatcherAssert.assertThat(
+            new FitTracked<Object>(input -> result).make(
+                new FitTrackedTest.Unequal(), new JournalNone()
+            ),
+            Matchers.sameInstance(result)
+        );
+    }
+
+    /**
+     * Value that can not be compared.
+     *
+     * @since 1.9
+     */
+    private static final class Unequal {
+        @Override
+        public boolean equals(final Object other) {
+            throw new IllegalStateException("Not comparable");
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.changes;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for indices processed in slices.
+ *
+ * @since 1.9
+ */
+final class SlicesTest {
+    /**
+     * Should apply step to every index exactly once.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldApplyOnce() throws Exception {
+        final int size = 5000;
+        final AtomicIntegerArray counts = new AtomicIntegerArray(size);
+        new Slices(size, 16).apply(counts::incrementAndGet);
+        int total = 0;
+        for (int idx = 0; idx < size; idx += 1) {
+            total += counts.get(idx) * counts.get(idx);
+        }
+        MatcherAssert.assertThat(total, Matchers.is(size));
+    }
+
+    /**
+     * Should rethrow failure of step.
+     */
+    @Test
+    void shouldRethrowFailure() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Slices(5000, 16).apply(
+                idx -> {
+                    if (idx == 4321) {
+                        throw new IOException("broken");
+                    }
+                }
+            )
+        );
+    }
+}
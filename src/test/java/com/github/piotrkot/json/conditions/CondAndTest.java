@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for conjunction of conditions.
+ *
+ * @since 1.9
+ */
+final class CondAndTest {
+    /**
+     * Should be satisfied when all conditions are.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSatisfyAll() throws Exception {
+        MatcherAssert.assertThat(
+            new CondAnd<String>(
+                str -> str.contains("a"), str -> str.endsWith("c")
+            ).test("abc"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Should not be satisfied when any condition is not.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotSatisfyAny() throws Exception {
+        MatcherAssert.assertThat(
+            new CondAnd<String>(
+                str -> str.contains("a"), str -> str.endsWith("b")
+            ).test("abc"),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Should evaluate first the condition deciding the result.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReorderConditions() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final CondAnd<Integer> cond = new CondAnd<>(
+            num -> count.incrementAndGet() > 0, num -> num < 0
+        );
+        final int total = 5000;
+        for (int idx = 0; idx < total; idx += 1) {
+            cond.test(idx);
+        }
+        MatcherAssert.assertThat(
+            count.get(),
+            Matchers.lessThan(total / 2)
+        );
+    }
+
+    /**
+     * Should keep condition guarding later one when they are reordered.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldKeepGuard() throws Exception {
+        final CondAnd<JsonObj> cond = new CondAnd<>(
+            new CondAttrExists("a"), json -> json.<Integer>get("a") > 5
+        );
+        final JsonObj small = new JsonObj(new Attr<>("a", 1));
+        for (int idx = 0; idx < 5000; idx += 1) {
+            cond.test(small);
+        }
+        MatcherAssert.assertThat(
+            cond.test(new JsonObj(new Attr<>("b", 7))), Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            cond.test(new JsonObj(new Attr<>("a", 7))), Matchers.is(true)
+        );
+    }
+}
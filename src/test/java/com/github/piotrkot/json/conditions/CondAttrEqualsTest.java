@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.InterningNone;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.ParsedBytes;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for condition on attribute value.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CondAttrEqualsTest {
+    /**
+     * Should match equal value.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMatchValue() throws Exception {
+        MatcherAssert.assertThat(
+            new CondAttrEquals("type", "car").test(
+                new JsonObj(new Attr<>("type", "car"))
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Should not match other or missing value.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotMatchOther() throws Exception {
+        final JsonObj obj = new JsonObj(new Attr<>("type", "bus"));
+        MatcherAssert.assertThat(
+            new CondAttrEquals("type", "car").test(obj)
+                || new CondAttrEquals("kind", "bus").test(obj),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Should match string value left as slice of parsed text.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMatchSlice() throws Exception {
+        MatcherAssert.assertThat(
+            new CondAttrEquals("type", "car").test(
+                new ParsedBytes(
+                    "{\"type\":\"car\"}".getBytes(StandardCharsets.UTF_8),
+                    0, new InterningNone()
+                ).obj()
+            ),
+            Matchers.is(true)
+        );
+    }
+}
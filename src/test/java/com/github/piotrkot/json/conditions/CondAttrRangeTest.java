@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for condition on attribute range.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class CondAttrRangeTest {
+    /**
+     * Should match value within bounds.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMatchWithinBounds() throws Exception {
+        MatcherAssert.assertThat(
+            new CondAttrRange("age", 18, 65).test(
+                new JsonObj(new Attr<>("age", new BigDecimal("65")))
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Should not match value out of bounds or not a number.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotMatchOutOfBounds() throws Exception {
+        final CondAttrRange cond = new CondAttrRange("age", 18, 65);
+        MatcherAssert.assertThat(
+            cond.test(new JsonObj(new Attr<>("age", 17.5)))
+                || cond.test(new JsonObj(new Attr<>("age", "20"))),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.conditions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for disjunction of conditions.
+ *
+ * @since 1.9
+ */
+final class CondOrTest {
+    /**
+     * Should be satisfied when any condition is.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSatisfyAny() throws Exception {
+        MatcherAssert.assertThat(
+            new CondOr<String>(
+                str -> str.contains("x"), str -> str.endsWith("c")
+            ).test("abc"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Should not be satisfied when no condition is.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldNotSatisfyNone() throws Exception {
+        MatcherAssert.assertThat(
+            new CondOr<String>(
+                str -> str.contains("x"), str -> str.endsWith("y")
+            ).test("abc"),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Should evaluate first the condition deciding the result.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReorderConditions() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final CondOr<Integer> cond = new CondOr<>(
+            num -> count.incrementAndGet() < 0, num -> num >= 0
+        );
+        final int total = 5000;
+        for (int idx = 0; idx < total; idx += 1) {
+            cond.test(idx);
+        }
+        MatcherAssert.assertThat(
+            count.get(),
+            Matchers.lessThan(total / 2)
+        );
+    }
+}
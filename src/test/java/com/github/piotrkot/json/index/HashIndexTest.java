@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.index;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.InterningNone;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.ParsedBytes;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for hash index.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class HashIndexTest {
+    /**
+     * Should find positions of nested values.
+     */
+    @Test
+    void shouldFindNested() {
+        final HashIndex index = new HashIndex("/a/b");
+        index.add(1, HashIndexTest.nested("x"));
+        index.add(2, HashIndexTest.nested("y"));
+        index.add(5, HashIndexTest.nested("x"));
+        MatcherAssert.assertThat(
+            index.equal("/a/b", "x").get().toString(),
+            Matchers.is("{1, 5}")
+        );
+    }
+
+    /**
+     * Should find values added again after all were removed.
+     */
+    @Test
+    void shouldFindReaddedValues() {
+        final HashIndex index = new HashIndex("/a/b");
+        index.add(1, HashIndexTest.nested("x"));
+        index.remove(1, HashIndexTest.nested("x"));
+        MatcherAssert.assertThat(
+            index.equal("/a/b", "x").get().isEmpty(),
+            Matchers.is(true)
+        );
+        index.add(4, HashIndexTest.nested("x"));
+        MatcherAssert.assertThat(
+            index.equal("/a/b", "x").get().toString(),
+            Matchers.is("{4}")
+        );
+    }
+
+    /**
+     * Should not answer queries on other paths.
+     */
+    @Test
+    void shouldIgnoreOtherPath() {
+        MatcherAssert.assertThat(
+            new HashIndex("/a").equal("/b", "x"),
+            Matchers.is(Optional.<BitSet>empty())
+        );
+    }
+
+    /**
+     * Should find string values left as slices of parsed text.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFindSlices() throws Exception {
+        final HashIndex index = new HashIndex("/a/b");
+        index.add(
+            3,
+            new ParsedBytes(
+                "{\"a\":{\"b\":\"x\"}}".getBytes(StandardCharsets.UTF_8),
+                0, new InterningNone()
+            ).obj()
+        );
+        index.add(4, HashIndexTest.nested("x"));
+        MatcherAssert.assertThat(
+            index.equal("/a/b", "x").get().toString(),
+            Matchers.is("{3, 4}")
+        );
+    }
+
+    /**
+     * Object with nested value.
+     * @param value Value.
+     * @return Object.
+     */
+    private static JsonObj nested(final String value) {
+        return new JsonObj(
+            new Attr<>("a", new JsonObj(new Attr<>("b", value)))
+        );
+    }
+}
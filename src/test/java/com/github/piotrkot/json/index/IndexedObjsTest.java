@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.index;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.changes.FitValUpd;
+import com.github.piotrkot.json.conditions.CondAnd;
+import com.github.piotrkot.json.conditions.CondAttrEquals;
+import com.github.piotrkot.json.conditions.CondAttrRange;
+import com.github.piotrkot.json.conditions.CondOr;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for collection of JSON objects with indexes.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class IndexedObjsTest {
+    /**
+     * Should test only candidates found in index.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldTestOnlyCandidates() throws Exception {
+        final IndexedObjs objs = IndexedObjsTest.objs();
+        final AtomicInteger tested = new AtomicInteger();
+        MatcherAssert.assertThat(
+            objs.select(
+                new CondAnd<>(
+                    new CondAttrEquals("type", "b"),
+                    obj -> tested.incrementAndGet() > 0
+                )
+            ).size(),
+            Matchers.is(10)
+        );
+        MatcherAssert.assertThat(tested.get(), Matchers.is(10));
+    }
+
+    /**
+     * Should select by range and union of conditions.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSelectRanges() throws Exception {
+        MatcherAssert.assertThat(
+            IndexedObjsTest.objs().select(
+                new CondOr<>(
+                    new CondAttrRange("n", 0, 2),
+                    new CondAttrRange("n", 97, 1000)
+                )
+            ).size(),
+            Matchers.is(6)
+        );
+    }
+
+    /**
+     * Should keep indexes up to date on updates.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReindexUpdated() throws Exception {
+        final IndexedObjs objs = IndexedObjsTest.objs();
+        objs.update(3, new FitValUpd("type", "z"));
+        objs.remove(4);
+        MatcherAssert.assertThat(
+            objs.select(new CondAttrEquals("type", "z")).get(0),
+            Matchers.equalTo(objs.get(3))
+        );
+        MatcherAssert.assertThat(
+            objs.select(new CondAttrEquals("type", "e")).size(),
+            Matchers.is(9)
+        );
+    }
+
+    /**
+     * Should select without index by testing all objects.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSelectWithoutIndex() throws Exception {
+        MatcherAssert.assertThat(
+            IndexedObjsTest.objs().select(
+                obj -> obj.<Integer>get("n") % 25 == 0
+            ).size(),
+            Matchers.is(4)
+        );
+    }
+
+    /**
+     * Indexed objects for tests.
+     * @return Objects.
+     */
+    private static IndexedObjs objs() {
+        final IndexedObjs objs = new IndexedObjs(
+            new HashIndex("/type"), new SortedIndex("/n")
+        );
+        for (int num = 0; num < 100; num += 1) {
+            objs.add(
+                new JsonObj(
+                    new Attr<>("type", String.valueOf((char) ('a' + num % 10))),
+                    new Attr<>("n", num)
+                )
+            );
+        }
+        return objs;
+    }
+}
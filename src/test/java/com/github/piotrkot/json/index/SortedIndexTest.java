@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.index;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for sorted index.
+ *
+ * @since 1.9
+ */
+final class SortedIndexTest {
+    /**
+     * Should find positions within range.
+     */
+    @Test
+    void shouldFindRange() {
+        final SortedIndex index = new SortedIndex("/n");
+        for (int pos = 0; pos < 10; pos += 1) {
+            index.add(pos, new JsonObj(new Attr<>("n", pos * 1.5)));
+        }
+        index.remove(3, new JsonObj(new Attr<>("n", 4.5)));
+        MatcherAssert.assertThat(
+            index.range("/n", 3, 7.5).get().toString(),
+            Matchers.is("{2, 4, 5}")
+        );
+    }
+
+    /**
+     * Should treat negative zero as zero.
+     */
+    @Test
+    void shouldFindNegativeZero() {
+        final SortedIndex index = new SortedIndex("/n");
+        index.add(1, new JsonObj(new Attr<>("n", -0.0)));
+        index.add(2, new JsonObj(new Attr<>("n", 0)));
+        MatcherAssert.assertThat(
+            index.equal("/n", 0.0).get().toString(),
+            Matchers.is("{1, 2}")
+        );
+        MatcherAssert.assertThat(
+            index.range("/n", -1, -0.0).get().toString(),
+            Matchers.is("{1, 2}")
+        );
+        index.remove(1, new JsonObj(new Attr<>("n", 0.0)));
+        MatcherAssert.assertThat(
+            index.equal("/n", -0.0).get().toString(),
+            Matchers.is("{2}")
+        );
+    }
+
+    /**
+     * Should find values added again after all were removed.
+     */
+    @Test
+    void shouldFindReaddedValues() {
+        final SortedIndex index = new SortedIndex("/n");
+        index.add(1, new JsonObj(new Attr<>("n", 2)));
+        index.remove(1, new JsonObj(new Attr<>("n", 2)));
+        MatcherAssert.assertThat(
+            index.range("/n", 0, 5).get().isEmpty(),
+            Matchers.is(true)
+        );
+        index.add(3, new JsonObj(new Attr<>("n", 2)));
+        MatcherAssert.assertThat(
+            index.equal("/n", 2).get().toString(),
+            Matchers.is("{3}")
+        );
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.InterningNone;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.ParsedBytes;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for hash join.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class HashJoinTest {
+    /**
+     * Should join objects with equal keys.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldJoinInner() throws Exception {
+        final List<JsonObj> joined = HashJoinTest.all(
+            new HashJoin("/id").inner(
+                HashJoinTest.people(10), HashJoinTest.cities(0, 20)
+            )
+        );
+        MatcherAssert.assertThat(joined.size(), Matchers.is(10));
+        MatcherAssert.assertThat(
+            joined.get(3),
+            Matchers.equalTo(
+                new JsonObj(
+                    new Attr<>("id", 3),
+                    new Attr<>("name", "p3"),
+                    new Attr<>("city", "c3")
+                )
+            )
+        );
+    }
+
+    /**
+     * Should keep objects of left side without match, also when left side
+     * is the smaller one.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldJoinLeft() throws Exception {
+        MatcherAssert.assertThat(
+            HashJoinTest.all(
+                new HashJoin("/id").left(
+                    HashJoinTest.people(10), HashJoinTest.cities(5, 100)
+                )
+            ).size(),
+            Matchers.is(10)
+        );
+        MatcherAssert.assertThat(
+            HashJoinTest.all(
+                new HashJoin("/id").left(
+                    HashJoinTest.people(100), HashJoinTest.cities(95, 105)
+                )
+            ).size(),
+            Matchers.is(100)
+        );
+    }
+
+    /**
+     * Should join partitions spilled to disk.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldJoinSpilledPartitions(@TempDir final Path dir)
+        throws Exception {
+        final List<JsonObj> joined = HashJoinTest.all(
+            new HashJoin("/id", "/id", new CollisionLeft(), dir, 2048L).left(
+                HashJoinTest.people(3000), HashJoinTest.cities(1000, 5000)
+            )
+        );
+        MatcherAssert.assertThat(joined.size(), Matchers.is(3000));
+        int cities = 0;
+        for (final JsonObj obj : joined) {
+            if (obj.contains("city")) {
+                cities += 1;
+            }
+        }
+        MatcherAssert.assertThat(cities, Matchers.is(2000));
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(files.count(), Matchers.is(0L));
+        }
+    }
+
+    /**
+     * Should join string keys left as slices of parsed text with strings.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldJoinSlicesWithStrings() throws Exception {
+        MatcherAssert.assertThat(
+            HashJoinTest.all(
+                new HashJoin("/id").inner(
+                    Arrays.asList(
+                        new ParsedBytes(
+                            "{\"id\":\"k1\",\"name\":\"p1\"}"
+                                .getBytes(StandardCharsets.UTF_8),
+                            0, new InterningNone()
+                        ).obj()
+                    ),
+                    Arrays.asList(
+                        new JsonObj(
+                            new Attr<>("id", "k1"), new Attr<>("city", "c1")
+                        )
+                    )
+                )
+            ),
+            Matchers.equalTo(
+                Arrays.asList(
+                    new JsonObj(
+                        new Attr<>("id", "k1"),
+                        new Attr<>("name", "p1"),
+                        new Attr<>("city", "c1")
+                    )
+                )
+            )
+        );
+    }
+
+    /**
+     * All joined objects.
+     * @param joined Joined objects.
+     * @return Objects.
+     * @throws Exception When fails.
+     */
+    private static List<JsonObj> all(final JoinedObjs joined)
+        throws Exception {
+        final List<JsonObj> all = new ArrayList<>(0);
+        try (JoinedObjs objs = joined) {
+            objs.forEachRemaining(all::add);
+        }
+        return all;
+    }
+
+    /**
+     * People for tests.
+     * @param count Number of people.
+     * @return People.
+     */
+    private static List<JsonObj> people(final int count) {
+        final List<JsonObj> people = new ArrayList<>(count);
+        for (int num = 0; num < count; num += 1) {
+            people.add(
+                new JsonObj(
+                    new Attr<>("id", num), new Attr<>("name", String.format("p%d", num))
+                )
+            );
+        }
+        return people;
+    }
+
+    /**
+     * Cities for tests.
+     * @param from The first id.
+     * @param till The last id, exclusive.
+     * @return Cities.
+     */
+    private static List<JsonObj> cities(final int from, final int till) {
+        final List<JsonObj> cities = new ArrayList<>(till - from);
+        for (int num = from; num < till; num += 1) {
+            cities.add(
+                new JsonObj(
+                    new Attr<>("id", (long) num), new Attr<>("city", String.format("c%d", num))
+                )
+            );
+        }
+        return cities;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for join key.
+ *
+ * @since 1.9
+ */
+final class JoinKeyTest {
+    /**
+     * Should make numbers of equal value equal.
+     */
+    @Test
+    void shouldNormalizeNumbers() {
+        final JoinKey key = new JoinKey("/k");
+        final Object expected = key.found(new JsonObj(new Attr<>("k", 7)));
+        MatcherAssert.assertThat(
+            key.found(new JsonObj(new Attr<>("k", 7L))), Matchers.is(expected)
+        );
+        MatcherAssert.assertThat(
+            key.found(new JsonObj(new Attr<>("k", 7.0))), Matchers.is(expected)
+        );
+        MatcherAssert.assertThat(
+            key.found(new JsonObj(new Attr<>("k", new BigDecimal("7.00")))),
+            Matchers.is(expected)
+        );
+    }
+
+    /**
+     * Should give no key for missing value.
+     */
+    @Test
+    void shouldGiveNoKeyForMissingValue() {
+        MatcherAssert.assertThat(
+            new JoinKey("/k").found(new JsonObj(new Attr<>("j", 1))),
+            Matchers.nullValue()
+        );
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.join;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for merge of joined objects.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class MergedTest {
+    /**
+     * Left object.
+     */
+    private static final JsonObj LEFT = new JsonObj(
+        new Attr<>("id", 1), new Attr<>("v", "l"), new Attr<>("a", true)
+    );
+
+    /**
+     * Right object.
+     */
+    private static final JsonObj RIGHT = new JsonObj(
+        new Attr<>("id", 1), new Attr<>("v", "r"), new Attr<>("b", false)
+    );
+
+    /**
+     * Should resolve collision with value of either side.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldResolveWithEitherSide() throws Exception {
+        MatcherAssert.assertThat(
+            new Merged(new CollisionLeft()).joined(MergedTest.LEFT, MergedTest.RIGHT)
+                .get("v"),
+            Matchers.is("l")
+        );
+        MatcherAssert.assertThat(
+            new Merged(new CollisionRight()).joined(MergedTest.LEFT, MergedTest.RIGHT),
+            Matchers.equalTo(
+                new JsonObj(
+                    new Attr<>("id", 1), new Attr<>("v", "r"),
+                    new Attr<>("a", true), new Attr<>("b", false)
+                )
+            )
+        );
+    }
+
+    /**
+     * Should keep both values under prefixed name.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldPrefixRightValue() throws Exception {
+        final JsonObj merged = new Merged(new CollisionPrefixed("r_"))
+            .joined(MergedTest.LEFT, MergedTest.RIGHT);
+        MatcherAssert.assertThat(merged.get("r_v"), Matchers.is("r"));
+        MatcherAssert.assertThat(merged.contains("r_id"), Matchers.is(false));
+    }
+
+    /**
+     * Should fail on collision not allowed.
+     */
+    @Test
+    void shouldFailOnCollision() {
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new Merged(new CollisionFailed())
+                .joined(MergedTest.LEFT, MergedTest.RIGHT)
+        );
+    }
+}
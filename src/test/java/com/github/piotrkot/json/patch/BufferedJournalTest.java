@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for journal keeping changes until flushed.
+ *
+ * @since 1.9
+ */
+final class BufferedJournalTest {
+    /**
+     * Should record kept changes in order only when flushed.
+     */
+    @Test
+    void shouldFlushInOrder() {
+        final BufferedJournal buffered = new BufferedJournal();
+        buffered.add("/a", 1);
+        buffered.replace("/a", 2);
+        buffered.move("/a", "/b");
+        buffered.remove("/b");
+        final PatchJournal patch = new PatchJournal();
+        MatcherAssert.assertThat(patch.value().isEmpty(), Matchers.is(true));
+        buffered.flush(patch);
+        buffered.flush(patch);
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"add\",\"path\":\"/a\",\"value\":1},",
+                    "{\"op\":\"replace\",\"path\":\"/a\",\"value\":2},",
+                    "{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/b\"},",
+                    "{\"op\":\"remove\",\"path\":\"/b\"}]"
+                )
+            )
+        );
+    }
+}
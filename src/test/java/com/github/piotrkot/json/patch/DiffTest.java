@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.io.StringReader;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for structural difference.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class DiffTest {
+    /**
+     * Should find no difference for shared subtrees.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFindNoDifference() throws Exception {
+        final JsonObj shared = new JsonObj(new Attr<>("s", 1));
+        MatcherAssert.assertThat(
+            new Diff(
+                new JsonObj(new Attr<>("a", shared)),
+                new JsonObj(new Attr<>("a", shared))
+            ).jsonValue().toString(),
+            Matchers.is("[]")
+        );
+    }
+
+    /**
+     * Should find difference of objects.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDiffObjects() throws Exception {
+        MatcherAssert.assertThat(
+            new Diff(
+                new JsonObj(
+                    new StringReader("{\"a\":1,\"b\":{\"c\":\"x\"},\"d\":[]}")
+                ),
+                new JsonObj(
+                    new StringReader("{\"a\":1,\"b\":{\"c\":\"y\"},\"e\":0}")
+                )
+            ).jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"replace\",\"path\":\"/b/c\",\"value\":\"y\"},",
+                    "{\"op\":\"remove\",\"path\":\"/d\"},",
+                    "{\"op\":\"add\",\"path\":\"/e\",\"value\":0}]"
+                )
+            )
+        );
+    }
+
+    /**
+     * Should find difference of arrays.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDiffArrays() throws Exception {
+        MatcherAssert.assertThat(
+            new Diff(
+                new JsonObj(new StringReader("{\"a\":[1,2,3,4,5]}")),
+                new JsonObj(new StringReader("{\"a\":[1,3,6,4,5]}"))
+            ).jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"remove\",\"path\":\"/a/1\"},",
+                    "{\"op\":\"add\",\"path\":\"/a/2\",\"value\":6}]"
+                )
+            )
+        );
+    }
+
+    /**
+     * Should match objects in arrays by key.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDiffArraysByKey() throws Exception {
+        MatcherAssert.assertThat(
+            new Diff(
+                new JsonObj(
+                    new StringReader(
+                        "{\"a\":[{\"id\":1,\"v\":0},{\"id\":2,\"v\":0}]}"
+                    )
+                ),
+                new JsonObj(
+                    new StringReader(
+                        "{\"a\":[{\"id\":0,\"v\":0},{\"id\":1,\"v\":1}]}"
+                    )
+                ),
+                "id"
+            ).jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"remove\",\"path\":\"/a/1\"},",
+                    "{\"op\":\"add\",\"path\":\"/a/0\",",
+                    "\"value\":{\"id\":0,\"v\":0}},",
+                    "{\"op\":\"replace\",\"path\":\"/a/1/v\",\"value\":1}]"
+                )
+            )
+        );
+    }
+
+    /**
+     * Should produce patch turning source into target.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldProducePatch() throws Exception {
+        final JsonObj source = new JsonObj(
+            new StringReader(
+                "{\"a\":[{\"id\":1},{\"id\":2},{\"id\":3},7,7],\"b\":[[1]]}"
+            )
+        );
+        final JsonObj target = new JsonObj(
+            new StringReader(
+                "{\"a\":[7,{\"id\":3},{\"id\":1,\"n\":0},8],\"b\":[[2,1]]}"
+            )
+        );
+        MatcherAssert.assertThat(
+            new FitPatch(new Diff(source, target, "id").value()).make(source),
+            Matchers.equalTo(target)
+        );
+    }
+}
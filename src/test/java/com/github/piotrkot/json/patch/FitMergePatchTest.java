@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.io.StringReader;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for applying JSON Merge Patch.
+ *
+ * @since 1.9
+ */
+final class FitMergePatchTest {
+    /**
+     * Should merge patch as in RFC example.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMergePatch() throws Exception {
+        MatcherAssert.assertThat(
+            new FitMergePatch(
+                new JsonObj(
+                    new StringReader(
+                        String.join(
+                            "",
+                            "{\"title\":\"Hello!\",\"phoneNumber\":\"+01-123\",",
+                            "\"author\":{\"familyName\":null},",
+                            "\"tags\":[\"example\"],\"extra\":{\"a\":null}}"
+                        )
+                    )
+                )
+            ).make(
+                new JsonObj(
+                    new StringReader(
+                        String.join(
+                            "",
+                            "{\"title\":\"Goodbye!\",\"author\":",
+                            "{\"givenName\":\"John\",\"familyName\":\"Doe\"},",
+                            "\"tags\":[\"example\",\"sample\"],",
+                            "\"content\":\"text\"}"
+                        )
+                    )
+                )
+            ).jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "{\"title\":\"Hello!\",\"author\":{\"givenName\":\"John\"},",
+                    "\"tags\":[\"example\"],\"content\":\"text\",",
+                    "\"phoneNumber\":\"+01-123\",\"extra\":{}}"
+                )
+            )
+        );
+    }
+
+    /**
+     * Should record changes made.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordChanges() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        new FitMergePatch(
+            new JsonObj(
+                new StringReader("{\"a\":{\"b\":null,\"c\":1},\"d\":null}")
+            )
+        ).make(
+            new JsonObj(
+                new Attr<>("a", new JsonObj(new Attr<>("b", 0)))
+            ),
+            patch
+        );
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"remove\",\"path\":\"/a/b\"},",
+                    "{\"op\":\"add\",\"path\":\"/a/c\",\"value\":1}]"
+                )
+            )
+        );
+    }
+
+    /**
+     * Should share values not touched by patch.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldShareUntouched() throws Exception {
+        final JsonObj kept = new JsonObj(new Attr<>("k", 1));
+        MatcherAssert.assertThat(
+            new FitMergePatch(
+                new JsonObj(new Attr<>("n", 1))
+            ).make(
+                new JsonObj(new Attr<>("kept", kept))
+            ).<JsonObj>get("kept"),
+            Matchers.sameInstance(kept)
+        );
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.changes.FitAttrRepl;
+import com.github.piotrkot.json.changes.FitChain;
+import com.github.piotrkot.json.changes.FitValUpd;
+import java.io.StringReader;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for applying JSON Patch.
+ *
+ * @since 1.9
+ * @checkstyle ClassDataAbstractionCoupling (2 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class FitPatchTest {
+    /**
+     * Should apply all kinds of operations.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldApplyOperations() throws Exception {
+        MatcherAssert.assertThat(
+            new FitPatch(
+                new JsonArr<JsonObj>(
+                    new StringReader(
+                        String.join(
+                            "",
+                            "[{\"op\":\"test\",\"path\":\"/a/0\",\"value\":1},",
+                            "{\"op\":\"add\",\"path\":\"/a/-\",\"value\":3},",
+                            "{\"op\":\"add\",\"path\":\"/a/1\",\"value\":2},",
+                            "{\"op\":\"remove\",\"path\":\"/b\"},",
+                            "{\"op\":\"replace\",\"path\":\"/c/d\",\"value\":0},",
+                            "{\"op\":\"move\",\"from\":\"/c\",\"path\":\"/e\"},",
+                            "{\"op\":\"copy\",\"from\":\"/e\",\"path\":\"/f\"}]"
+                        )
+                    )
+                )
+            ).make(
+                new JsonObj(
+                    new StringReader(
+                        "{\"a\":[1],\"b\":true,\"c\":{\"d\":\"x\"}}"
+                    )
+                )
+            ).jsonValue().toString(),
+            Matchers.is("{\"a\":[1,2,3],\"e\":{\"d\":0},\"f\":{\"d\":0}}")
+        );
+    }
+
+    /**
+     * Should share values not touched by patch.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldShareUntouched() throws Exception {
+        final JsonObj kept = new JsonObj(new Attr<>("k", 1));
+        MatcherAssert.assertThat(
+            new FitPatch(
+                new JsonArr<>(
+                    new JsonObj(
+                        new Attr<>("op", "remove"),
+                        new Attr<>("path", "/r")
+                    )
+                )
+            ).make(
+                new JsonObj(
+                    new Attr<>("kept", kept),
+                    new Attr<>("r", 0)
+                )
+            ).<JsonObj>get("kept"),
+            Matchers.sameInstance(kept)
+        );
+    }
+
+    /**
+     * Should fail on unsuccessful test.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFailTest() throws Exception {
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new FitPatch(
+                new JsonArr<>(
+                    new JsonObj(
+                        new Attr<>("op", "test"),
+                        new Attr<>("path", "/t"),
+                        new Attr<>("value", "y")
+                    )
+                )
+            ).make(new JsonObj(new Attr<>("t", "n")))
+        );
+    }
+
+    /**
+     * Should test numbers by value.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldTestNumbersByValue() throws Exception {
+        final JsonObj doc = new JsonObj(new Attr<>("t", 1));
+        MatcherAssert.assertThat(
+            new FitPatch(
+                new JsonArr<>(
+                    new JsonObj(
+                        new Attr<>("op", "test"),
+                        new Attr<>("path", "/t"),
+                        new Attr<>("value", 1.0)
+                    )
+                )
+            ).make(doc),
+            Matchers.is(doc)
+        );
+    }
+
+    /**
+     * Should record no changes of failed patch.
+     */
+    @Test
+    void shouldNotRecordFailed() {
+        final PatchJournal patch = new PatchJournal();
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new FitPatch(
+                new JsonArr<>(
+                    new JsonObj(
+                        new Attr<>("op", "add"),
+                        new Attr<>("path", "/a"),
+                        new Attr<>("value", 1)
+                    ),
+                    new JsonObj(
+                        new Attr<>("op", "test"),
+                        new Attr<>("path", "/t"),
+                        new Attr<>("value", "y")
+                    )
+                )
+            ).make(new JsonObj(new Attr<>("t", "n")), patch)
+        );
+        MatcherAssert.assertThat(
+            patch.value().isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Should fail on missing target.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFailMissing() throws Exception {
+        final JsonException thrown = Assertions.assertThrows(
+            JsonException.class,
+            () -> new FitPatch(
+                new JsonArr<>(
+                    new JsonObj(
+                        new Attr<>("op", "replace"),
+                        new Attr<>("path", "/m/n"),
+                        new Attr<>("value", 0)
+                    )
+                )
+            ).make(new JsonObj())
+        );
+        MatcherAssert.assertThat(
+            thrown.getMessage(),
+            Matchers.is("Attribute name \"m\" not found")
+        );
+    }
+
+    /**
+     * Should apply patch recorded by other fits.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldApplyRecordedPatch() throws Exception {
+        final JsonObj obj = new JsonObj(
+            new Attr<>("x", "a"),
+            new Attr<>("y", 1)
+        );
+        final PatchJournal patch = new PatchJournal();
+        final JsonObj fitted = new FitChain<>(
+            new FitAttrRepl("x", new Attr<>("z", "a")),
+            new FitValUpd("y", 2)
+        ).make(obj, patch);
+        MatcherAssert.assertThat(
+            new FitPatch(patch.jsonValue()).make(obj),
+            Matchers.equalTo(fitted)
+        );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonObj;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for value located by pointer.
+ *
+ * @since 1.9
+ */
+final class LocatedTest {
+    /**
+     * Should locate value in nested array.
+     */
+    @Test
+    void shouldLocateNested() {
+        MatcherAssert.assertThat(
+            new Located("/a/1/b~1c").value(LocatedTest.doc(), "none"),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * Should give default when value is missing.
+     */
+    @Test
+    void shouldGiveDefault() {
+        MatcherAssert.assertThat(
+            new Located("/a/2/b").value(LocatedTest.doc(), "none"),
+            Matchers.is("none")
+        );
+    }
+
+    /**
+     * Document for tests.
+     * @return Document.
+     */
+    private static JsonObj doc() {
+        return new JsonObj(
+            new Attr<>(
+                "a",
+                new JsonArr<>(1, new JsonObj(new Attr<>("b/c", 2)))
+            )
+        );
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for journal recording JSON Patch.
+ *
+ * @since 1.9
+ */
+final class PatchJournalTest {
+    /**
+     * Should record nothing.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordNothing() throws Exception {
+        MatcherAssert.assertThat(
+            new PatchJournal().jsonValue().toString(),
+            Matchers.is("[]")
+        );
+    }
+
+    /**
+     * Should record all operations in order.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecordOperations() throws Exception {
+        final PatchJournal patch = new PatchJournal();
+        patch.add("/a", new JsonObj(new Attr<>("b", 1)));
+        patch.remove("/c");
+        patch.replace("/d", "e");
+        patch.move("/f", "/g");
+        MatcherAssert.assertThat(
+            patch.jsonValue().toString(),
+            Matchers.is(
+                String.join(
+                    "",
+                    "[{\"op\":\"add\",\"path\":\"/a\",\"value\":{\"b\":1}},",
+                    "{\"op\":\"remove\",\"path\":\"/c\"},",
+                    "{\"op\":\"replace\",\"path\":\"/d\",\"value\":\"e\"},",
+                    "{\"op\":\"move\",\"from\":\"/f\",\"path\":\"/g\"}]"
+                )
+            )
+        );
+    }
+}
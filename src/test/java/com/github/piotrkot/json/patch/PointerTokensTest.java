@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.JsonException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for JSON pointer tokens.
+ *
+ * @since 1.9
+ */
+final class PointerTokensTest {
+    /**
+     * Should unescape tokens.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldUnescapeTokens() throws Exception {
+        MatcherAssert.assertThat(
+            new PointerTokens("/a~1b/m~0n/~01/").asList(),
+            Matchers.contains("a/b", "m~n", "~1", "")
+        );
+    }
+
+    /**
+     * Should have no tokens for the whole document.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldHaveNoTokens() throws Exception {
+        MatcherAssert.assertThat(
+            new PointerTokens("").asList(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Should fail on malformed pointer.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFailMalformed() throws Exception {
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> new PointerTokens("a").asList()
+        );
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.patch;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonObj;
+import java.math.BigDecimal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for equality of JSON values.
+ *
+ * @since 1.9
+ */
+final class SameValueTest {
+    /**
+     * Should compare numbers by value.
+     */
+    @Test
+    void shouldCompareNumbersByValue() {
+        MatcherAssert.assertThat(
+            new SameValue(1, 1.0).value(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new SameValue(1L, new BigDecimal("1.00")).value(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new SameValue(1, 1.5).value(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new SameValue(1, "1").value(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Should compare nested members by value.
+     */
+    @Test
+    void shouldCompareNested() {
+        MatcherAssert.assertThat(
+            new SameValue(
+                new JsonObj(new Attr<>("a", new JsonArr<>(1, 2L))),
+                new JsonObj(new Attr<>("a", new JsonArr<>(1.0, 2)))
+            ).value(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new SameValue(
+                new JsonObj(new Attr<>("a", new JsonArr<>(1, 2))),
+                new JsonObj(new Attr<>("a", new JsonArr<>(2, 1)))
+            ).value(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            new SameValue(
+                new JsonObj(new Attr<>("a", 1)),
+                new JsonObj(new Attr<>("b", 1))
+            ).value(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Should compare infinite numbers.
+     */
+    @Test
+    void shouldCompareInfinite() {
+        MatcherAssert.assertThat(
+            new SameValue(
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY
+            ).value(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            new SameValue(Double.NaN, 1).value(),
+            Matchers.is(false)
+        );
+    }
+}
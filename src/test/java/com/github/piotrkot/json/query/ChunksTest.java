@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for chunks of objects.
+ *
+ * @since 1.9
+ */
+final class ChunksTest {
+    /**
+     * Should merge partial results in order of chunks.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMergeInOrder() throws Exception {
+        final List<JsonObj> objs = new ArrayList<>(1000);
+        for (int num = 0; num < 1000; num += 1) {
+            objs.add(new JsonObj(new Attr<>("n", num)));
+        }
+        final List<Integer> merged = new Chunks(objs::iterator, 13).reduced(
+            chunk -> {
+                final List<Integer> nums = new ArrayList<>(chunk.size());
+                for (final JsonObj obj : chunk) {
+                    nums.add(obj.get("n"));
+                }
+                return nums;
+            },
+            (first, second) -> {
+                first.addAll(second);
+                return first;
+            },
+            new ArrayList<>(0)
+        );
+        MatcherAssert.assertThat(merged.size(), Matchers.is(1000));
+        MatcherAssert.assertThat(merged.get(999), Matchers.is(999));
+    }
+
+    /**
+     * Should rethrow failure of partial result.
+     */
+    @Test
+    void shouldRethrowFailure() {
+        final List<JsonObj> objs = new ArrayList<>(10);
+        for (int num = 0; num < 10; num += 1) {
+            objs.add(new JsonObj(new Attr<>("n", num)));
+        }
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Chunks(objs, 2).<Integer>reduced(
+                chunk -> {
+                    throw new IllegalStateException("failed");
+                },
+                Integer::sum,
+                0
+            )
+        );
+    }
+
+    /**
+     * Should reject chunks of less than one object.
+     */
+    @Test
+    void shouldRejectEmptyChunks() {
+        final List<JsonObj> objs = new ArrayList<>(0);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Chunks(objs, 0)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Chunks(objs, -1)
+        );
+    }
+}
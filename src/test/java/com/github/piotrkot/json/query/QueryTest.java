@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.conditions.CondAttrEquals;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for query over objects.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class QueryTest {
+    /**
+     * Should project filtered objects keeping order of source.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSelectInOrder() throws Exception {
+        final JsonArr<JsonObj> rows = new Query(QueryTest.objs(), 7)
+            .where(new CondAttrEquals("type", "b"))
+            .select("/n", "/none");
+        MatcherAssert.assertThat(rows.size(), Matchers.is(10));
+        MatcherAssert.assertThat(
+            rows.get(9),
+            Matchers.equalTo(new JsonObj(new Attr<>("n", 91)))
+        );
+    }
+
+    /**
+     * Should aggregate groups across chunks.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldGroup() throws Exception {
+        final JsonArr<JsonObj> groups = new Query(QueryTest.objs(), 3)
+            .where(obj -> obj.<Integer>get("n") < 50)
+            .group(
+                Collections.singleton("/type"),
+                new Count("count"), new Sum("sum", "/n"),
+                new Min("min", "/n"), new Max("max", "/n"),
+                new Avg("avg", "/n")
+            );
+        MatcherAssert.assertThat(groups.size(), Matchers.is(10));
+        MatcherAssert.assertThat(
+            groups.get(2),
+            Matchers.equalTo(
+                new JsonObj(
+                    new Attr<>("type", "c"),
+                    new Attr<>("count", 5L),
+                    new Attr<>("sum", 110.0),
+                    new Attr<>("min", 2.0),
+                    new Attr<>("max", 42.0),
+                    new Attr<>("avg", 22.0)
+                )
+            )
+        );
+    }
+
+    /**
+     * Should rank objects by value from the highest.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFindTop() throws Exception {
+        final List<JsonObj> shuffled = new ArrayList<>(QueryTest.objs());
+        Collections.shuffle(shuffled);
+        final JsonArr<JsonObj> top = new Query(shuffled, 9)
+            .where(new CondAttrEquals("type", "a"))
+            .top(3, "/n");
+        final List<Integer> values = new ArrayList<>(3);
+        for (final JsonObj obj : top) {
+            values.add(obj.get("n"));
+        }
+        MatcherAssert.assertThat(values, Matchers.equalTo(Arrays.asList(90, 80, 70)));
+    }
+
+    /**
+     * Objects for tests.
+     * @return Objects.
+     */
+    private static List<JsonObj> objs() {
+        final List<JsonObj> objs = new ArrayList<>(100);
+        for (int num = 0; num < 100; num += 1) {
+            objs.add(
+                new JsonObj(
+                    new Attr<>("type", String.valueOf((char) ('a' + num % 10))),
+                    new Attr<>("n", num)
+                )
+            );
+        }
+        return objs;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.query;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for statistics of values.
+ *
+ * @since 1.9
+ */
+final class StatsTest {
+    /**
+     * Should merge statistics skipping values that are not numbers.
+     */
+    @Test
+    void shouldMergeNumericValues() {
+        final Accumulator first = new Avg("avg", "/v").start();
+        first.add(new JsonObj(new Attr<>("v", 1)));
+        first.add(new JsonObj(new Attr<>("v", "text")));
+        final Accumulator second = new Avg("avg", "/v").start();
+        second.add(new JsonObj(new Attr<>("v", 5)));
+        first.merge(second);
+        MatcherAssert.assertThat(first.result(), Matchers.is(3.0));
+    }
+
+    /**
+     * Should give no value without numbers.
+     */
+    @Test
+    void shouldGiveNoValueWithoutNumbers() {
+        final Accumulator acc = new Max("max", "/v").start();
+        acc.add(new JsonObj(new Attr<>("w", 1)));
+        MatcherAssert.assertThat(acc.result(), Matchers.nullValue());
+    }
+}
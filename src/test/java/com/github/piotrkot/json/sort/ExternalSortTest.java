@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for external merge sort.
+ *
+ * @since 1.9
+ */
+final class ExternalSortTest {
+    /**
+     * Should sort in memory when objects fit in budget.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSortInMemory(@TempDir final Path dir) throws Exception {
+        final List<Integer> sorted = ExternalSortTest.sorted(
+            new ExternalSort(dir, 1L << 24, new PathOrder("/g", "/n")), 500
+        );
+        MatcherAssert.assertThat(sorted.size(), Matchers.is(500));
+        MatcherAssert.assertThat(sorted.get(0), Matchers.is(0));
+        MatcherAssert.assertThat(sorted.get(499), Matchers.is(499));
+        MatcherAssert.assertThat(ExternalSortTest.files(dir), Matchers.is(0L));
+    }
+
+    /**
+     * Should spill runs and merge them in a few passes.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldMergeSpilledRuns(@TempDir final Path dir) throws Exception {
+        final List<Integer> sorted = ExternalSortTest.sorted(
+            new ExternalSort(dir, 4096L, new PathOrder("/g", "/n")), 3000
+        );
+        final List<Integer> expected = new ArrayList<>(3000);
+        for (int num = 0; num < 3000; num += 1) {
+            expected.add(num);
+        }
+        MatcherAssert.assertThat(sorted, Matchers.equalTo(expected));
+        MatcherAssert.assertThat(ExternalSortTest.files(dir), Matchers.is(0L));
+    }
+
+    /**
+     * Values of sorted objects.
+     * @param sort External sort.
+     * @param count Number of objects.
+     * @return Values in order.
+     * @throws Exception When fails.
+     */
+    private static List<Integer> sorted(final ExternalSort sort,
+        final int count) throws Exception {
+        final List<JsonObj> objs = new ArrayList<>(count);
+        for (int num = 0; num < count; num += 1) {
+            objs.add(
+                new JsonObj(
+                    new Attr<>("g", String.format("g%04d", num / 100)),
+                    new Attr<>("n", num)
+                )
+            );
+        }
+        Collections.shuffle(objs);
+        final List<Integer> values = new ArrayList<>(count);
+        try (SortedObjs sorted = sort.sorted(objs)) {
+            while (sorted.hasNext()) {
+                values.add(sorted.next().get("n"));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Number of files in directory.
+     * @param dir Directory.
+     * @return Number of files.
+     * @throws Exception When fails.
+     */
+    private static long files(final Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
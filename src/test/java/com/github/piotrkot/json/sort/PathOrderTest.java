@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.sort;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.InterningNone;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.ParsedBytes;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for order of objects by values at paths.
+ *
+ * @since 1.9
+ */
+final class PathOrderTest {
+    /**
+     * Should order values of different kinds.
+     */
+    @Test
+    void shouldOrderKinds() {
+        final List<JsonObj> objs = new ArrayList<>(
+            Arrays.asList(
+                new JsonObj(new Attr<>("v", "b")),
+                new JsonObj(new Attr<>("v", 2.5)),
+                new JsonObj(new Attr<>("v", true)),
+                new JsonObj(new Attr<>("v", "a")),
+                new JsonObj(new Attr<>("w", 1)),
+                new JsonObj(new Attr<>("v", 2L))
+            )
+        );
+        objs.sort(new PathOrder("/v"));
+        final List<Object> values = new ArrayList<>(objs.size());
+        for (final JsonObj obj : objs) {
+            values.add(obj.get("v", null));
+        }
+        MatcherAssert.assertThat(
+            values,
+            Matchers.equalTo(Arrays.asList(null, true, 2L, 2.5, "a", "b"))
+        );
+    }
+
+    /**
+     * Should keep order of key written and read back.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldReadWrittenKey() throws Exception {
+        final PathOrder order = new PathOrder("/a", "/b", "/c", "/d");
+        final Key key = order.key(
+            new JsonObj(
+                new Attr<>("a", "żółw"), new Attr<>("b", 7),
+                new Attr<>("c", 1.5), new Attr<>("d", new BigDecimal("1e30"))
+            )
+        );
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        key.write(new DataOutputStream(bytes));
+        final Key read = Key.read(
+            new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())),
+            4
+        );
+        MatcherAssert.assertThat(read.compared(key), Matchers.is(0));
+        MatcherAssert.assertThat(
+            read.compared(
+                order.key(
+                    new JsonObj(new Attr<>("a", "żółw"), new Attr<>("b", 8))
+                )
+            ),
+            Matchers.lessThan(0)
+        );
+    }
+
+    /**
+     * Should order string values left as slices of parsed text among
+     * strings.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldOrderSlicesAsStrings() throws Exception {
+        final List<JsonObj> objs = new ArrayList<>(
+            Arrays.asList(
+                new JsonObj(new Attr<>("v", "c")),
+                new ParsedBytes(
+                    "{\"v\":\"b\"}".getBytes(StandardCharsets.UTF_8),
+                    0, new InterningNone()
+                ).obj(),
+                new JsonObj(new Attr<>("v", "a")),
+                new JsonObj(new Attr<>("v", new JsonObj()))
+            )
+        );
+        objs.sort(new PathOrder("/v"));
+        MatcherAssert.assertThat(
+            objs.get(1).get("v", null), Matchers.is("b")
+        );
+    }
+
+    /**
+     * Should order large integral ids and big numbers exactly.
+     */
+    @Test
+    void shouldOrderLargeNumbersExactly() {
+        final List<JsonObj> objs = new ArrayList<>(
+            Arrays.asList(
+                new JsonObj(new Attr<>("v", Long.MAX_VALUE)),
+                new JsonObj(new Attr<>("v", new BigDecimal("1e30"))),
+                new JsonObj(new Attr<>("v", Long.MAX_VALUE - 1L)),
+                new JsonObj(new Attr<>("v", 9.2e18)),
+                new JsonObj(new Attr<>("v", Long.MAX_VALUE - 2L)),
+                new JsonObj(
+                    new Attr<>(
+                        "v",
+                        BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE)
+                    )
+                )
+            )
+        );
+        objs.sort(new PathOrder("/v"));
+        final List<Object> values = new ArrayList<>(objs.size());
+        for (final JsonObj obj : objs) {
+            values.add(obj.get("v", null).toString());
+        }
+        MatcherAssert.assertThat(
+            values,
+            Matchers.equalTo(
+                Arrays.asList(
+                    "9.2E18",
+                    "9223372036854775805",
+                    "9223372036854775806",
+                    "9223372036854775807",
+                    "9223372036854775808",
+                    "1E+30"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            new PathOrder("/v").compare(
+                new JsonObj(new Attr<>("v", 2L)),
+                new JsonObj(new Attr<>("v", 2.0))
+            ),
+            Matchers.is(0)
+        );
+    }
+}
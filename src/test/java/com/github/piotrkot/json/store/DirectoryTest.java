@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for directory made durable.
+ *
+ * @since 1.9
+ */
+final class DirectoryTest {
+    /**
+     * Should force entries of directory.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSync(@TempDir final Path dir) throws Exception {
+        Files.write(dir.resolve("a.json"), new byte[0]);
+        new Directory(dir).sync();
+        MatcherAssert.assertThat(
+            Files.exists(dir.resolve("a.json")),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Should fail for missing directory.
+     * @param dir Temporary directory.
+     */
+    @Test
+    void shouldFailForMissing(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Directory(dir.resolve("missing")).sync()
+        );
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import com.github.piotrkot.json.changes.FitAttrAdd;
+import com.github.piotrkot.json.changes.FitAttrDel;
+import com.github.piotrkot.json.changes.FitValUpd;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for JSON object persisted as log of changes.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class LoggedObjTest {
+    /**
+     * Should recover object from log.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecoverFromLog(@TempDir final Path dir) throws Exception {
+        try (LoggedObj obj = new LoggedObj(dir, new JsonObj())) {
+            obj.apply(new FitAttrAdd(new Attr<>("a", 1)));
+            obj.apply(new FitAttrAdd(new Attr<>("b", "x")));
+            obj.apply(new FitAttrDel("a"));
+        }
+        try (LoggedObj obj = new LoggedObj(dir, new JsonObj())) {
+            MatcherAssert.assertThat(
+                obj.get().jsonValue().toString(),
+                Matchers.is("{\"b\":\"x\"}")
+            );
+        }
+    }
+
+    /**
+     * Should recover object from snapshot and dropped log.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecoverFromSnapshot(@TempDir final Path dir) throws Exception {
+        try (LoggedObj obj = new LoggedObj(dir, LoggedObjTest.zero(), 64L, 3L)) {
+            for (int num = 1; num <= 7; num += 1) {
+                obj.apply(new FitValUpd("n", num));
+            }
+        }
+        try (LoggedObj obj = new LoggedObj(dir, LoggedObjTest.zero(), 64L, 3L)) {
+            MatcherAssert.assertThat(
+                obj.get().jsonValue().toString(),
+                Matchers.is("{\"n\":7}")
+            );
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(files.count(), Matchers.is(2L));
+        }
+    }
+
+    /**
+     * Should not log fits not changing object.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldSkipNoChange(@TempDir final Path dir) throws Exception {
+        try (LoggedObj obj = new LoggedObj(dir, LoggedObjTest.zero())) {
+            obj.apply(new FitAttrDel("missing"));
+            obj.apply(input -> input);
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(files.count(), Matchers.is(0L));
+        }
+    }
+
+    /**
+     * Should not skip sequence number of change which failed to append.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldKeepSequenceOnFailure(@TempDir final Path dir)
+        throws Exception {
+        final Path first = dir.resolve("log-00000000000000000001.jsonl");
+        try (LoggedObj obj = new LoggedObj(dir, LoggedObjTest.zero())) {
+            obj.get();
+            Files.createDirectory(first);
+            Assertions.assertThrows(
+                IOException.class, () -> obj.apply(new FitValUpd("n", 1))
+            );
+            Files.delete(first);
+            obj.apply(new FitValUpd("n", 2));
+        }
+        MatcherAssert.assertThat(
+            Files.isRegularFile(first),
+            Matchers.is(true)
+        );
+        try (LoggedObj obj = new LoggedObj(dir, LoggedObjTest.zero())) {
+            MatcherAssert.assertThat(
+                obj.get().jsonValue().toString(),
+                Matchers.is("{\"n\":2}")
+            );
+        }
+    }
+
+    /**
+     * Should reject sizes and intervals less than one.
+     * @param dir Temporary directory.
+     */
+    @Test
+    void shouldRejectZeroIntervals(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new LoggedObj(dir, LoggedObjTest.zero(), 64L, 0L)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new LoggedObj(dir, LoggedObjTest.zero(), 0L, 3L)
+        );
+    }
+
+    /**
+     * Object with zero counter.
+     * @return Object.
+     */
+    private static JsonObj zero() {
+        return new JsonObj(new Attr<>("n", 0));
+    }
+}
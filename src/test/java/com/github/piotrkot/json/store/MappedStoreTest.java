@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for store of JSON objects in memory-mapped segments.
+ *
+ * @since 1.9
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+final class MappedStoreTest {
+    /**
+     * Should get stored object.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldGetStored(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 4096)) {
+            store.put("a", new JsonObj(new Attr<>("n", 1)));
+            store.put("b", new JsonObj(new Attr<>("n", 2)));
+            store.put("a", new JsonObj(new Attr<>("n", 3)));
+            MatcherAssert.assertThat(
+                store.get("a").jsonValue().toString(),
+                Matchers.is("{\"n\":3}")
+            );
+        }
+    }
+
+    /**
+     * Should not get removed object.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRemove(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 4096)) {
+            store.put("a", new JsonObj());
+            store.remove("a");
+            Assertions.assertThrows(JsonException.class, () -> store.get("a"));
+        }
+    }
+
+    /**
+     * Should recover objects after reopening.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRecover(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 64)) {
+            for (int num = 0; num < 100; num += 1) {
+                store.put(
+                    String.format("k%d", num % 10),
+                    new JsonObj(new Attr<>("n", num))
+                );
+            }
+            store.remove("k3");
+        }
+        try (MappedStore store = new MappedStore(dir, 64)) {
+            MatcherAssert.assertThat(
+                store.get("k7").jsonValue().toString(),
+                Matchers.is("{\"n\":97}")
+            );
+            MatcherAssert.assertThat(store.contains("k3"), Matchers.is(false));
+        }
+    }
+
+    /**
+     * Should reject empty key and keep later records on recovery.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRejectEmptyKey(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 4096)) {
+            store.put("a", new JsonObj(new Attr<>("n", 1)));
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> store.put("", new JsonObj(new Attr<>("n", 2)))
+            );
+            Assertions.assertThrows(
+                IllegalArgumentException.class, () -> store.remove("")
+            );
+            store.put("b", new JsonObj(new Attr<>("n", 3)));
+        }
+        try (MappedStore store = new MappedStore(dir, 4096)) {
+            MatcherAssert.assertThat(store.contains("a"), Matchers.is(true));
+            MatcherAssert.assertThat(
+                store.get("b").jsonValue().toString(),
+                Matchers.is("{\"n\":3}")
+            );
+        }
+    }
+
+    /**
+     * Should drop segments of overwritten objects on compaction.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldCompact(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 64)) {
+            for (int num = 0; num < 200; num += 1) {
+                store.put("k", new JsonObj(new Attr<>("n", num)));
+            }
+            store.compact();
+            MatcherAssert.assertThat(
+                store.get("k").jsonValue().toString(),
+                Matchers.is("{\"n\":199}")
+            );
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(files.count(), Matchers.lessThan(3L));
+        }
+    }
+
+    /**
+     * Should delete marked segment left after drop on recovery.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldDeleteMarkedSegment(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 64)) {
+            store.put(
+                "a", new JsonObj(new Attr<>("t", "abcdefghijklmnopqrstuvwxyz"))
+            );
+            store.put("b", new JsonObj(new Attr<>("t", "vwxyz")));
+        }
+        Files.write(dir.resolve("seg-00000000.del"), new byte[0]);
+        try (MappedStore store = new MappedStore(dir, 64)) {
+            MatcherAssert.assertThat(store.contains("a"), Matchers.is(false));
+            MatcherAssert.assertThat(
+                store.get("b").jsonValue().toString(),
+                Matchers.is("{\"t\":\"vwxyz\"}")
+            );
+        }
+        MatcherAssert.assertThat(
+            Files.exists(dir.resolve("seg-00000000.dat")),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Should view attribute of stored object.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldView(@TempDir final Path dir) throws Exception {
+        try (MappedStore store = new MappedStore(dir, 4096)) {
+            store.put(
+                "a",
+                new JsonObj(
+                    new Attr<>("x", new JsonObj(new Attr<>("y", 1))),
+                    new Attr<>("n", "v")
+                )
+            );
+            MatcherAssert.assertThat(
+                store.view("a").<String>get("n"),
+                Matchers.is("v")
+            );
+        }
+    }
+}
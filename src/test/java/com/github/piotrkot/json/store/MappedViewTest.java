@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonArr;
+import com.github.piotrkot.json.JsonException;
+import com.github.piotrkot.json.JsonObj;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for view of JSON object stored as text.
+ *
+ * @since 1.9
+ */
+final class MappedViewTest {
+    /**
+     * Should find attribute after nested values.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldFindAttribute() throws Exception {
+        MatcherAssert.assertThat(
+            MappedViewTest.view().get("c"),
+            Matchers.equalTo(new JsonObj(new Attr<>("d", true)))
+        );
+    }
+
+    /**
+     * Should not find missing attribute.
+     */
+    @Test
+    void shouldNotFindMissing() {
+        Assertions.assertThrows(
+            JsonException.class,
+            () -> MappedViewTest.view().get("d")
+        );
+    }
+
+    /**
+     * Should parse whole object.
+     */
+    @Test
+    void shouldParseObject() {
+        MatcherAssert.assertThat(
+            MappedViewTest.view().value().contains("b"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * View for tests.
+     * @return View.
+     */
+    private static MappedView view() {
+        return new MappedView(
+            new JsonObj(
+                new Attr<>("a", new JsonObj(new Attr<>("c", 1))),
+                new Attr<>("b", new JsonArr<>(1, new JsonArr<>())),
+                new Attr<>("c", new JsonObj(new Attr<>("d", true)))
+            ).jsonValue().toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import com.github.piotrkot.json.Attr;
+import com.github.piotrkot.json.JsonObj;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for log split into segments.
+ *
+ * @since 1.9
+ */
+final class SegmentsTest {
+    /**
+     * Should start next segment after limit.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldRollSegments(@TempDir final Path dir) throws Exception {
+        try (Segments log = new Segments(dir, 5L)) {
+            log.recover();
+            for (long seq = 1L; seq <= 3L; seq += 1L) {
+                log.sync(log.append(seq, new JsonObj(new Attr<>("s", seq))));
+            }
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(files.count(), Matchers.is(3L));
+        }
+    }
+
+    /**
+     * Should truncate torn record and drop later segments.
+     * @param dir Temporary directory.
+     * @throws Exception When fails.
+     */
+    @Test
+    void shouldTruncateTornRecord(@TempDir final Path dir) throws Exception {
+        try (Segments log = new Segments(dir, 1024L)) {
+            log.recover();
+            log.append(1L, new JsonObj(new Attr<>("s", 1)));
+        }
+        Files.write(
+            dir.resolve("log-00000000000000000001.jsonl"),
+            "{\"s\":".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        Files.write(
+            dir.resolve("log-00000000000000000002.jsonl"),
+            "{\"s\":2}\n".getBytes(StandardCharsets.UTF_8)
+        );
+        try (Segments log = new Segments(dir, 1024L)) {
+            MatcherAssert.assertThat(
+                log.recover().toString(),
+                Matchers.is("[{s=1}]")
+            );
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2018-2021 piotrkot
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.piotrkot.json.store;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for open-addressing index.
+ *
+ * @since 1.9
+ */
+final class SlotIndexTest {
+    /**
+     * Should find offsets after growing with colliding hashes.
+     */
+    @Test
+    void shouldFindAfterGrowing() {
+        final SlotIndex index = new SlotIndex(2);
+        for (long key = 0L; key < 100L; key += 1L) {
+            final long offset = key * 10L;
+            index.put(key % 7L + 1L, offset, off -> off == offset);
+        }
+        MatcherAssert.assertThat(
+            index.find(43L % 7L + 1L, off -> off == 430L),
+            Matchers.is(430L)
+        );
+    }
+
+    /**
+     * Should not find removed offset.
+     */
+    @Test
+    void shouldRemove() {
+        final SlotIndex index = new SlotIndex();
+        index.put(5L, 1L, off -> off == 1L);
+        index.put(5L, 2L, off -> off == 2L);
+        index.remove(5L, off -> off == 1L);
+        MatcherAssert.assertThat(
+            index.find(5L, off -> off == 1L) + index.find(5L, off -> off == 2L),
+            Matchers.is(1L)
+        );
+    }
+}